@@ -0,0 +1,75 @@
+package com.yourusername.frostgui;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import com.yourusername.frostgui.scheduler.BukkitFrostScheduler;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tab list header/footer updates at high player counts
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabListBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int players;
+
+    private BenchmarkPlugin plugin;
+
+    @Setup
+    public void setup() throws IOException, ReflectiveOperationException {
+        plugin = BenchmarkPlugin.create();
+        plugin.saveDefaultConfig();
+
+        // onEnable needs a full server, so only the config and scheduler it would have set up are set
+        Field config = FrostGUI.class.getDeclaredField("config");
+        config.setAccessible(true);
+        config.set(plugin, plugin.getConfig());
+        Field taskScheduler = FrostGUI.class.getDeclaredField("taskScheduler");
+        taskScheduler.setAccessible(true);
+        taskScheduler.set(plugin, new BukkitFrostScheduler(plugin));
+
+        World world = BukkitStubs.world("world");
+        List<Player> online = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            online.add(BukkitStubs.player("Player" + i, world, i, 64, 0));
+        }
+        BukkitStubs.setOnlinePlayers(online);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BukkitStubs.setOnlinePlayers(Collections.emptyList());
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public void updateTabListForAllPlayers() {
+        ((FrostGUI) plugin).updateTabListForAllPlayers();
+    }
+}
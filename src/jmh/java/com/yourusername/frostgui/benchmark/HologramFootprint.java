@@ -0,0 +1,111 @@
+package com.yourusername.frostgui.benchmark;
+
+import com.yourusername.frostgui.hologram.Hologram;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the heap retained per hologram by creating a large number of them and
+ * comparing the used heap after a full GC before and after.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec@heap-footprint}. Options are
+ * passed as key=value pairs through {@code -Dfootprint.args="holograms=100000"}:
+ * <ul>
+ *     <li>holograms - holograms created (100000)</li>
+ *     <li>lines - lines per hologram; all but the last are shared by every hologram, like
+ *         a common header, but parsed into separate strings like holograms.yml would be (3)</li>
+ *     <li>shown - also spawn the line entities of every hologram (false)</li>
+ *     <li>max-bytes-per-hologram - fail with exit code 1 if a hologram retains more</li>
+ * </ul>
+ * Run with a fixed heap ({@code -Xms2g -Xmx2g}) so the numbers are not skewed by resizing.
+ */
+public final class HologramFootprint {
+
+    private HologramFootprint() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split <= 0) {
+                System.err.println("Ignoring option without a value: " + arg);
+                continue;
+            }
+            options.put(arg.substring(0, split).toLowerCase(Locale.ROOT), arg.substring(split + 1));
+        }
+        int hologramCount = Integer.parseInt(options.getOrDefault("holograms", "100000"));
+        int lineCount = Integer.parseInt(options.getOrDefault("lines", "3"));
+        boolean shown = Boolean.parseBoolean(options.getOrDefault("shown", "false"));
+
+        BenchmarkPlugin plugin = BenchmarkPlugin.create();
+        try {
+            World world = BukkitStubs.world("world");
+            double gridSize = Math.ceil(Math.sqrt(hologramCount)) * 4.0;
+            // Touch the config before measuring, holograms read it when shown
+            plugin.getConfig();
+
+            long before = usedHeap();
+            List<Hologram> holograms = new ArrayList<>(hologramCount);
+            for (int i = 0; i < hologramCount; i++) {
+                List<String> lines = new ArrayList<>(lineCount);
+                for (int line = 0; line < lineCount - 1; line++) {
+                    // A new string per hologram, like every occurrence parsed from YAML
+                    lines.add(new String("&6&lMarket &7- &fStall row " + line));
+                }
+                lines.add("&7Stall #" + i);
+                double x = (i * 4.0) % gridSize;
+                double z = Math.floor(i * 4.0 / gridSize) * 4.0;
+                Hologram hologram = new Hologram(plugin, "footprint_" + i, new Location(world, x, 64, z), lines);
+                if (shown) {
+                    hologram.show();
+                }
+                holograms.add(hologram);
+            }
+            long after = usedHeap();
+            Reference.reachabilityFence(holograms);
+
+            // Includes the 4 byte slot of each hologram in the list
+            double perHologram = (after - before) / (double) hologramCount;
+            System.out.printf(Locale.ROOT, "Holograms:          %d (%d line(s)%s)%n", hologramCount, lineCount,
+                    shown ? ", shown" : "");
+            System.out.printf(Locale.ROOT, "Retained heap:      %.1f MiB%n", (after - before) / (1024.0 * 1024.0));
+            System.out.printf(Locale.ROOT, "Bytes per hologram: %.0f%n", perHologram);
+
+            String maxBytes = options.get("max-bytes-per-hologram");
+            if (maxBytes != null && perHologram > Double.parseDouble(maxBytes)) {
+                System.err.printf(Locale.ROOT, "%.0f bytes per hologram is above the limit of %s%n", perHologram, maxBytes);
+                System.exit(1);
+            }
+        } finally {
+            plugin.deleteDataFolder();
+        }
+    }
+
+    /**
+     * Used heap after collecting garbage until it stops shrinking
+     */
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,357 @@
+package com.yourusername.frostgui.benchmark;
+
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.scheduler.VerifyingFrostScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Boots FrostGUI against the stubbed server and simulates players joining, walking
+ * around and running /hologram commands, measuring what the plugin costs the main
+ * thread per tick.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec@load-test}. Options are passed
+ * as key=value pairs through {@code -Dloadtest.args="players=2000 ticks=2400"}:
+ * <ul>
+ *     <li>holograms - holograms in holograms.yml at startup (2000)</li>
+ *     <li>players - players joining over the run (1000)</li>
+ *     <li>joins-per-tick - players joining per tick until all are online (20)</li>
+ *     <li>move-chance - chance that a player moves in a tick (0.5)</li>
+ *     <li>commands-per-tick - /hologram commands run per tick (1)</li>
+ *     <li>warmup - ticks run before measuring (200)</li>
+ *     <li>ticks - measured ticks (1200)</li>
+ *     <li>seed - random seed (42)</li>
+ *     <li>max-p99-ms - fail with exit code 1 if the p99 tick is slower</li>
+ *     <li>verify-scheduler - run in debug mode and fail with exit code 1 if any work ran on
+ *         an executor that would not own it on a region-threaded server (false)</li>
+ *     <li>json - also write the results to this file</li>
+ * </ul>
+ */
+public final class LoadTest {
+    private static final double TICK_BUDGET_MILLIS = 50.0;
+    private static final String WORLD = "world";
+
+    private final int hologramCount;
+    private final int playerCount;
+    private final int joinsPerTick;
+    private final double moveChance;
+    private final int commandsPerTick;
+    private final int warmupTicks;
+    private final int measuredTicks;
+    private final boolean verifyScheduler;
+    private final Random random;
+
+    private final List<Player> players = new ArrayList<>();
+    private final List<String> createdIds = new ArrayList<>();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private BenchmarkPlugin plugin;
+    private World world;
+    private double gridSize;
+    private int nextCreatedId;
+    private long commandsRun;
+    private long movesRun;
+
+    private LoadTest(Map<String, String> options) {
+        this.hologramCount = Integer.parseInt(options.getOrDefault("holograms", "2000"));
+        this.playerCount = Integer.parseInt(options.getOrDefault("players", "1000"));
+        this.joinsPerTick = Integer.parseInt(options.getOrDefault("joins-per-tick", "20"));
+        this.moveChance = Double.parseDouble(options.getOrDefault("move-chance", "0.5"));
+        this.commandsPerTick = Integer.parseInt(options.getOrDefault("commands-per-tick", "1"));
+        this.warmupTicks = Integer.parseInt(options.getOrDefault("warmup", "200"));
+        this.measuredTicks = Integer.parseInt(options.getOrDefault("ticks", "1200"));
+        this.verifyScheduler = Boolean.parseBoolean(options.getOrDefault("verify-scheduler", "false"));
+        this.random = new Random(Long.parseLong(options.getOrDefault("seed", "42")));
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split <= 0) {
+                System.err.println("Ignoring option without a value: " + arg);
+                continue;
+            }
+            options.put(arg.substring(0, split).toLowerCase(Locale.ROOT), arg.substring(split + 1));
+        }
+
+        Result result = new LoadTest(options).run();
+        System.out.print(result.format());
+
+        if (options.containsKey("json")) {
+            File file = new File(options.get("json"));
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            Files.write(file.toPath(), result.toJson().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Results written to " + file.getAbsolutePath());
+        }
+
+        String maxP99 = options.get("max-p99-ms");
+        if (maxP99 != null && result.percentile(0.99) > Double.parseDouble(maxP99)) {
+            System.err.printf(Locale.ROOT, "p99 tick time %.3f ms is above the limit of %s ms%n", result.percentile(0.99), maxP99);
+            System.exit(1);
+        }
+        if (result.schedulerViolations > 0) {
+            System.err.println(result.schedulerViolations + " scheduler violations, see the log for the call sites");
+            System.exit(1);
+        }
+    }
+
+    private Result run() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        try {
+            plugin.writeHolograms(hologramCount, WORLD);
+            if (verifyScheduler) {
+                plugin.saveDefaultConfig();
+                plugin.getConfig().set("settings.debug-mode", true);
+            }
+            world = BukkitStubs.world(WORLD);
+            gridSize = Math.ceil(Math.sqrt(hologramCount)) * 4.0;
+            TickScheduler scheduler = BukkitStubs.scheduler();
+            Result result = new Result(measuredTicks);
+
+            // onEnable loads holograms.yml and spawns every hologram
+            long start = System.nanoTime();
+            plugin.enable();
+            result.startupMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+            File hologramsFile = new File(plugin.getDataFolder(), "holograms.yml");
+            LatencyHistogram saves = plugin.getMetrics().histogram("frostgui_holograms_save_seconds", 
+                    "Time spent writing holograms.yml");
+            long savesBefore = saves.getTotalCount();
+
+            for (int tick = 0; tick < warmupTicks + measuredTicks; tick++) {
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                long tickStart = System.nanoTime();
+
+                joinPlayers();
+                movePlayers();
+                runCommands(tick);
+                scheduler.tick();
+
+                long tickNanos = System.nanoTime() - tickStart;
+                long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+                // Every save rewrites the whole file
+                long savesNow = saves.getTotalCount();
+                if (savesNow != savesBefore) {
+                    result.bytesWritten += (savesNow - savesBefore) * hologramsFile.length();
+                    result.saves += savesNow - savesBefore;
+                    savesBefore = savesNow;
+                }
+
+                result.peakEntities = Math.max(result.peakEntities, BukkitStubs.getLiveEntityCount());
+                if (tick >= warmupTicks) {
+                    result.record(tick - warmupTicks, tickNanos, allocated);
+                }
+            }
+
+            result.saveMillis = saves.getTotalMillis();
+            result.entities = BukkitStubs.getLiveEntityCount();
+            result.holograms = plugin.getHologramManager().getAllHolograms().size();
+            result.players = players.size();
+            result.commands = commandsRun;
+            result.moves = movesRun;
+            if (plugin.getTaskScheduler() instanceof VerifyingFrostScheduler) {
+                result.schedulerViolations = ((VerifyingFrostScheduler) plugin.getTaskScheduler()).getViolationCount();
+            }
+
+            // onDisable removes every hologram and writes holograms.yml once more
+            start = System.nanoTime();
+            plugin.disable();
+            result.shutdownMillis = (System.nanoTime() - start) / 1_000_000.0;
+            scheduler.awaitAsync(10_000);
+            result.fileBytes = hologramsFile.length();
+            result.histograms = plugin.getMetrics().getMetrics(LatencyHistogram.class);
+            return result;
+        } finally {
+            plugin.deleteDataFolder();
+        }
+    }
+
+    private void joinPlayers() {
+        for (int i = 0; i < joinsPerTick && players.size() < playerCount; i++) {
+            Player player = BukkitStubs.player("Player" + players.size(), world, 
+                    random.nextDouble() * gridSize, 70, random.nextDouble() * gridSize);
+            players.add(player);
+            BukkitStubs.addOnlinePlayer(player);
+            BukkitStubs.events().call(new PlayerJoinEvent(player, player.getName() + " joined the game"));
+        }
+    }
+
+    private void movePlayers() {
+        for (Player player : players) {
+            if (random.nextDouble() >= moveChance) {
+                continue;
+            }
+            Location from = player.getLocation();
+            Location to = from.clone().add(random.nextDouble() * 0.6 - 0.3, 0, random.nextDouble() * 0.6 - 0.3);
+            PlayerMoveEvent event = new PlayerMoveEvent(player, from, to);
+            BukkitStubs.events().call(event);
+            if (!event.isCancelled()) {
+                player.teleport(to);
+            }
+            movesRun++;
+        }
+    }
+
+    private void runCommands(int tick) {
+        if (players.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < commandsPerTick; i++) {
+            Player player = players.get(random.nextInt(players.size()));
+            player.performCommand(nextCommand(tick));
+            commandsRun++;
+        }
+    }
+
+    /**
+     * Picks a command, weighted towards the edits server staff make most often
+     */
+    private String nextCommand(int tick) {
+        int roll = random.nextInt(100);
+        if (roll < 15 || createdIds.isEmpty()) {
+            String id = "load-" + nextCreatedId++;
+            createdIds.add(id);
+            return "hologram create " + id + " &bLoad test hologram &f" + id;
+        }
+
+        String created = createdIds.get(random.nextInt(createdIds.size()));
+        String existing = hologramCount > 0 && random.nextBoolean() ? "holo-" + random.nextInt(hologramCount) : created;
+        if (roll < 35) {
+            return "hologram edit " + existing + " 1 &eEdited on tick &f" + tick;
+        }
+        if (roll < 50) {
+            return "hologram addline " + created + " &7Extra line " + tick;
+        }
+        if (roll < 60) {
+            return "hologram move " + created;
+        }
+        if (roll < 80) {
+            return "hologram info " + existing;
+        }
+        if (roll < 90) {
+            return "hologram list";
+        }
+        createdIds.remove(created);
+        return "hologram remove " + created;
+    }
+
+    /**
+     * Measurements of one run
+     */
+    private final class Result {
+        private final double[] tickMillis;
+        private final long[] tickAllocated;
+        private double startupMillis;
+        private double shutdownMillis;
+        private double saveMillis;
+        private long saves;
+        private long bytesWritten;
+        private long fileBytes;
+        private int entities;
+        private int peakEntities;
+        private int holograms;
+        private int players;
+        private long commands;
+        private long moves;
+        private long schedulerViolations = -1;
+        private List<LatencyHistogram> histograms = List.of();
+        private double[] sorted;
+
+        private Result(int ticks) {
+            this.tickMillis = new double[ticks];
+            this.tickAllocated = new long[ticks];
+        }
+
+        private void record(int tick, long nanos, long allocated) {
+            tickMillis[tick] = nanos / 1_000_000.0;
+            tickAllocated[tick] = allocated;
+            sorted = null;
+        }
+
+        private double percentile(double percentile) {
+            if (tickMillis.length == 0) {
+                return 0;
+            }
+            if (sorted == null) {
+                sorted = tickMillis.clone();
+                Arrays.sort(sorted);
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private double meanMillis() {
+            return Arrays.stream(tickMillis).average().orElse(0);
+        }
+
+        private long overBudget() {
+            return Arrays.stream(tickMillis).filter(millis -> millis > TICK_BUDGET_MILLIS).count();
+        }
+
+        private double allocatedPerTick() {
+            return Arrays.stream(tickAllocated).average().orElse(0);
+        }
+
+        private String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format(Locale.ROOT, "FrostGUI load test: %d holograms, %d players, %d ticks (+%d warmup), %d moves, %d commands%n",
+                    hologramCount, players, tickMillis.length, warmupTicks, moves, commands));
+            out.append(String.format(Locale.ROOT, "Startup (onEnable):  %.1f ms%n", startupMillis));
+            out.append(String.format(Locale.ROOT, "Shutdown (onDisable): %.1f ms%n", shutdownMillis));
+            out.append(String.format(Locale.ROOT, "Main thread per tick: mean %.3f ms, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms, %d ticks over %.0f ms%n",
+                    meanMillis(), percentile(0.5), percentile(0.95), percentile(0.99), percentile(1.0), overBudget(), TICK_BUDGET_MILLIS));
+            out.append(String.format(Locale.ROOT, "Allocation: %.1f KB per tick, %.1f MB/s at 20 TPS%n",
+                    allocatedPerTick() / 1024, allocatedPerTick() * 20 / (1024 * 1024)));
+            out.append(String.format(Locale.ROOT, "Entities: %d live at the end, %d peak, %d holograms%n", entities, peakEntities, holograms));
+            out.append(String.format(Locale.ROOT, "Disk: %d saves of holograms.yml taking %.1f ms, ~%.1f MB written, final size %.1f KB%n",
+                    saves, saveMillis, bytesWritten / (1024.0 * 1024), fileBytes / 1024.0));
+            if (schedulerViolations >= 0) {
+                out.append(String.format(Locale.ROOT, "Scheduler: %d violations%n", schedulerViolations));
+            }
+            for (LatencyHistogram histogram : histograms) {
+                if (histogram.getTotalCount() > 0) {
+                    out.append(String.format(Locale.ROOT, "  %-45s %8d calls %10.1f ms total%n",
+                            histogram.getName(), histogram.getTotalCount(), histogram.getTotalMillis()));
+                }
+            }
+            return out.toString();
+        }
+
+        private String toJson() {
+            StringBuilder out = new StringBuilder("{\n");
+            out.append(String.format(Locale.ROOT, "  \"holograms\": %d,%n  \"players\": %d,%n  \"ticks\": %d,%n  \"warmupTicks\": %d,%n",
+                    hologramCount, players, tickMillis.length, warmupTicks));
+            out.append(String.format(Locale.ROOT, "  \"startupMillis\": %.3f,%n  \"shutdownMillis\": %.3f,%n", startupMillis, shutdownMillis));
+            out.append(String.format(Locale.ROOT, "  \"tickMillis\": {\"mean\": %.4f, \"p50\": %.4f, \"p95\": %.4f, \"p99\": %.4f, \"max\": %.4f, \"overBudget\": %d},%n",
+                    meanMillis(), percentile(0.5), percentile(0.95), percentile(0.99), percentile(1.0), overBudget()));
+            out.append(String.format(Locale.ROOT, "  \"allocatedBytesPerTick\": %.0f,%n", allocatedPerTick()));
+            out.append(String.format(Locale.ROOT, "  \"entities\": %d,%n  \"peakEntities\": %d,%n", entities, peakEntities));
+            if (schedulerViolations >= 0) {
+                out.append(String.format(Locale.ROOT, "  \"schedulerViolations\": %d,%n", schedulerViolations));
+            }
+            out.append(String.format(Locale.ROOT, "  \"saves\": %d,%n  \"saveMillis\": %.3f,%n  \"bytesWritten\": %d%n", saves, saveMillis, bytesWritten));
+            out.append("}\n");
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import com.yourusername.frostgui.commands.HologramCommand;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hologram lookups, the map snapshot handed out by getAllHolograms and the
+ * /hologram tab completion built on top of it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HologramLookupBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int holograms;
+
+    private BenchmarkPlugin plugin;
+    private HologramManager manager;
+    private HologramCommand command;
+    private Player player;
+    private String existingId;
+
+    @Setup
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        plugin.writeHolograms(holograms, "world");
+        manager = new HologramManager(plugin);
+        command = new HologramCommand(plugin, manager);
+        player = BukkitStubs.player("Steve", BukkitStubs.world("world"), 0, 64, 0);
+        existingId = "holo-" + (holograms / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public Hologram getHologramHit() {
+        return manager.getHologram(existingId);
+    }
+
+    @Benchmark
+    public Hologram getHologramMiss() {
+        return manager.getHologram("missing");
+    }
+
+    @Benchmark
+    public Map<String, Hologram> getAllHologramsSnapshot() {
+        return manager.getAllHolograms();
+    }
+
+    @Benchmark
+    public List<String> tabCompleteHologramIds() {
+        return command.onTabComplete(player, null, "hologram", new String[] {"tp", "holo-1"});
+    }
+
+    @Benchmark
+    public List<String> tabCompleteSubcommands() {
+        return command.onTabComplete(player, null, "hologram", new String[] {"t"});
+    }
+}
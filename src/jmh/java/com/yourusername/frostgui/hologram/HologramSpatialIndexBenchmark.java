@@ -0,0 +1,104 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Click hit testing against many clickable holograms packed into a single chunk
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HologramSpatialIndexBenchmark {
+
+    @Param({"100", "500"})
+    public int hologramsInChunk;
+
+    private BenchmarkPlugin plugin;
+    private HologramSpatialIndex index;
+    private World world;
+    private double[][] rays;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        world = BukkitStubs.world("world");
+        index = new HologramSpatialIndex(plugin);
+
+        Random random = new Random(42);
+        Hologram first = null;
+        for (int i = 0; i < hologramsInChunk; i++) {
+            Location location = new Location(world, random.nextDouble() * 16, 64 + random.nextDouble() * 4, random.nextDouble() * 16);
+            Hologram hologram = new Hologram(plugin, "holo-" + i, location, Arrays.asList("&bClick me " + i, "&7Second line"));
+            hologram.setClickAction(0, HologramClickAction.parse("message:Clicked " + i));
+            index.update(hologram);
+            hologram.show();
+            if (first == null) {
+                first = hologram;
+            }
+        }
+
+        // A ray straight at the first clickable line must hit, otherwise only the misses are measured
+        double lineY = first.getY() + 0.25;
+        if (index.raycast(world, first.getX(), lineY, first.getZ() - 2, 0, 0, 1, 5.0) == null) {
+            throw new IllegalStateException("A ray aimed at a clickable line did not hit, the index is not answering");
+        }
+
+        // Rays from players standing around the chunk looking in random directions
+        rays = new double[1024][];
+        for (int i = 0; i < rays.length; i++) {
+            double yaw = random.nextDouble() * Math.PI * 2;
+            double pitch = (random.nextDouble() - 0.5) * 0.6;
+            rays[i] = new double[] {
+                    random.nextDouble() * 16, 65.6, random.nextDouble() * 16,
+                    Math.cos(pitch) * Math.cos(yaw), Math.sin(pitch), Math.cos(pitch) * Math.sin(yaw)
+            };
+        }
+
+        int hits = 0;
+        for (double[] ray : rays) {
+            if (index.raycast(world, ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], 5.0) != null) {
+                hits++;
+            }
+        }
+        if (hits == 0) {
+            throw new IllegalStateException("None of the benchmark rays hit a hologram");
+        }
+        System.out.printf(Locale.ROOT, "%n%d of %d rays hit a clickable line%n", hits, rays.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public HologramSpatialIndex.Hit raycast() {
+        double[] ray = rays[next++ & (rays.length - 1)];
+        return index.raycast(world, ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], 5.0);
+    }
+}
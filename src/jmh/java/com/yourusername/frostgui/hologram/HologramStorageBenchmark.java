@@ -0,0 +1,59 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading and saving holograms.yml at different sizes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HologramStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int holograms;
+
+    private BenchmarkPlugin plugin;
+    private HologramManager manager;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        plugin.writeHolograms(holograms, "world");
+        manager = new HologramManager(plugin);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public HologramManager load() {
+        return new HologramManager(plugin);
+    }
+
+    @Benchmark
+    public void save() {
+        manager.saveAllHolograms();
+    }
+}
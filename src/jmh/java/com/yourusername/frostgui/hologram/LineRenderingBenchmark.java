@@ -0,0 +1,76 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Color translation of hologram lines: raw translation, the manager's line cache,
+ * shared template lines and per-viewer placeholder rendering
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineRenderingBenchmark {
+    private static final String LINE = "&b&lWelcome to &fFrost&bCraft &7- &aHave a great time!";
+
+    private BenchmarkPlugin plugin;
+    private HologramManager manager;
+    private HologramTemplate template;
+    private HologramPlaceholders.PlaceholderLine placeholderLine;
+    private Player player;
+
+    @Setup
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        manager = new HologramManager(plugin);
+        template = new HologramTemplate("benchmark", Arrays.asList(LINE, "&7Second line", "&eThird line"));
+        placeholderLine = manager.getPlaceholders().compile(
+                ChatColor.translateAlternateColorCodes('&', "&eWelcome back, &f{player}&e! You are in &f{world}"));
+        player = BukkitStubs.player("Steve", BukkitStubs.world("world"), 0, 64, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public String translateColorCodes() {
+        return ChatColor.translateAlternateColorCodes('&', LINE);
+    }
+
+    @Benchmark
+    public String compileLineCached() {
+        return manager.compileLine(LINE);
+    }
+
+    @Benchmark
+    public String templateCompiledLine() {
+        return template.getCompiledLine(0);
+    }
+
+    @Benchmark
+    public String renderPlaceholderLine() {
+        return placeholderLine.render(player);
+    }
+}
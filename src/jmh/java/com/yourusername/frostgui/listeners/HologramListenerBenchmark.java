@@ -0,0 +1,70 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerInteractAtEntityEvent;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hologram ownership check HologramListener runs for every armor stand interaction
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HologramListenerBenchmark {
+    private BenchmarkPlugin plugin;
+    private HologramListener listener;
+    private PlayerInteractAtEntityEvent hologramEvent;
+    private PlayerInteractAtEntityEvent otherEvent;
+
+    @Setup
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        listener = new HologramListener(plugin);
+        Player player = BukkitStubs.player("Steve", BukkitStubs.world("world"), 0, 64, 0);
+
+        ArmorStand hologramStand = BukkitStubs.armorStand();
+        hologramStand.getPersistentDataContainer().set(new NamespacedKey(plugin, "frostgui_hologram"), PersistentDataType.STRING, "holo");
+        hologramEvent = new PlayerInteractAtEntityEvent(player, hologramStand, new Vector());
+        otherEvent = new PlayerInteractAtEntityEvent(player, BukkitStubs.armorStand(), new Vector());
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Benchmark
+    public boolean interactWithHologram() {
+        hologramEvent.setCancelled(false);
+        listener.onPlayerInteractEntity(hologramEvent);
+        return hologramEvent.isCancelled();
+    }
+
+    @Benchmark
+    public boolean interactWithOtherArmorStand() {
+        listener.onPlayerInteractEntity(otherEvent);
+        return otherEvent.isCancelled();
+    }
+}
@@ -1,6 +1,30 @@
 package com.yourusername.frostgui;
 
+import com.yourusername.frostgui.commands.HologramCommand;
+import com.yourusername.frostgui.gui.MenuManager;
+import com.yourusername.frostgui.hologram.AttachedHologramManager;
+import com.yourusername.frostgui.hologram.HologramManager;
+import com.yourusername.frostgui.hologram.TransientHologramManager;
+import com.yourusername.frostgui.listeners.AttachedHologramListener;
+import com.yourusername.frostgui.listeners.HologramClickListener;
+import com.yourusername.frostgui.listeners.HologramListener;
+import com.yourusername.frostgui.listeners.HologramPlaceholderListener;
+import com.yourusername.frostgui.listeners.HologramVisibilityListener;
+import com.yourusername.frostgui.listeners.HologramViewListener;
+import com.yourusername.frostgui.listeners.MenuListener;
+import com.yourusername.frostgui.metrics.Counter;
+import com.yourusername.frostgui.metrics.Gauge;
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.metrics.PluginMetrics;
+import com.yourusername.frostgui.metrics.QosGovernor;
+import com.yourusername.frostgui.metrics.QosLevel;
+import com.yourusername.frostgui.scheduler.BukkitFrostScheduler;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import com.yourusername.frostgui.scheduler.VerifyingFrostScheduler;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
@@ -10,12 +34,9 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
-import com.yourusername.frostgui.commands.HologramCommand;
-import com.yourusername.frostgui.hologram.HologramManager;
-import com.yourusername.frostgui.listeners.HologramListener;
+import java.io.File;
+import java.util.Map;
 
 /**
  * Main class for the FrostGUI plugin
@@ -23,8 +44,37 @@ import com.yourusername.frostgui.listeners.HologramListener;
 public class FrostGUI extends JavaPlugin implements Listener {
     
     private FileConfiguration config;
-    private BukkitTask tabUpdateTask;
+    private FrostScheduler taskScheduler;
+    private TaskHandle tabUpdateTask;
+    private long tabUpdateRuns;
     private HologramManager hologramManager;
+    private TransientHologramManager transientHologramManager;
+    private AttachedHologramManager attachedHologramManager;
+    private MenuManager menuManager;
+    private final PluginMetrics metrics = new PluginMetrics();
+    private final LatencyHistogram tabListTime = metrics.histogram("frostgui_tablist_update_seconds", 
+            "Time spent updating the tab list of all players");
+    private final LatencyHistogram joinTime = metrics.histogram("frostgui_join_handler_seconds", 
+            "Time spent handling a player join");
+    
+    /**
+     * Creates the plugin when it is loaded by the server
+     */
+    public FrostGUI() {
+        super();
+    }
+    
+    /**
+     * Creates the plugin outside of a running server, used by the benchmarks
+     * 
+     * @param loader      Loader owning the plugin
+     * @param description Description of the plugin
+     * @param dataFolder  Folder holding the plugin's files
+     * @param file        The plugin jar
+     */
+    protected FrostGUI(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
     
     @Override
     public void onEnable() {
@@ -37,6 +87,16 @@ public class FrostGUI extends JavaPlugin implements Listener {
         // Load configuration
         config = getConfig();
         
+        // Debug mode reports work done on a thread that would not own it on a region-threaded server
+        taskScheduler = new BukkitFrostScheduler(this);
+        if (config.getBoolean("settings.debug-mode", false)) {
+            taskScheduler = new VerifyingFrostScheduler(taskScheduler, getLogger(), metrics);
+            getLogger().info("Scheduler verification has been enabled!");
+        }
+        
+        // Start the rolling metric windows and the optional Prometheus export
+        metrics.start(this, taskScheduler);
+        
         // Register events if welcome messages are enabled
         if (config.getBoolean("settings.enable-welcome-messages")) {
             getServer().getPluginManager().registerEvents(this, this);
@@ -50,7 +110,9 @@ public class FrostGUI extends JavaPlugin implements Listener {
         }
         
         // Initialize hologram manager
-        hologramManager = new HologramManager(this);
+        hologramManager = new HologramManager(this, metrics, taskScheduler);
+        transientHologramManager = new TransientHologramManager(this, taskScheduler);
+        attachedHologramManager = new AttachedHologramManager(this, taskScheduler);
         
         // Register hologram command
         HologramCommand hologramCommand = new HologramCommand(this, hologramManager);
@@ -61,6 +123,23 @@ public class FrostGUI extends JavaPlugin implements Listener {
         HologramListener hologramListener = new HologramListener(this);
         getServer().getPluginManager().registerEvents(hologramListener, this);
         
+        // Register level-of-detail tracking for distant hologram viewers
+        getServer().getPluginManager().registerEvents(new HologramViewListener(hologramManager.getViewTracker()), this);
+        
+        // Register ray-cast click handling for clickable hologram lines
+        getServer().getPluginManager().registerEvents(new HologramClickListener(this), this);
+        
+        // Register render group tracking for per-viewer placeholder lines
+        getServer().getPluginManager().registerEvents(new HologramVisibilityListener(hologramManager.getVisibilityIndex()), this);
+        getServer().getPluginManager().registerEvents(new HologramPlaceholderListener(hologramManager.getPlaceholders()), this);
+        
+        // Register mounting of entity labels as their chunks load and unload
+        getServer().getPluginManager().registerEvents(new AttachedHologramListener(attachedHologramManager), this);
+        
+        // Initialize menus and route inventory clicks to them
+        menuManager = new MenuManager(this, hologramManager);
+        getServer().getPluginManager().registerEvents(new MenuListener(menuManager), this);
+        
         // Show all holograms if enabled
         if (config.getBoolean("holograms.enabled", true)) {
             hologramManager.showAllHolograms();
@@ -73,12 +152,29 @@ public class FrostGUI extends JavaPlugin implements Listener {
         // Plugin shutdown logic
         getLogger().info("FrostGUI has been disabled!");
         
+        metrics.stop();
+        
         // Cancel tab list update task if running
         if (tabUpdateTask != null) {
             tabUpdateTask.cancel();
             tabUpdateTask = null;
         }
         
+        // Close open menus so nobody keeps a menu inventory after a reload
+        if (menuManager != null) {
+            menuManager.closeAll();
+        }
+        
+        // Remove any popups that are still alive
+        if (transientHologramManager != null) {
+            transientHologramManager.removeAll();
+        }
+        
+        // Remove the labels riding on entities, they are never saved
+        if (attachedHologramManager != null) {
+            attachedHologramManager.removeAll();
+        }
+        
         // Remove all holograms from the world
         if (hologramManager != null) {
             hologramManager.removeAllHolograms();
@@ -87,6 +183,60 @@ public class FrostGUI extends JavaPlugin implements Listener {
         }
     }
     
+    /**
+     * Gets the hologram manager
+     * 
+     * @return The HologramManager instance
+     */
+    public HologramManager getHologramManager() {
+        return hologramManager;
+    }
+    
+    /**
+     * Gets the manager for short-lived holograms (damage numbers, popups, countdowns)
+     * 
+     * @return The TransientHologramManager instance
+     */
+    public TransientHologramManager getTransientHologramManager() {
+        return transientHologramManager;
+    }
+    
+    /**
+     * Gets the manager for labels riding on entities (NPCs, pets, minecarts)
+     * 
+     * @return The AttachedHologramManager instance
+     */
+    public AttachedHologramManager getAttachedHologramManager() {
+        return attachedHologramManager;
+    }
+    
+    /**
+     * Gets the manager for inventory menus
+     * 
+     * @return The MenuManager instance
+     */
+    public MenuManager getMenuManager() {
+        return menuManager;
+    }
+    
+    /**
+     * Gets the scheduler running plugin work on the thread owning it
+     * 
+     * @return The FrostScheduler instance
+     */
+    public FrostScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+    
+    /**
+     * Gets the registry of runtime counters, timings and gauges
+     * 
+     * @return The PluginMetrics instance
+     */
+    public PluginMetrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * Starts the recurring task to update the player tab list header/footer
      */
@@ -100,12 +250,12 @@ public class FrostGUI extends JavaPlugin implements Listener {
         int updateInterval = config.getInt("tab-list.update-interval", 30) * 20; // Convert to ticks
         
         // Start new task
-        tabUpdateTask = new BukkitRunnable() {
-            @Override
-            public void run() {
+        tabUpdateTask = taskScheduler.runGlobalTimer(() -> {
+            // Under tick pressure the header/footer is refreshed less often
+            if (metrics.getGovernor().shouldRefresh(tabUpdateRuns++)) {
                 updateTabListForAllPlayers();
             }
-        }.runTaskTimer(this, 20, updateInterval); // 20 tick delay (1 second) before first run
+        }, 20, updateInterval); // 20 tick delay (1 second) before first run
         
         // Update immediately for players already online
         updateTabListForAllPlayers();
@@ -114,10 +264,11 @@ public class FrostGUI extends JavaPlugin implements Listener {
     /**
      * Updates the tab list header/footer for all online players
      */
-    private void updateTabListForAllPlayers() {
+    void updateTabListForAllPlayers() {
         if (!config.getBoolean("tab-list.enabled", true)) {
             return;
         }
+        long start = System.nanoTime();
         
         // Get header and footer from config
         String header = ChatColor.translateAlternateColorCodes('&', 
@@ -125,10 +276,14 @@ public class FrostGUI extends JavaPlugin implements Listener {
         String footer = ChatColor.translateAlternateColorCodes('&',
                 config.getString("tab-list.footer", "&7Have a great time on our server!"));
         
-        // Update for all online players
+        // Update for all online players, each on the thread owning the player
         for (Player player : Bukkit.getOnlinePlayers()) {
-            player.setPlayerListHeaderFooter(header, footer);
+            taskScheduler.executeForEntity(player, () -> {
+                taskScheduler.checkEntity(player, "Tab list update");
+                player.setPlayerListHeaderFooter(header, footer);
+            });
         }
+        tabListTime.recordSince(start);
     }
     
     /**
@@ -143,6 +298,9 @@ public class FrostGUI extends JavaPlugin implements Listener {
                 if (sender.hasPermission("frostgui.admin")) {
                     reloadConfig();
                     config = getConfig();
+                    menuManager.reload();
+                    hologramManager.getDensityBudget().rebalanceAll();
+                    metrics.start(this, taskScheduler);
                     sender.sendMessage(ChatColor.translateAlternateColorCodes('&', 
                             config.getString("messages.prefix") + "Configuration reloaded!"));
                 } else {
@@ -152,12 +310,40 @@ public class FrostGUI extends JavaPlugin implements Listener {
                 return true;
             }
             
+            // Handle stats command
+            if (args.length > 0 && args[0].equalsIgnoreCase("stats")) {
+                if (sender.hasPermission("frostgui.admin")) {
+                    sendStats(sender);
+                } else {
+                    sender.sendMessage(ChatColor.translateAlternateColorCodes('&', 
+                            config.getString("messages.no-permission")));
+                }
+                return true;
+            }
+            
+            // Handle menu command
+            if (args.length > 0 && args[0].equalsIgnoreCase("menu")) {
+                if (!(sender instanceof Player)) {
+                    sender.sendMessage(ChatColor.RED + "Only players can open menus.");
+                    return true;
+                }
+                
+                String menuName = args.length > 1 ? args[1] : "main";
+                if (!menuManager.open((Player) sender, menuName)) {
+                    sender.sendMessage(ChatColor.translateAlternateColorCodes('&', 
+                            config.getString("messages.prefix") + "&cUnknown menu or no permission: " + menuName));
+                }
+                return true;
+            }
+            
             // Send plugin info
             sender.sendMessage(ChatColor.AQUA + "⚡ FrostGUI " + ChatColor.GRAY + "v" + getDescription().getVersion());
             sender.sendMessage(ChatColor.GRAY + "A customizable welcome message plugin");
             if (sender.hasPermission("frostgui.admin")) {
                 sender.sendMessage(ChatColor.GRAY + "Use /frostgui reload to reload the configuration");
+                sender.sendMessage(ChatColor.GRAY + "Use /frostgui stats to see what FrostGUI costs per tick");
             }
+            sender.sendMessage(ChatColor.GRAY + "Use /frostgui menu [name] to open a menu");
             return true;
         }
         
@@ -194,11 +380,62 @@ public class FrostGUI extends JavaPlugin implements Listener {
         return false;
     }
     
+    /**
+     * Sends the rolling 1 minute and 5 minute view of every metric
+     * 
+     * @param sender The receiver of the stats
+     */
+    private void sendStats(CommandSender sender) {
+        sender.sendMessage(ChatColor.AQUA + "⚡ FrostGUI stats " + ChatColor.GRAY + "(last 1m / 5m)");
+        
+        QosGovernor governor = metrics.getGovernor();
+        if (governor.isRunning()) {
+            sender.sendMessage(ChatColor.YELLOW + "QoS level" + ChatColor.GRAY + ": " 
+                    + (governor.getLevel() == QosLevel.NORMAL ? ChatColor.GREEN : ChatColor.RED) + governor.getLevel()
+                    + ChatColor.GRAY + String.format(" (FrostGUI %.2f ms/tick, server %.1f ms/tick, %d deferred messages)", 
+                            governor.getOwnMillisPerTick(), governor.getServerMillisPerTick(), governor.getDeferredCount()));
+            for (String transition : governor.getHistory()) {
+                sender.sendMessage(ChatColor.GRAY + "  " + transition);
+            }
+        } else {
+            sender.sendMessage(ChatColor.YELLOW + "QoS level" + ChatColor.GRAY + ": disabled");
+        }
+        
+        for (LatencyHistogram histogram : metrics.getMetrics(LatencyHistogram.class)) {
+            sender.sendMessage(ChatColor.YELLOW + histogram.getHelp() + ChatColor.GRAY + ": " 
+                    + ChatColor.WHITE + histogram.getCount(60) + " / " + histogram.getCount(300) + ChatColor.GRAY + " calls, avg "
+                    + ChatColor.WHITE + String.format("%.3f / %.3f", histogram.getMeanMillis(60), histogram.getMeanMillis(300)) 
+                    + ChatColor.GRAY + " ms, p99 "
+                    + ChatColor.WHITE + String.format("%.3f / %.3f", histogram.getPercentileMillis(60, 0.99), histogram.getPercentileMillis(300, 0.99)) 
+                    + ChatColor.GRAY + " ms");
+        }
+        
+        for (Counter counter : metrics.getMetrics(Counter.class)) {
+            sender.sendMessage(ChatColor.YELLOW + counter.getHelp() + ChatColor.GRAY + ": " 
+                    + ChatColor.WHITE + counter.getCount(60) + " / " + counter.getCount(300)
+                    + ChatColor.GRAY + " (total " + counter.getTotal() + ")");
+        }
+        
+        for (Gauge gauge : metrics.getMetrics(Gauge.class)) {
+            StringBuilder values = new StringBuilder();
+            for (Map.Entry<String, ? extends Number> value : gauge.sample().entrySet()) {
+                if (values.length() > 0) {
+                    values.append(ChatColor.GRAY).append(", ");
+                }
+                values.append(ChatColor.WHITE).append(value.getKey()).append(ChatColor.GRAY).append('=')
+                        .append(ChatColor.WHITE).append(value.getValue());
+            }
+            sender.sendMessage(ChatColor.YELLOW + gauge.getHelp() + ChatColor.GRAY + ": " 
+                    + (values.length() > 0 ? values : ChatColor.WHITE + "none"));
+        }
+    }
+    
     /**
      * Handle player join events
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
+        long start = System.nanoTime();
         Player player = event.getPlayer();
         
         // Set custom join message if broadcast is enabled
@@ -217,7 +454,8 @@ public class FrostGUI extends JavaPlugin implements Listener {
             if (config.getBoolean("welcome.first-join.broadcast")) {
                 String firstJoinMsg = config.getString("welcome.first-join.message")
                         .replace("{player_name}", player.getName());
-                Bukkit.broadcastMessage(ChatColor.translateAlternateColorCodes('&', firstJoinMsg));
+                String broadcast = ChatColor.translateAlternateColorCodes('&', firstJoinMsg);
+                metrics.getGovernor().sendDeferrable(() -> Bukkit.broadcastMessage(broadcast));
             }
         }
         
@@ -228,7 +466,8 @@ public class FrostGUI extends JavaPlugin implements Listener {
             if (config.getBoolean("welcome.chat-welcome.colorful", true)) {
                 chatMessage = ChatColor.translateAlternateColorCodes('&', chatMessage);
             }
-            player.sendMessage(chatMessage);
+            String welcome = chatMessage;
+            metrics.getGovernor().sendDeferrable(() -> taskScheduler.executeForEntity(player, () -> player.sendMessage(welcome)));
         }
         
         // Apply tab list header/footer for the player
@@ -239,5 +478,7 @@ public class FrostGUI extends JavaPlugin implements Listener {
                     config.getString("tab-list.footer", "&7Have a great time on our server!"));
             player.setPlayerListHeaderFooter(header, footer);
         }
+        
+        joinTime.recordSince(start);
     }
 }
@@ -2,7 +2,14 @@ package com.yourusername.frostgui.commands;
 
 import com.yourusername.frostgui.FrostGUI;
 import com.yourusername.frostgui.hologram.Hologram;
+import com.yourusername.frostgui.hologram.HologramBatch;
+import com.yourusername.frostgui.hologram.HologramClickAction;
+import com.yourusername.frostgui.hologram.HologramDensityBudget;
 import com.yourusername.frostgui.hologram.HologramManager;
+import com.yourusername.frostgui.hologram.HologramSchedule;
+import com.yourusername.frostgui.hologram.HologramTemplate;
+import com.yourusername.frostgui.hologram.HologramTransfer;
+import com.yourusername.frostgui.hologram.HologramVisibility;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
@@ -11,10 +18,19 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +38,9 @@ import java.util.stream.Collectors;
  */
 public class HologramCommand implements CommandExecutor, TabCompleter {
     
+    /** Dry runs list at most this many changes in chat */
+    private static final int MAX_LISTED_CHANGES = 15;
+    
     private final FrostGUI plugin;
     private final HologramManager hologramManager;
     
@@ -76,6 +95,26 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 return handleEdit(player, args);
             case "info":
                 return handleInfo(player, args);
+            case "schedule":
+                return handleSchedule(player, args);
+            case "lod":
+                return handleLod(player, args);
+            case "visibility":
+                return handleVisibility(player, args);
+            case "template":
+                return handleTemplate(player, args);
+            case "click":
+                return handleClick(player, args);
+            case "import":
+                return handleImport(player, args);
+            case "export":
+                return handleExport(player, args);
+            case "shift":
+                return handleShift(player, args);
+            case "priority":
+                return handlePriority(player, args);
+            case "density":
+                return handleDensity(player, args);
             default:
                 showHelp(player);
                 return true;
@@ -108,6 +147,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         hologram.show();
         
         player.sendMessage(ChatColor.GREEN + "Hologram '" + id + "' created successfully.");
+        warnIfOverBudget(player, hologram);
         return true;
     }
     
@@ -143,12 +183,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(ChatColor.GREEN + "List of holograms:");
         for (Map.Entry<String, Hologram> entry : holograms.entrySet()) {
             Hologram hologram = entry.getValue();
-            Location loc = hologram.getLocation();
             player.sendMessage(ChatColor.AQUA + "- " + entry.getKey() + 
-                    ChatColor.GRAY + " (" + loc.getWorld().getName() + ", " + 
-                    Math.round(loc.getX()) + ", " + Math.round(loc.getY()) + ", " + 
-                    Math.round(loc.getZ()) + ") " + 
-                    ChatColor.YELLOW + hologram.getLines().size() + " line(s)");
+                    ChatColor.GRAY + " (" + hologram.getWorldName() + ", " + 
+                    Math.round(hologram.getX()) + ", " + Math.round(hologram.getY()) + ", " + 
+                    Math.round(hologram.getZ()) + ") " + 
+                    ChatColor.YELLOW + hologram.getLineCount() + " line(s)");
         }
         
         return true;
@@ -195,6 +234,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         hologram.addLine(text);
         player.sendMessage(ChatColor.GREEN + "Added line to hologram '" + id + "'.");
+        warnIfOverBudget(player, hologram);
         
         return true;
     }
@@ -232,7 +272,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             player.sendMessage(ChatColor.GREEN + "Removed line " + (lineIndex + 1) + " from hologram '" + id + "'.");
         } else {
             player.sendMessage(ChatColor.RED + "Invalid line index. The hologram has " + 
-                    hologram.getLines().size() + " lines (1-" + hologram.getLines().size() + ").");
+                    hologram.getLineCount() + " lines (1-" + hologram.getLineCount() + ").");
         }
         
         return true;
@@ -287,20 +327,19 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         // Line indices are zero-based for the code, but we'll make them 1-based for user convenience
         lineIndex--; 
         
-        List<String> lines = hologram.getLines();
+        int lineCount = hologram.getLineCount();
         
-        if (lineIndex < 0 || lineIndex >= lines.size()) {
+        if (lineIndex < 0 || lineIndex >= lineCount) {
             player.sendMessage(ChatColor.RED + "Invalid line index. The hologram has " + 
-                    lines.size() + " lines (1-" + lines.size() + ").");
+                    lineCount + " lines (1-" + lineCount + ").");
             return true;
         }
         
         // Combine remaining arguments into a single line
         String newText = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
         
-        // Update the line
-        lines.set(lineIndex, newText);
-        hologram.updateLines(lines);
+        // Update the line in place (templated holograms store it as an override)
+        hologram.setLine(lineIndex, newText);
         
         player.sendMessage(ChatColor.GREEN + "Updated line " + (lineIndex + 1) + " of hologram '" + id + "'.");
         
@@ -322,21 +361,717 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         
-        Location loc = hologram.getLocation();
         List<String> lines = hologram.getLines();
         
         player.sendMessage(ChatColor.GREEN + "Information for hologram '" + id + "':");
-        player.sendMessage(ChatColor.YELLOW + "Location: " + ChatColor.GRAY + loc.getWorld().getName() + ", " + 
-                Math.round(loc.getX()) + ", " + Math.round(loc.getY()) + ", " + Math.round(loc.getZ()));
+        player.sendMessage(ChatColor.YELLOW + "Location: " + ChatColor.GRAY + hologram.getWorldName() + ", " + 
+                Math.round(hologram.getX()) + ", " + Math.round(hologram.getY()) + ", " + Math.round(hologram.getZ()));
+        if (hologram.getTemplate() != null) {
+            player.sendMessage(ChatColor.YELLOW + "Template: " + ChatColor.GRAY + hologram.getTemplate().getName() + 
+                    " (" + hologram.getOverrides().size() + " override(s))");
+        }
+        if (hologram.getPriority() != 0 || hologram.isCollapsed()) {
+            player.sendMessage(ChatColor.YELLOW + "Priority: " + ChatColor.GRAY + hologram.getPriority() + 
+                    (hologram.isCollapsed() ? ChatColor.RED + " (collapsed, its chunk is over the entity budget)" : ""));
+        }
+        if (hologram.getVisibility() != null) {
+            player.sendMessage(ChatColor.YELLOW + "Visible to: " + ChatColor.GRAY + hologram.getVisibility());
+        }
         player.sendMessage(ChatColor.YELLOW + "Lines (" + lines.size() + "):");
         
         for (int i = 0; i < lines.size(); i++) {
             player.sendMessage(ChatColor.AQUA + "  " + (i + 1) + ": " + ChatColor.WHITE + lines.get(i));
+            HologramClickAction clickAction = hologram.getClickAction(i);
+            if (clickAction != null) {
+                player.sendMessage(ChatColor.GRAY + "     on click: " + clickAction);
+            }
+        }
+        
+        return true;
+    }
+    
+    private boolean handleSchedule(Player player, String[] args) {
+        // Check if enough arguments: /hologram schedule <id> <field> [value...]
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram schedule <id> <from|until|recurrence|duration|clear|info> [value]");
+            return true;
+        }
+        
+        String id = args[1];
+        Hologram hologram = hologramManager.getHologram(id);
+        
+        if (hologram == null) {
+            player.sendMessage(ChatColor.RED + "No hologram found with ID '" + id + "'.");
+            return true;
+        }
+        
+        String field = args[2].toLowerCase();
+        HologramSchedule current = hologram.getSchedule();
+        
+        if (field.equals("info")) {
+            if (current == null) {
+                player.sendMessage(ChatColor.YELLOW + "Hologram '" + id + "' has no schedule.");
+                return true;
+            }
+            player.sendMessage(ChatColor.GREEN + "Schedule for hologram '" + id + "':");
+            player.sendMessage(ChatColor.YELLOW + "Show from: " + ChatColor.GRAY + valueOrNone(current.getShowFrom()));
+            player.sendMessage(ChatColor.YELLOW + "Show until: " + ChatColor.GRAY + valueOrNone(current.getShowUntil()));
+            player.sendMessage(ChatColor.YELLOW + "Recurrence: " + ChatColor.GRAY + valueOrNone(current.getRecurrence()));
+            player.sendMessage(ChatColor.YELLOW + "Duration: " + ChatColor.GRAY + valueOrNone(current.getDuration()));
+            player.sendMessage(ChatColor.YELLOW + "Currently: " + ChatColor.GRAY + (hologram.isScheduleOpen() ? "shown" : "hidden"));
+            return true;
+        }
+        
+        if (field.equals("clear")) {
+            hologramManager.setSchedule(hologram, null);
+            player.sendMessage(ChatColor.GREEN + "Cleared the schedule of hologram '" + id + "'.");
+            return true;
+        }
+        
+        if (args.length < 4) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram schedule <id> " + field + " <value|none>");
+            return true;
+        }
+        
+        // Combine remaining arguments into the value ("none" unsets the field)
+        String value = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
+        if (value.equalsIgnoreCase("none")) {
+            value = null;
+        }
+        
+        String from = current != null ? current.getShowFrom() : null;
+        String until = current != null ? current.getShowUntil() : null;
+        String recurrence = current != null ? current.getRecurrence() : null;
+        String duration = current != null ? current.getDuration() : null;
+        
+        switch (field) {
+            case "from":
+                from = value;
+                break;
+            case "until":
+                until = value;
+                break;
+            case "recurrence":
+                recurrence = value;
+                break;
+            case "duration":
+                duration = value;
+                break;
+            default:
+                player.sendMessage(ChatColor.RED + "Unknown schedule field '" + field + "'. Use from, until, recurrence, duration, clear or info.");
+                return true;
+        }
+        
+        HologramSchedule schedule;
+        try {
+            schedule = new HologramSchedule(from, until, recurrence, duration, hologramManager.getScheduleZone());
+        } catch (IllegalArgumentException e) {
+            player.sendMessage(ChatColor.RED + "Invalid schedule: " + e.getMessage());
+            return true;
+        }
+        
+        hologramManager.setSchedule(hologram, schedule);
+        player.sendMessage(ChatColor.GREEN + "Updated the schedule of hologram '" + id + "'. It is currently " + 
+                (hologram.isScheduleOpen() ? "shown" : "hidden") + ".");
+        
+        return true;
+    }
+    
+    private boolean handleLod(Player player, String[] args) {
+        // Check if enough arguments: /hologram lod <id> <distance|off> [summary...]
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram lod <id> <distance|off> [summary...]");
+            return true;
+        }
+        
+        String id = args[1];
+        Hologram hologram = hologramManager.getHologram(id);
+        
+        if (hologram == null) {
+            player.sendMessage(ChatColor.RED + "No hologram found with ID '" + id + "'.");
+            return true;
+        }
+        
+        if (args[2].equalsIgnoreCase("off")) {
+            hologramManager.setLod(hologram, 0, null);
+            player.sendMessage(ChatColor.GREEN + "Disabled level of detail for hologram '" + id + "'.");
+            return true;
+        }
+        
+        // Parse distance
+        double distance;
+        try {
+            distance = Double.parseDouble(args[2]);
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Distance must be a number.");
+            return true;
+        }
+        
+        if (distance <= 0) {
+            player.sendMessage(ChatColor.RED + "Distance must be greater than 0.");
+            return true;
+        }
+        
+        // Combine remaining arguments into the summary line (none means distant viewers see nothing)
+        String summary = args.length > 3 ? String.join(" ", Arrays.copyOfRange(args, 3, args.length)) : null;
+        
+        hologramManager.setLod(hologram, distance, summary);
+        player.sendMessage(ChatColor.GREEN + "Hologram '" + id + "' now collapses " + 
+                (summary != null ? "to its summary" : "completely") + " beyond " + distance + " blocks.");
+        
+        return true;
+    }
+    
+    private boolean handleVisibility(Player player, String[] args) {
+        // Check if enough arguments: /hologram visibility <id> <field> [value...]
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram visibility <id> <permission|worlds|conditions|clear|info> [value]");
+            return true;
+        }
+        
+        String id = args[1];
+        Hologram hologram = hologramManager.getHologram(id);
+        
+        if (hologram == null) {
+            player.sendMessage(ChatColor.RED + "No hologram found with ID '" + id + "'.");
+            return true;
+        }
+        
+        String field = args[2].toLowerCase();
+        HologramVisibility current = hologram.getVisibility() != null 
+                ? hologram.getVisibility() 
+                : new HologramVisibility(null, null, null);
+        
+        if (field.equals("info")) {
+            player.sendMessage(ChatColor.GREEN + "Visibility of hologram '" + id + "':");
+            player.sendMessage(ChatColor.YELLOW + "Permission: " + ChatColor.GRAY + valueOrNone(current.getPermission()));
+            player.sendMessage(ChatColor.YELLOW + "Worlds: " + ChatColor.GRAY + 
+                    (current.getWorlds() != null ? String.join(", ", current.getWorlds()) : "any"));
+            player.sendMessage(ChatColor.YELLOW + "Conditions: " + ChatColor.GRAY + 
+                    (!current.getConditions().isEmpty() ? String.join(", ", current.getConditions()) : "none"));
+            player.sendMessage(ChatColor.YELLOW + "You see it: " + ChatColor.GRAY + 
+                    (hologram.isVisibleTo(player.getUniqueId()) ? "yes" : "no"));
+            return true;
+        }
+        
+        if (field.equals("clear")) {
+            hologramManager.setVisibility(hologram, null);
+            player.sendMessage(ChatColor.GREEN + "Hologram '" + id + "' is visible to everyone again.");
+            return true;
+        }
+        
+        if (args.length < 4) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram visibility <id> " + field + " <value...|none>");
+            return true;
+        }
+        
+        // Remaining arguments are the values, separated by spaces or commas ("none" unsets the field)
+        List<String> values = new ArrayList<>();
+        for (String arg : Arrays.copyOfRange(args, 3, args.length)) {
+            for (String value : arg.split(",")) {
+                if (!value.isEmpty()) {
+                    values.add(value);
+                }
+            }
+        }
+        boolean none = values.size() == 1 && values.get(0).equalsIgnoreCase("none");
+        
+        HologramVisibility visibility;
+        switch (field) {
+            case "permission":
+                if (values.size() > 1) {
+                    player.sendMessage(ChatColor.RED + "A hologram can only require one permission.");
+                    return true;
+                }
+                visibility = current.withPermission(none ? null : values.get(0));
+                break;
+            case "worlds":
+                visibility = current.withWorlds(none ? null : values);
+                break;
+            case "conditions":
+                visibility = current.withConditions(none ? null : values);
+                break;
+            default:
+                player.sendMessage(ChatColor.RED + "Unknown visibility field '" + field + "'. Use permission, worlds, conditions, clear or info.");
+                return true;
+        }
+        
+        hologramManager.setVisibility(hologram, visibility);
+        player.sendMessage(ChatColor.GREEN + "Hologram '" + id + "' is now visible to " + ChatColor.WHITE + visibility + ChatColor.GREEN + ".");
+        
+        return true;
+    }
+    
+    private boolean handleClick(Player player, String[] args) {
+        // Check if enough arguments: /hologram click <id> <line_index> <type:value...|none>
+        if (args.length < 4) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram click <id> <line_index> <command|console|message|menu:value...|none>");
+            return true;
+        }
+        
+        String id = args[1];
+        Hologram hologram = hologramManager.getHologram(id);
+        
+        if (hologram == null) {
+            player.sendMessage(ChatColor.RED + "No hologram found with ID '" + id + "'.");
+            return true;
+        }
+        
+        // Parse line index
+        int lineIndex;
+        try {
+            lineIndex = Integer.parseInt(args[2]) - 1;
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Line index must be a number.");
+            return true;
+        }
+        
+        int lineCount = hologram.getLineCount();
+        if (lineIndex < 0 || lineIndex >= lineCount) {
+            player.sendMessage(ChatColor.RED + "Invalid line index. The hologram has " + 
+                    lineCount + " lines (1-" + lineCount + ").");
+            return true;
+        }
+        
+        if (args[3].equalsIgnoreCase("none")) {
+            hologramManager.setClickAction(hologram, lineIndex, null);
+            player.sendMessage(ChatColor.GREEN + "Line " + (lineIndex + 1) + " of hologram '" + id + "' is no longer clickable.");
+            return true;
+        }
+        
+        // Combine remaining arguments into the action
+        HologramClickAction action;
+        try {
+            action = HologramClickAction.parse(String.join(" ", Arrays.copyOfRange(args, 3, args.length)));
+        } catch (IllegalArgumentException e) {
+            player.sendMessage(ChatColor.RED + e.getMessage());
+            return true;
+        }
+        
+        hologramManager.setClickAction(hologram, lineIndex, action);
+        player.sendMessage(ChatColor.GREEN + "Clicking line " + (lineIndex + 1) + " of hologram '" + id + "' now runs " + 
+                ChatColor.WHITE + action + ChatColor.GREEN + ".");
+        
+        return true;
+    }
+    
+    private boolean handleTemplate(Player player, String[] args) {
+        // Check if enough arguments: /hologram template <action> ...
+        if (args.length < 2) {
+            showTemplateHelp(player);
+            return true;
+        }
+        
+        String action = args[1].toLowerCase();
+        
+        if (action.equals("list")) {
+            Map<String, HologramTemplate> templates = hologramManager.getAllTemplates();
+            if (templates.isEmpty()) {
+                player.sendMessage(ChatColor.YELLOW + "There are no templates.");
+                return true;
+            }
+            player.sendMessage(ChatColor.GREEN + "List of templates:");
+            for (HologramTemplate template : templates.values()) {
+                player.sendMessage(ChatColor.AQUA + "- " + template.getName() + ChatColor.GRAY + " (" + 
+                        template.getLineCount() + " line(s)) " + ChatColor.YELLOW + 
+                        template.getInstances().size() + " hologram(s)");
+            }
+            return true;
+        }
+        
+        if (args.length < 3) {
+            showTemplateHelp(player);
+            return true;
+        }
+        
+        switch (action) {
+            case "create": {
+                // /hologram template create <name> <hologram_id>
+                if (args.length < 4) {
+                    player.sendMessage(ChatColor.RED + "Usage: /hologram template create <name> <hologram_id>");
+                    return true;
+                }
+                Hologram source = hologramManager.getHologram(args[3]);
+                if (source == null) {
+                    player.sendMessage(ChatColor.RED + "No hologram found with ID '" + args[3] + "'.");
+                    return true;
+                }
+                HologramTemplate template = hologramManager.createTemplate(args[2], source.getLines());
+                if (template == null) {
+                    player.sendMessage(ChatColor.RED + "A template named '" + args[2] + "' already exists.");
+                    return true;
+                }
+                hologramManager.applyTemplate(source, template, null);
+                player.sendMessage(ChatColor.GREEN + "Template '" + args[2] + "' created from hologram '" + args[3] + "'.");
+                return true;
+            }
+            case "setline":
+            case "addline":
+            case "removeline": {
+                HologramTemplate template = hologramManager.getTemplate(args[2]);
+                if (template == null) {
+                    player.sendMessage(ChatColor.RED + "No template found named '" + args[2] + "'.");
+                    return true;
+                }
+                List<String> lines = new ArrayList<>(template.getLines());
+                if (!editTemplateLines(player, action, lines, args)) {
+                    return true;
+                }
+                int changed = hologramManager.updateTemplate(template, lines);
+                player.sendMessage(ChatColor.GREEN + "Updated template '" + template.getName() + "' (" + 
+                        changed + " hologram(s) changed).");
+                return true;
+            }
+            case "apply": {
+                // /hologram template apply <hologram_id> <name>
+                if (args.length < 4) {
+                    player.sendMessage(ChatColor.RED + "Usage: /hologram template apply <hologram_id> <name>");
+                    return true;
+                }
+                Hologram hologram = hologramManager.getHologram(args[2]);
+                HologramTemplate template = hologramManager.getTemplate(args[3]);
+                if (hologram == null || template == null) {
+                    player.sendMessage(ChatColor.RED + "Unknown hologram or template.");
+                    return true;
+                }
+                hologramManager.applyTemplate(hologram, template, null);
+                player.sendMessage(ChatColor.GREEN + "Hologram '" + args[2] + "' now uses template '" + args[3] + "'.");
+                return true;
+            }
+            case "detach": {
+                Hologram hologram = hologramManager.getHologram(args[2]);
+                if (hologram == null) {
+                    player.sendMessage(ChatColor.RED + "No hologram found with ID '" + args[2] + "'.");
+                    return true;
+                }
+                hologramManager.applyTemplate(hologram, null, null);
+                player.sendMessage(ChatColor.GREEN + "Hologram '" + args[2] + "' no longer uses a template.");
+                return true;
+            }
+            case "remove": {
+                if (hologramManager.removeTemplate(args[2])) {
+                    player.sendMessage(ChatColor.GREEN + "Template '" + args[2] + "' removed.");
+                } else {
+                    player.sendMessage(ChatColor.RED + "No template found named '" + args[2] + "'.");
+                }
+                return true;
+            }
+            default:
+                showTemplateHelp(player);
+                return true;
+        }
+    }
+    
+    /**
+     * Applies a setline/addline/removeline edit to a copy of the template lines
+     * 
+     * @return True if the edit is valid
+     */
+    private boolean editTemplateLines(Player player, String action, List<String> lines, String[] args) {
+        if (action.equals("addline")) {
+            if (args.length < 4) {
+                player.sendMessage(ChatColor.RED + "Usage: /hologram template addline <name> <text...>");
+                return false;
+            }
+            lines.add(String.join(" ", Arrays.copyOfRange(args, 3, args.length)));
+            return true;
+        }
+        
+        int minArgs = action.equals("setline") ? 5 : 4;
+        if (args.length < minArgs) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram template " + action + " <name> <line_index>" + 
+                    (action.equals("setline") ? " <text...>" : ""));
+            return false;
+        }
+        
+        // Parse line index (1-based for user convenience)
+        int lineIndex;
+        try {
+            lineIndex = Integer.parseInt(args[3]) - 1;
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Line index must be a number.");
+            return false;
+        }
+        
+        if (lineIndex < 0 || lineIndex >= lines.size()) {
+            player.sendMessage(ChatColor.RED + "Invalid line index. The template has " + 
+                    lines.size() + " lines (1-" + lines.size() + ").");
+            return false;
+        }
+        
+        if (action.equals("setline")) {
+            lines.set(lineIndex, String.join(" ", Arrays.copyOfRange(args, 4, args.length)));
+        } else {
+            lines.remove(lineIndex);
+        }
+        return true;
+    }
+    
+    private boolean handleImport(Player player, String[] args) {
+        // Check if enough arguments: /hologram import <file> [--dry-run]
+        if (args.length < 2) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram import <file> [--dry-run]");
+            return true;
+        }
+        
+        File file = resolveExportFile(args[1]);
+        if (file == null || !file.isFile()) {
+            player.sendMessage(ChatColor.RED + "No file '" + args[1] + "' found in the exports folder.");
+            return true;
+        }
+        boolean dryRun = args.length > 2 && args[2].equalsIgnoreCase("--dry-run");
+        
+        // Read off the main thread, then stage and apply on the global thread
+        hologramManager.getTaskScheduler().runAsync(() -> {
+            String text;
+            try {
+                text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                player.sendMessage(ChatColor.RED + "Could not read '" + file.getName() + "': " + e.getMessage());
+                return;
+            }
+            hologramManager.getTaskScheduler().runGlobalLater(() -> applyImport(player, file.getName(), text, dryRun), 1);
+        });
+        player.sendMessage(ChatColor.GRAY + "Reading '" + file.getName() + "'...");
+        return true;
+    }
+    
+    private void applyImport(Player player, String fileName, String text, boolean dryRun) {
+        HologramBatch batch = hologramManager.batch();
+        int count;
+        try {
+            count = HologramTransfer.stage(batch, text, plugin.getServer());
+        } catch (IllegalArgumentException e) {
+            // Nothing was committed, so a bad entry leaves every hologram as it was
+            player.sendMessage(ChatColor.RED + "Import of '" + fileName + "' aborted, nothing was changed: " + e.getMessage());
+            return;
+        }
+        
+        List<String> changes = batch.describeChanges();
+        if (dryRun) {
+            player.sendMessage(ChatColor.GREEN + "Dry run of '" + fileName + "': " + count + " hologram(s), " 
+                    + changes.size() + " change(s)");
+            for (int i = 0; i < Math.min(changes.size(), MAX_LISTED_CHANGES); i++) {
+                String change = changes.get(i);
+                ChatColor color = change.startsWith("+") ? ChatColor.GREEN : change.startsWith("-") ? ChatColor.RED : ChatColor.YELLOW;
+                player.sendMessage(color + change);
+            }
+            if (changes.size() > MAX_LISTED_CHANGES) {
+                player.sendMessage(ChatColor.GRAY + "... and " + (changes.size() - MAX_LISTED_CHANGES) + " more");
+            }
+            return;
+        }
+        
+        int changed;
+        try {
+            changed = batch.commit();
+        } catch (IllegalArgumentException e) {
+            // Holograms changed between staging and committing, the commit checks before applying anything
+            player.sendMessage(ChatColor.RED + "Import of '" + fileName + "' aborted, nothing was changed: " + e.getMessage());
+            return;
+        }
+        player.sendMessage(ChatColor.GREEN + "Imported '" + fileName + "': " + changed + " of " + count 
+                + " hologram(s) created or changed.");
+    }
+    
+    private boolean handleExport(Player player, String[] args) {
+        // Usage: /hologram export [filter] [--json]
+        boolean json = false;
+        String filter = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equalsIgnoreCase("--json")) {
+                json = true;
+            } else {
+                filter = args[i];
+            }
         }
         
+        Pattern pattern = HologramTransfer.compileFilter(filter);
+        List<Hologram> selected = new ArrayList<>();
+        for (Map.Entry<String, Hologram> entry : new TreeMap<>(hologramManager.getAllHolograms()).entrySet()) {
+            if (pattern.matcher(entry.getKey()).matches()) {
+                selected.add(entry.getValue());
+            }
+        }
+        if (selected.isEmpty()) {
+            player.sendMessage(ChatColor.RED + "No holograms match '" + filter + "'.");
+            return true;
+        }
+        
+        // The document is built here, only the write happens off the main thread
+        String text = json ? HologramTransfer.toJson(selected) : HologramTransfer.toYaml(selected);
+        String name = "holograms-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + (json ? ".json" : ".yml");
+        File file = new File(new File(plugin.getDataFolder(), "exports"), name);
+        int count = selected.size();
+        hologramManager.getTaskScheduler().runAsync(() -> {
+            try {
+                file.getParentFile().mkdirs();
+                File temp = new File(file.getParentFile(), name + ".tmp");
+                Files.write(temp.toPath(), text.getBytes(StandardCharsets.UTF_8));
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                player.sendMessage(ChatColor.GREEN + "Exported " + count + " hologram(s) to exports/" + name);
+            } catch (IOException e) {
+                player.sendMessage(ChatColor.RED + "Could not write exports/" + name + ": " + e.getMessage());
+            }
+        });
         return true;
     }
     
+    private boolean handleShift(Player player, String[] args) {
+        // Check if enough arguments: /hologram shift <dx> <dy> <dz> --radius <r>
+        if (args.length < 6 || !args[4].equalsIgnoreCase("--radius")) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram shift <dx> <dy> <dz> --radius <r>");
+            return true;
+        }
+        
+        double dx;
+        double dy;
+        double dz;
+        double radius;
+        try {
+            dx = Double.parseDouble(args[1]);
+            dy = Double.parseDouble(args[2]);
+            dz = Double.parseDouble(args[3]);
+            radius = Double.parseDouble(args[5]);
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Offsets and radius must be numbers.");
+            return true;
+        }
+        
+        double maxRadius = plugin.getConfig().getDouble("holograms.batch.max-shift-radius", 256);
+        if (radius <= 0 || radius > maxRadius) {
+            player.sendMessage(ChatColor.RED + "Radius must be between 0 and " + maxRadius + ".");
+            return true;
+        }
+        
+        // Only the chunks the radius overlaps are looked at, not every hologram
+        List<Hologram> inRadius = hologramManager.getSpatialIndex().getHologramsInRadius(player.getLocation(), radius);
+        if (inRadius.isEmpty()) {
+            player.sendMessage(ChatColor.YELLOW + "There are no holograms within " + radius + " blocks.");
+            return true;
+        }
+        
+        int shifted = hologramManager.batch(batch -> {
+            for (Hologram hologram : inRadius) {
+                batch.shift(hologram.getId(), dx, dy, dz);
+            }
+        });
+        player.sendMessage(ChatColor.GREEN + "Shifted " + shifted + " hologram(s) by " + dx + ", " + dy + ", " + dz + ".");
+        return true;
+    }
+    
+    private boolean handlePriority(Player player, String[] args) {
+        // Check if enough arguments: /hologram priority <id> <value>
+        if (args.length < 3) {
+            player.sendMessage(ChatColor.RED + "Usage: /hologram priority <id> <value>");
+            return true;
+        }
+        
+        Hologram hologram = hologramManager.getHologram(args[1]);
+        if (hologram == null) {
+            player.sendMessage(ChatColor.RED + "No hologram found with ID '" + args[1] + "'.");
+            return true;
+        }
+        
+        int priority;
+        try {
+            priority = Integer.parseInt(args[2]);
+        } catch (NumberFormatException e) {
+            player.sendMessage(ChatColor.RED + "Priority must be a whole number.");
+            return true;
+        }
+        
+        hologramManager.setPriority(hologram, priority);
+        player.sendMessage(ChatColor.GREEN + "Priority of hologram '" + hologram.getId() + "' set to " + priority + 
+                (hologram.isCollapsed() ? ChatColor.YELLOW + ", it is still collapsed to fit its chunk." : "."));
+        return true;
+    }
+    
+    private boolean handleDensity(Player player, String[] args) {
+        // Usage: /hologram density [count]
+        int count = 10;
+        if (args.length > 1) {
+            try {
+                count = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                player.sendMessage(ChatColor.RED + "Count must be a number.");
+                return true;
+            }
+        }
+        
+        HologramDensityBudget density = hologramManager.getDensityBudget();
+        List<HologramDensityBudget.ChunkUsage> densest = density.getDensestChunks(count);
+        if (densest.isEmpty()) {
+            player.sendMessage(ChatColor.YELLOW + "There are no holograms.");
+            return true;
+        }
+        
+        int budget = density.getBudget();
+        player.sendMessage(ChatColor.GREEN + "Densest hologram chunks" + 
+                (budget > 0 ? " (budget " + budget + " line entities):" : " (no budget):"));
+        for (HologramDensityBudget.ChunkUsage usage : densest) {
+            boolean over = budget > 0 && usage.getWantedEntities() > budget;
+            player.sendMessage((over ? ChatColor.RED : ChatColor.AQUA) + "- " + usage.getWorld().getName() + 
+                    " chunk " + usage.getChunkX() + ", " + usage.getChunkZ() + ChatColor.GRAY + ": " + 
+                    usage.getWantedEntities() + " line entities, " + usage.getHologramCount() + " hologram(s)" + 
+                    (usage.getCollapsedCount() > 0 ? ", " + usage.getCollapsedCount() + " collapsed" : ""));
+        }
+        return true;
+    }
+    
+    /**
+     * Warns when a hologram's chunk wants more line entities than the budget allows
+     * 
+     * @param player   The player who changed the hologram
+     * @param hologram The changed hologram
+     */
+    private void warnIfOverBudget(Player player, Hologram hologram) {
+        HologramDensityBudget density = hologramManager.getDensityBudget();
+        HologramDensityBudget.ChunkUsage usage = density.getUsage(hologram);
+        int budget = density.getBudget();
+        if (usage == null || budget <= 0 || usage.getWantedEntities() <= budget) {
+            return;
+        }
+        player.sendMessage(ChatColor.YELLOW + "Warning: this chunk now wants " + usage.getWantedEntities() + 
+                " line entities, over the budget of " + budget + ". " + usage.getCollapsedCount() + 
+                " lower-priority hologram(s) there are collapsed to one line (see /hologram density).");
+    }
+    
+    /**
+     * Resolves a file name inside the exports folder, rejecting paths leading out of it
+     * 
+     * @param name The file name
+     * @return The file, or null if the name points outside the folder
+     */
+    private File resolveExportFile(String name) {
+        File folder = new File(plugin.getDataFolder(), "exports");
+        File file = new File(folder, name);
+        try {
+            if (!file.getCanonicalFile().getParentFile().equals(folder.getCanonicalFile())) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return file;
+    }
+    
+    private void showTemplateHelp(Player player) {
+        player.sendMessage(ChatColor.GREEN + "=== Hologram Template Commands ===");
+        player.sendMessage(ChatColor.AQUA + "/hologram template list " + ChatColor.GRAY + "- List all templates");
+        player.sendMessage(ChatColor.AQUA + "/hologram template create <name> <id> " + ChatColor.GRAY + "- Create a template from a hologram");
+        player.sendMessage(ChatColor.AQUA + "/hologram template setline <name> <line_number> <text> " + ChatColor.GRAY + "- Edit a template line");
+        player.sendMessage(ChatColor.AQUA + "/hologram template addline <name> <text> " + ChatColor.GRAY + "- Add a template line");
+        player.sendMessage(ChatColor.AQUA + "/hologram template removeline <name> <line_number> " + ChatColor.GRAY + "- Remove a template line");
+        player.sendMessage(ChatColor.AQUA + "/hologram template apply <id> <name> " + ChatColor.GRAY + "- Make a hologram use a template");
+        player.sendMessage(ChatColor.AQUA + "/hologram template detach <id> " + ChatColor.GRAY + "- Stop a hologram using its template");
+        player.sendMessage(ChatColor.AQUA + "/hologram template remove <name> " + ChatColor.GRAY + "- Remove a template");
+    }
+    
+    private String valueOrNone(String value) {
+        return value != null ? value : "none";
+    }
+    
     private void showHelp(Player player) {
         player.sendMessage(ChatColor.GREEN + "=== Hologram Commands ===");
         player.sendMessage(ChatColor.AQUA + "/hologram create <id> <text> " + ChatColor.GRAY + "- Create a new hologram");
@@ -348,6 +1083,16 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(ChatColor.AQUA + "/hologram edit <id> <line_number> <new_text> " + ChatColor.GRAY + "- Edit a line");
         player.sendMessage(ChatColor.AQUA + "/hologram move <id> " + ChatColor.GRAY + "- Move hologram to your location");
         player.sendMessage(ChatColor.AQUA + "/hologram info <id> " + ChatColor.GRAY + "- Show hologram information");
+        player.sendMessage(ChatColor.AQUA + "/hologram schedule <id> <field> [value] " + ChatColor.GRAY + "- Set when a hologram is shown");
+        player.sendMessage(ChatColor.AQUA + "/hologram lod <id> <distance|off> [summary] " + ChatColor.GRAY + "- Collapse a hologram for distant viewers");
+        player.sendMessage(ChatColor.AQUA + "/hologram visibility <id> <field> [value] " + ChatColor.GRAY + "- Show a hologram only to some players");
+        player.sendMessage(ChatColor.AQUA + "/hologram template " + ChatColor.GRAY + "- Manage shared hologram templates");
+        player.sendMessage(ChatColor.AQUA + "/hologram click <id> <line_number> <type:value|none> " + ChatColor.GRAY + "- Run a command or message when a line is clicked");
+        player.sendMessage(ChatColor.AQUA + "/hologram import <file> [--dry-run] " + ChatColor.GRAY + "- Create or update holograms from a file in exports/");
+        player.sendMessage(ChatColor.AQUA + "/hologram export [filter] [--json] " + ChatColor.GRAY + "- Write holograms (IDs matching the * filter) to exports/");
+        player.sendMessage(ChatColor.AQUA + "/hologram shift <dx> <dy> <dz> --radius <r> " + ChatColor.GRAY + "- Move every hologram around you");
+        player.sendMessage(ChatColor.AQUA + "/hologram priority <id> <value> " + ChatColor.GRAY + "- Decide which holograms keep their lines in crowded chunks");
+        player.sendMessage(ChatColor.AQUA + "/hologram density [count] " + ChatColor.GRAY + "- List the chunks with the most hologram entities");
     }
     
     @Override
@@ -356,17 +1101,48 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         if (args.length == 1) {
             // Subcommands
-            String[] subCommands = {"create", "remove", "list", "tp", "teleport", "addline", "removeline", "move", "edit", "info"};
+            String[] subCommands = {"create", "remove", "list", "tp", "teleport", "addline", "removeline", "move", "edit", "info", "schedule", "lod", "visibility", "template", "click", "import", "export", "shift", "priority", "density"};
             return filterCompletions(subCommands, args[0]);
         } else if (args.length == 2) {
             // For commands that need a hologram ID as second argument
             String subCommand = args[0].toLowerCase();
             if (subCommand.equals("remove") || subCommand.equals("tp") || subCommand.equals("teleport") || 
                     subCommand.equals("addline") || subCommand.equals("removeline") || 
-                    subCommand.equals("move") || subCommand.equals("edit") || subCommand.equals("info")) {
+                    subCommand.equals("move") || subCommand.equals("edit") || subCommand.equals("info") || 
+                    subCommand.equals("schedule") || subCommand.equals("lod") || subCommand.equals("click") || 
+                    subCommand.equals("priority") || subCommand.equals("visibility")) {
                 
                 return filterCompletions(hologramManager.getAllHolograms().keySet().toArray(new String[0]), args[1]);
             }
+            
+            if (subCommand.equals("import")) {
+                String[] files = new File(plugin.getDataFolder(), "exports").list((dir, name) -> !name.endsWith(".tmp"));
+                return filterCompletions(files != null ? files : new String[0], args[1]);
+            }
+            
+            if (subCommand.equals("template")) {
+                String[] actions = {"list", "create", "setline", "addline", "removeline", "apply", "detach", "remove"};
+                return filterCompletions(actions, args[1]);
+            }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("template")) {
+            String action = args[1].toLowerCase();
+            if (action.equals("apply") || action.equals("detach")) {
+                return filterCompletions(hologramManager.getAllHolograms().keySet().toArray(new String[0]), args[2]);
+            }
+            return filterCompletions(hologramManager.getAllTemplates().keySet().toArray(new String[0]), args[2]);
+        } else if (args.length == 4 && args[0].equalsIgnoreCase("click")) {
+            String[] types = {"command:", "console:", "message:", "menu:", "none"};
+            return filterCompletions(types, args[3]);
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("import")) {
+            return filterCompletions(new String[] {"--dry-run"}, args[2]);
+        } else if (args.length == 5 && args[0].equalsIgnoreCase("shift")) {
+            return filterCompletions(new String[] {"--radius"}, args[4]);
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("schedule")) {
+            String[] fields = {"from", "until", "recurrence", "duration", "clear", "info"};
+            return filterCompletions(fields, args[2]);
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("visibility")) {
+            String[] fields = {"permission", "worlds", "conditions", "clear", "info"};
+            return filterCompletions(fields, args[2]);
         }
         
         return completions;
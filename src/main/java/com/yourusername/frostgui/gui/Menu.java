@@ -0,0 +1,140 @@
+package com.yourusername.frostgui.gui;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * A menu compiled from menus.yml.
+ * <p>
+ * Items and their click handlers are stored in arrays indexed by slot, so a click is
+ * resolved with a single array lookup. Menus without placeholders or a source are
+ * static and every viewer is shown the same shared inventory.
+ */
+public class Menu {
+    private final String name;
+    private final String title;
+    private final int size;
+    private final String permission;
+    private final ItemStack[] staticContents;
+    private final MenuItemTemplate[] itemsBySlot;
+    private final int[] dynamicSlots;
+    private final String sourceName;
+    private final MenuItemTemplate entryTemplate;
+    private final int[] contentSlots;
+    private final int[] contentIndexBySlot;
+    private MenuView sharedView;
+
+    /**
+     * Creates a new menu
+     *
+     * @param name           Name used to open the menu
+     * @param title          Color-translated inventory title
+     * @param size           Number of slots
+     * @param permission     Permission needed to open the menu, may be null
+     * @param staticContents Items that never change, indexed by slot
+     * @param itemsBySlot    Item template of each slot, indexed by slot
+     * @param dynamicSlots   Slots whose item depends on the viewer
+     * @param sourceName     Name of the source filling the content slots, may be null
+     * @param entryTemplate  Template rendering each source entry, may be null
+     * @param contentSlots   Slots filled with source entries
+     */
+    Menu(String name, String title, int size, String permission, ItemStack[] staticContents,
+         MenuItemTemplate[] itemsBySlot, int[] dynamicSlots, String sourceName,
+         MenuItemTemplate entryTemplate, int[] contentSlots) {
+        this.name = name;
+        this.title = title;
+        this.size = size;
+        this.permission = permission;
+        this.staticContents = staticContents;
+        this.itemsBySlot = itemsBySlot;
+        this.dynamicSlots = dynamicSlots;
+        this.sourceName = sourceName;
+        this.entryTemplate = entryTemplate;
+        this.contentSlots = contentSlots;
+        this.contentIndexBySlot = new int[size];
+        Arrays.fill(contentIndexBySlot, -1);
+        for (int i = 0; i < contentSlots.length; i++) {
+            contentIndexBySlot[contentSlots[i]] = i;
+        }
+    }
+
+    /**
+     * @return True if every viewer sees exactly the same items
+     */
+    public boolean isStatic() {
+        return dynamicSlots.length == 0 && sourceName == null;
+    }
+
+    /**
+     * @return True if the content slots are filled from a source
+     */
+    public boolean isPaginated() {
+        return sourceName != null;
+    }
+
+    /**
+     * Gets the item template of a slot
+     *
+     * @param slot The slot
+     * @return The template, or null if the slot has no configured item
+     */
+    MenuItemTemplate getItem(int slot) {
+        return slot >= 0 && slot < itemsBySlot.length ? itemsBySlot[slot] : null;
+    }
+
+    /**
+     * Gets the position of a slot among the content slots
+     *
+     * @param slot The slot
+     * @return Index into the content slots, or -1 if the slot shows no source entry
+     */
+    int getContentIndex(int slot) {
+        return slot >= 0 && slot < contentIndexBySlot.length ? contentIndexBySlot[slot] : -1;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getPermission() {
+        return permission;
+    }
+
+    ItemStack[] getStaticContents() {
+        return staticContents;
+    }
+
+    int[] getDynamicSlots() {
+        return dynamicSlots;
+    }
+
+    String getSourceName() {
+        return sourceName;
+    }
+
+    MenuItemTemplate getEntryTemplate() {
+        return entryTemplate;
+    }
+
+    int[] getContentSlots() {
+        return contentSlots;
+    }
+
+    MenuView getSharedView() {
+        return sharedView;
+    }
+
+    void setSharedView(MenuView sharedView) {
+        this.sharedView = sharedView;
+    }
+}
@@ -0,0 +1,79 @@
+package com.yourusername.frostgui.gui;
+
+import com.yourusername.frostgui.hologram.HologramClickAction;
+
+import java.util.Locale;
+
+/**
+ * Action executed when a menu slot is clicked.
+ * <p>
+ * Besides the hologram click actions (command, console, message, menu) menus support
+ * close, next-page, previous-page and refresh.
+ */
+public class MenuAction {
+
+    /**
+     * Kinds of menu actions
+     */
+    public enum Type {
+        CLOSE,
+        NEXT_PAGE,
+        PREVIOUS_PAGE,
+        REFRESH,
+        OPEN_MENU,
+        CLICK
+    }
+
+    private final Type type;
+    private final String menuName;
+    private final HologramClickAction clickAction;
+
+    private MenuAction(Type type, String menuName, HologramClickAction clickAction) {
+        this.type = type;
+        this.menuName = menuName;
+        this.clickAction = clickAction;
+    }
+
+    /**
+     * Parses a menu action
+     *
+     * @param text The action text, e.g. "close" or "command:spawn"
+     * @return The parsed action
+     * @throws IllegalArgumentException If the action is not valid
+     */
+    public static MenuAction parse(String text) {
+        String trimmed = text.trim();
+        switch (trimmed.toLowerCase(Locale.ROOT)) {
+            case "close":
+                return new MenuAction(Type.CLOSE, null, null);
+            case "next-page":
+                return new MenuAction(Type.NEXT_PAGE, null, null);
+            case "previous-page":
+                return new MenuAction(Type.PREVIOUS_PAGE, null, null);
+            case "refresh":
+                return new MenuAction(Type.REFRESH, null, null);
+            default:
+                break;
+        }
+
+        HologramClickAction clickAction = HologramClickAction.parse(trimmed);
+        if (clickAction.getType() == HologramClickAction.Type.MENU) {
+            // Opened directly instead of going through /frostgui menu
+            return new MenuAction(Type.OPEN_MENU, clickAction.getValue(), null);
+        }
+        return new MenuAction(Type.CLICK, null, clickAction);
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public HologramClickAction getClickAction() {
+        return clickAction;
+    }
+}
@@ -0,0 +1,140 @@
+package com.yourusername.frostgui.gui;
+
+import com.yourusername.frostgui.hologram.HologramPlaceholders;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An item compiled once per reload from menus.yml.
+ * <p>
+ * The material, amount and color-translated text are prepared up front. Static items
+ * hand out the same prepared ItemStack every time; items with placeholders only render
+ * their text per viewer and build a new ItemStack when that text changed.
+ */
+public class MenuItemTemplate {
+    private final ItemStack base;
+    private final String[] text;
+    private final HologramPlaceholders.PlaceholderLine[] placeholderLines;
+    private final MenuAction action;
+    private final String actionText;
+
+    /**
+     * Creates a new item template
+     *
+     * @param base             Item with material, amount and static meta applied
+     * @param text             Color-translated name (null for the default name) followed by the lore lines
+     * @param placeholderLines Placeholder line for each text line (null entries for static lines), or null if the item is static
+     * @param action           Action run when the item is clicked, may be null
+     * @param actionText       Unparsed action of source entries, may be null
+     */
+    MenuItemTemplate(ItemStack base, String[] text, HologramPlaceholders.PlaceholderLine[] placeholderLines,
+                     MenuAction action, String actionText) {
+        this.base = base;
+        this.text = text;
+        this.placeholderLines = placeholderLines;
+        this.action = action;
+        this.actionText = actionText;
+    }
+
+    /**
+     * @return True if the item text depends on the viewer
+     */
+    public boolean isDynamic() {
+        return placeholderLines != null;
+    }
+
+    /**
+     * Renders the text of the item for a viewer
+     *
+     * @param viewer The viewing player
+     * @return Name followed by the lore lines
+     */
+    String[] renderText(Player viewer) {
+        if (placeholderLines == null) {
+            return text;
+        }
+        String[] rendered = text.clone();
+        for (int i = 0; i < rendered.length; i++) {
+            if (placeholderLines[i] != null) {
+                rendered[i] = placeholderLines[i].render(viewer);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders the text of a source entry
+     *
+     * @param values Placeholder values of the entry
+     * @return Name followed by the lore lines
+     */
+    String[] renderText(Map<String, String> values) {
+        String[] rendered = text.clone();
+        for (int i = 0; i < rendered.length; i++) {
+            if (rendered[i] != null) {
+                rendered[i] = replaceValues(rendered[i], values);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Builds an item showing already rendered text
+     *
+     * @param rendered Name followed by the lore lines
+     * @return The item
+     */
+    ItemStack build(String[] rendered) {
+        if (rendered == text) {
+            return base;
+        }
+        ItemStack item = base.clone();
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(rendered[0]);
+            meta.setLore(rendered.length > 1 ? Arrays.asList(Arrays.copyOfRange(rendered, 1, rendered.length)) : null);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    /**
+     * Replaces {key} tokens with the given values
+     *
+     * @param input  Text containing tokens
+     * @param values Placeholder values
+     * @return The text with every known token replaced
+     */
+    static String replaceValues(String input, Map<String, String> values) {
+        if (input.indexOf('{') < 0) {
+            return input;
+        }
+        String result = input;
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            result = result.replace("{" + value.getKey() + "}", value.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * @return The prepared item used for static slots
+     */
+    ItemStack getBase() {
+        return base;
+    }
+
+    public MenuAction getAction() {
+        return action;
+    }
+
+    /**
+     * @return Unparsed action of source entries, resolved per entry when clicked
+     */
+    String getActionText() {
+        return actionText;
+    }
+}
@@ -0,0 +1,522 @@
+package com.yourusername.frostgui.gui;
+
+import com.yourusername.frostgui.hologram.Hologram;
+import com.yourusername.frostgui.hologram.HologramManager;
+import com.yourusername.frostgui.hologram.HologramPlaceholders;
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.metrics.QosGovernor;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads the menus defined in menus.yml and keeps track of the menus players have open
+ */
+public class MenuManager {
+    private final JavaPlugin plugin;
+    private final HologramManager hologramManager;
+    private final File menusFile;
+    private final Map<String, Menu> menus;
+    private final Map<String, MenuSource> sources;
+    private final Map<UUID, MenuView> openViews;
+    private final AtomicLong onlinePlayersVersion;
+    private final QosGovernor governor;
+    private final LatencyHistogram refreshTime;
+    private TaskHandle refreshTask;
+    private long refreshRuns;
+
+    /**
+     * Creates a new MenuManager and loads the menus
+     *
+     * @param plugin          The JavaPlugin instance
+     * @param hologramManager The hologram manager, used for placeholders and the hologram browser
+     */
+    public MenuManager(JavaPlugin plugin, HologramManager hologramManager) {
+        this.plugin = plugin;
+        this.hologramManager = hologramManager;
+        this.menusFile = new File(plugin.getDataFolder(), "menus.yml");
+        this.menus = new HashMap<>();
+        this.sources = new HashMap<>();
+        this.openViews = new HashMap<>();
+        this.onlinePlayersVersion = new AtomicLong();
+        this.governor = hologramManager.getMetrics().getGovernor();
+        this.refreshTime = hologramManager.getMetrics().histogram("frostgui_menu_refresh_seconds", 
+                "Time spent re-rendering open menus");
+
+        registerBuiltInSources();
+
+        if (!menusFile.exists()) {
+            plugin.saveResource("menus.yml", false);
+        }
+        loadMenus();
+    }
+
+    /**
+     * Opens a menu for a player
+     *
+     * @param player The player
+     * @param name   Name of the menu
+     * @return True if opened, false if the menu doesn't exist or the player lacks permission
+     */
+    public boolean open(Player player, String name) {
+        Menu menu = menus.get(name);
+        if (menu == null) {
+            return false;
+        }
+        if (menu.getPermission() != null && !player.hasPermission(menu.getPermission())) {
+            return false;
+        }
+
+        // Static menus are the same for everyone, so they all share one inventory
+        if (menu.isStatic()) {
+            player.openInventory(menu.getSharedView().getInventory());
+            return true;
+        }
+
+        MenuView view = new MenuView(this, menu, player);
+        view.refresh();
+        player.openInventory(view.getInventory());
+        openViews.put(player.getUniqueId(), view);
+        startRefreshTask();
+        return true;
+    }
+
+    /**
+     * Re-renders the menu a player has open, if any
+     *
+     * @param player The player
+     */
+    public void refresh(Player player) {
+        MenuView view = openViews.get(player.getUniqueId());
+        if (view != null) {
+            view.refresh();
+        }
+    }
+
+    /**
+     * Registers a source that paginated menus can list entries from
+     *
+     * @param name   Name used as "source" in menus.yml
+     * @param source The source
+     */
+    public void registerSource(String name, MenuSource source) {
+        sources.put(name, source);
+    }
+
+    /**
+     * Gets a registered source
+     *
+     * @param name Name of the source
+     * @return The source, or null if not registered
+     */
+    public MenuSource getSource(String name) {
+        return sources.get(name);
+    }
+
+    /**
+     * @return Names of all loaded menus
+     */
+    public Set<String> getMenuNames() {
+        return Collections.unmodifiableSet(menus.keySet());
+    }
+
+    /**
+     * Handles a click inside a menu. The action runs on the next tick, as inventories
+     * must not be opened or closed from within the click event, and on the thread owning the player.
+     *
+     * @param view   The clicked menu
+     * @param player The clicking player
+     * @param slot   The clicked slot
+     */
+    public void handleClick(MenuView view, Player player, int slot) {
+        FrostScheduler scheduler = hologramManager.getTaskScheduler();
+        scheduler.runGlobalLater(() -> scheduler.executeForEntity(player, () -> {
+            scheduler.checkEntity(player, "Menu click");
+            view.handleClick(player, slot);
+        }), 1);
+    }
+
+    /**
+     * Makes open player lists fetch the online players again, after a player joined or quit
+     */
+    public void handleOnlinePlayersChanged() {
+        onlinePlayersVersion.incrementAndGet();
+    }
+
+    /**
+     * Forgets the view of a player who closed a menu
+     *
+     * @param view   The closed menu
+     * @param player The player
+     */
+    public void handleClose(MenuView view, Player player) {
+        if (openViews.remove(player.getUniqueId(), view) && openViews.isEmpty()) {
+            stopRefreshTask();
+        }
+    }
+
+    /**
+     * Closes every open menu and compiles the menus again from menus.yml
+     */
+    public void reload() {
+        closeAll();
+        loadMenus();
+    }
+
+    /**
+     * Closes every open menu
+     */
+    public void closeAll() {
+        for (MenuView view : new ArrayList<>(openViews.values())) {
+            view.getViewer().closeInventory();
+        }
+        for (Menu menu : menus.values()) {
+            if (menu.getSharedView() != null) {
+                for (HumanEntity viewer : new ArrayList<>(menu.getSharedView().getInventory().getViewers())) {
+                    viewer.closeInventory();
+                }
+            }
+        }
+        openViews.clear();
+        stopRefreshTask();
+    }
+
+    /**
+     * Gets the plugin owning this manager
+     *
+     * @return The JavaPlugin instance
+     */
+    public JavaPlugin getPlugin() {
+        return plugin;
+    }
+
+    private void registerBuiltInSources() {
+        registerSource("players", new MenuSource() {
+            @Override
+            public List<String> getKeys(Player viewer) {
+                List<String> names = new ArrayList<>();
+                for (Player player : plugin.getServer().getOnlinePlayers()) {
+                    if (viewer.canSee(player)) {
+                        names.add(player.getName());
+                    }
+                }
+                Collections.sort(names, String.CASE_INSENSITIVE_ORDER);
+                return names;
+            }
+
+            @Override
+            public long getVersion(Player viewer) {
+                return onlinePlayersVersion.get();
+            }
+
+            @Override
+            public Map<String, String> resolve(String key, Player viewer) {
+                Player player = plugin.getServer().getPlayerExact(key);
+                if (player == null) {
+                    return null;
+                }
+                Map<String, String> values = new HashMap<>();
+                values.put("name", player.getName());
+                values.put("displayname", player.getDisplayName());
+                values.put("world", player.getWorld().getName());
+                return values;
+            }
+        });
+
+        registerSource("holograms", new MenuSource() {
+            @Override
+            public List<String> getKeys(Player viewer) {
+                List<String> ids = new ArrayList<>(hologramManager.getAllHolograms().keySet());
+                Collections.sort(ids);
+                return ids;
+            }
+
+            @Override
+            public long getVersion(Player viewer) {
+                return hologramManager.getRegistryVersion();
+            }
+
+            @Override
+            public Map<String, String> resolve(String key, Player viewer) {
+                Hologram hologram = hologramManager.getHologram(key);
+                if (hologram == null) {
+                    return null;
+                }
+                Map<String, String> values = new HashMap<>();
+                values.put("id", hologram.getId());
+                values.put("world", hologram.getWorld() != null ? hologram.getWorld().getName() : "?");
+                values.put("x", String.valueOf(Math.round(hologram.getX())));
+                values.put("y", String.valueOf(Math.round(hologram.getY())));
+                values.put("z", String.valueOf(Math.round(hologram.getZ())));
+                values.put("lines", String.valueOf(hologram.getLineCount()));
+                values.put("first-line", hologram.getLineCount() > 0
+                        ? ChatColor.translateAlternateColorCodes('&', hologram.getRawLine(0)) : "");
+                return values;
+            }
+        });
+    }
+
+    /**
+     * Loads and compiles every menu from menus.yml
+     */
+    private void loadMenus() {
+        menus.clear();
+        FileConfiguration menusConfig = YamlConfiguration.loadConfiguration(menusFile);
+        ConfigurationSection section = menusConfig.getConfigurationSection("menus");
+        if (section == null) {
+            return;
+        }
+
+        for (String name : section.getKeys(false)) {
+            ConfigurationSection menuSection = section.getConfigurationSection(name);
+            if (menuSection == null) {
+                continue;
+            }
+
+            Menu menu = compileMenu(name, menuSection);
+            if (menu.isStatic()) {
+                menu.setSharedView(new MenuView(this, menu, null));
+            }
+            menus.put(name, menu);
+        }
+    }
+
+    private Menu compileMenu(String name, ConfigurationSection section) {
+        // The main menu falls back to the gui section of config.yml
+        boolean main = name.equals("main");
+        String title = section.getString("title",
+                main ? plugin.getConfig().getString("gui.main-menu-title", "&b&lFrostGUI") : name);
+        int rows = Math.max(1, Math.min(6, section.getInt("rows", main ? plugin.getConfig().getInt("gui.rows", 3) : 3)));
+        int size = rows * 9;
+
+        ItemStack[] staticContents = new ItemStack[size];
+        MenuItemTemplate[] itemsBySlot = new MenuItemTemplate[size];
+        List<Integer> dynamicSlots = new ArrayList<>();
+
+        ConfigurationSection itemsSection = section.getConfigurationSection("items");
+        if (itemsSection != null) {
+            for (String key : itemsSection.getKeys(false)) {
+                ConfigurationSection itemSection = itemsSection.getConfigurationSection(key);
+                if (itemSection == null) {
+                    continue;
+                }
+
+                MenuItemTemplate item = compileItem(name + "." + key, itemSection, false);
+                if (item == null) {
+                    continue;
+                }
+
+                List<Integer> slots = itemSection.isList("slots")
+                        ? itemSection.getIntegerList("slots")
+                        : Collections.singletonList(itemSection.getInt("slot", -1));
+                for (int slot : slots) {
+                    if (slot < 0 || slot >= size) {
+                        plugin.getLogger().warning("Item '" + key + "' in menu '" + name + "' has invalid slot " + slot);
+                        continue;
+                    }
+                    itemsBySlot[slot] = item;
+                    if (item.isDynamic()) {
+                        dynamicSlots.add(slot);
+                    } else {
+                        staticContents[slot] = item.getBase();
+                    }
+                }
+            }
+        }
+
+        // Paginated menus list the entries of a source in their content slots
+        String sourceName = section.getString("source");
+        MenuItemTemplate entryTemplate = null;
+        int[] contentSlots = new int[0];
+        if (sourceName != null) {
+            ConfigurationSection entrySection = section.getConfigurationSection("entry");
+            entryTemplate = entrySection != null ? compileItem(name + ".entry", entrySection, true) : null;
+            if (entryTemplate == null || !sources.containsKey(sourceName)) {
+                plugin.getLogger().warning("Menu '" + name + "' has an unknown source or no valid entry, ignoring the source");
+                sourceName = null;
+            } else {
+                contentSlots = compileContentSlots(section, size, itemsBySlot);
+            }
+        }
+
+        // Fill the remaining slots
+        Material fillerMaterial = section.contains("filler") ? Material.matchMaterial(section.getString("filler", "")) : null;
+        if (fillerMaterial != null) {
+            ItemStack filler = new ItemStack(fillerMaterial);
+            ItemMeta meta = filler.getItemMeta();
+            if (meta != null) {
+                meta.setDisplayName(" ");
+                filler.setItemMeta(meta);
+            }
+            boolean[] content = new boolean[size];
+            for (int slot : contentSlots) {
+                content[slot] = true;
+            }
+            for (int slot = 0; slot < size; slot++) {
+                if (itemsBySlot[slot] == null && !content[slot]) {
+                    staticContents[slot] = filler;
+                }
+            }
+        }
+
+        int[] dynamic = new int[dynamicSlots.size()];
+        for (int i = 0; i < dynamic.length; i++) {
+            dynamic[i] = dynamicSlots.get(i);
+        }
+
+        return new Menu(name, ChatColor.translateAlternateColorCodes('&', title), size,
+                section.getString("permission"), staticContents, itemsBySlot, dynamic,
+                sourceName, entryTemplate, contentSlots);
+    }
+
+    /**
+     * Reads the content slots of a paginated menu. Defaults to every free slot above the last row.
+     */
+    private int[] compileContentSlots(ConfigurationSection section, int size, MenuItemTemplate[] itemsBySlot) {
+        List<Integer> slots = new ArrayList<>();
+        if (section.isList("content-slots")) {
+            for (int slot : section.getIntegerList("content-slots")) {
+                if (slot >= 0 && slot < size && itemsBySlot[slot] == null && !slots.contains(slot)) {
+                    slots.add(slot);
+                }
+            }
+        } else {
+            int end = size > 9 ? size - 9 : size;
+            for (int slot = 0; slot < end; slot++) {
+                if (itemsBySlot[slot] == null) {
+                    slots.add(slot);
+                }
+            }
+        }
+
+        int[] result = new int[slots.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = slots.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Compiles one item from its section
+     *
+     * @param path    Path used in warnings
+     * @param section The item section
+     * @param entry   True for the entry template of a paginated menu
+     * @return The compiled item, or null if it is invalid
+     */
+    private MenuItemTemplate compileItem(String path, ConfigurationSection section, boolean entry) {
+        String materialName = section.getString("material", "STONE");
+        Material material = Material.matchMaterial(materialName);
+        if (material == null || material.isAir()) {
+            plugin.getLogger().warning("Skipping menu item '" + path + "' with invalid material '" + materialName + "'");
+            return null;
+        }
+
+        ItemStack base = new ItemStack(material, Math.max(1, Math.min(64, section.getInt("amount", 1))));
+
+        // Name first, then the lore lines
+        List<String> lore = section.getStringList("lore");
+        String[] text = new String[lore.size() + 1];
+        String name = section.getString("name");
+        text[0] = name != null ? ChatColor.translateAlternateColorCodes('&', name) : null;
+        for (int i = 0; i < lore.size(); i++) {
+            text[i + 1] = ChatColor.translateAlternateColorCodes('&', lore.get(i));
+        }
+
+        // Viewer placeholders are shared with holograms; entries use the values of their source instead
+        HologramPlaceholders.PlaceholderLine[] placeholderLines = null;
+        if (!entry) {
+            HologramPlaceholders placeholders = hologramManager.getPlaceholders();
+            for (int i = 0; i < text.length; i++) {
+                HologramPlaceholders.PlaceholderLine line = text[i] != null ? placeholders.compile(text[i]) : null;
+                if (line != null) {
+                    if (placeholderLines == null) {
+                        placeholderLines = new HologramPlaceholders.PlaceholderLine[text.length];
+                    }
+                    placeholderLines[i] = line;
+                }
+            }
+        }
+
+        ItemMeta meta = base.getItemMeta();
+        if (meta != null) {
+            if (text[0] != null) {
+                meta.setDisplayName(text[0]);
+            }
+            if (!lore.isEmpty()) {
+                List<String> compiledLore = new ArrayList<>(lore.size());
+                for (int i = 1; i < text.length; i++) {
+                    compiledLore.add(text[i]);
+                }
+                meta.setLore(compiledLore);
+            }
+            if (section.contains("custom-model-data")) {
+                meta.setCustomModelData(section.getInt("custom-model-data"));
+            }
+            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
+            base.setItemMeta(meta);
+        }
+
+        String actionText = section.getString("action");
+        MenuAction action = null;
+        if (actionText != null && !entry) {
+            try {
+                action = MenuAction.parse(actionText);
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Ignoring action of menu item '" + path + "': " + e.getMessage());
+            }
+        }
+
+        return new MenuItemTemplate(base, text, placeholderLines, action, entry ? actionText : null);
+    }
+
+    private void startRefreshTask() {
+        if (refreshTask != null) {
+            return;
+        }
+
+        long interval = Math.max(1, plugin.getConfig().getLong("gui.refresh-interval", 20));
+        refreshTask = hologramManager.getTaskScheduler().runGlobalTimer(() -> {
+            // Under tick pressure open menus are re-rendered less often
+            if (!governor.shouldRefresh(refreshRuns++)) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (MenuView view : new ArrayList<>(openViews.values())) {
+                // Inventories belong to the viewer, so each view renders on its player's thread
+                if (view.getViewer() != null) {
+                    hologramManager.getTaskScheduler().executeForEntity(view.getViewer(), view::refresh);
+                }
+            }
+            refreshTime.recordSince(start);
+        }, interval, interval);
+    }
+
+    private void stopRefreshTask() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.yourusername.frostgui.gui;
+
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supplies the entries of a paginated menu such as a player list or hologram browser.
+ * <p>
+ * Only the keys of all entries are requested up front; the placeholder values of an
+ * entry are only resolved once its page is actually shown.
+ */
+public interface MenuSource {
+
+    /**
+     * Gets the keys of all entries in display order. An open menu keeps the keys until
+     * {@link #getVersion} changes or its page is turned.
+     *
+     * @param viewer The player viewing the menu
+     * @return Entry keys
+     */
+    List<String> getKeys(Player viewer);
+
+    /**
+     * Resolves the placeholder values of one entry, e.g. {name} or {world}
+     *
+     * @param key    The entry key
+     * @param viewer The player viewing the menu
+     * @return Placeholder name to value, or null if the entry no longer exists
+     */
+    Map<String, String> resolve(String key, Player viewer);
+
+    /**
+     * Gets a number that changes whenever the keys may have changed
+     *
+     * @param viewer The player viewing the menu
+     * @return The version of the keys, or -1 to request the keys on every refresh
+     */
+    default long getVersion(Player viewer) {
+        return -1;
+    }
+}
@@ -0,0 +1,207 @@
+package com.yourusername.frostgui.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An open menu inventory.
+ * <p>
+ * Static menus have a single shared view without a viewer. Other menus get a view per
+ * player that remembers the text last rendered into each slot, so a refresh only
+ * touches the slots whose item actually changed.
+ */
+public class MenuView implements InventoryHolder {
+    private final MenuManager manager;
+    private final Menu menu;
+    private final Player viewer;
+    private final Inventory inventory;
+    private final String[][] renderedText;
+    private final String[] entryKeys;
+    private List<String> keys;
+    private long keysVersion;
+    private int page;
+    private int pageCount = 1;
+
+    /**
+     * Creates a new view and fills in the static items
+     *
+     * @param manager The owning menu manager
+     * @param menu    The menu shown
+     * @param viewer  The viewing player, or null for the shared view of a static menu
+     */
+    MenuView(MenuManager manager, Menu menu, Player viewer) {
+        this.manager = manager;
+        this.menu = menu;
+        this.viewer = viewer;
+        this.renderedText = new String[menu.getSize()][];
+        this.entryKeys = new String[menu.getContentSlots().length];
+        this.inventory = manager.getPlugin().getServer().createInventory(this, menu.getSize(), menu.getTitle());
+        inventory.setContents(menu.getStaticContents().clone());
+    }
+
+    /**
+     * Re-renders the viewer-dependent slots and the current page, only updating slots
+     * whose item changed
+     */
+    public void refresh() {
+        if (viewer == null) {
+            return;
+        }
+
+        for (int slot : menu.getDynamicSlots()) {
+            MenuItemTemplate item = menu.getItem(slot);
+            setIfChanged(slot, item, item.renderText(viewer));
+        }
+
+        if (menu.isPaginated()) {
+            renderPage();
+        }
+    }
+
+    /**
+     * Builds the entries of the current page. Only the entries on this page are resolved.
+     */
+    private void renderPage() {
+        MenuSource source = manager.getSource(menu.getSourceName());
+        int[] contentSlots = menu.getContentSlots();
+        long version = source != null ? source.getVersion(viewer) : 0;
+        if (keys == null || version == -1 || version != keysVersion) {
+            keys = source != null ? source.getKeys(viewer) : List.of();
+            keysVersion = version;
+        }
+
+        pageCount = Math.max(1, (keys.size() + contentSlots.length - 1) / Math.max(1, contentSlots.length));
+        page = Math.min(page, pageCount - 1);
+
+        int start = page * contentSlots.length;
+        for (int i = 0; i < contentSlots.length; i++) {
+            int index = start + i;
+            Map<String, String> values = index < keys.size() ? source.resolve(keys.get(index), viewer) : null;
+            if (values == null) {
+                clearSlot(contentSlots[i]);
+                entryKeys[i] = null;
+                continue;
+            }
+
+            entryKeys[i] = keys.get(index);
+            MenuItemTemplate entry = menu.getEntryTemplate();
+            setIfChanged(contentSlots[i], entry, entry.renderText(values));
+        }
+    }
+
+    private void setIfChanged(int slot, MenuItemTemplate item, String[] text) {
+        if (Arrays.equals(renderedText[slot], text)) {
+            return;
+        }
+        renderedText[slot] = text;
+        inventory.setItem(slot, item.build(text));
+    }
+
+    private void clearSlot(int slot) {
+        if (renderedText[slot] != null) {
+            renderedText[slot] = null;
+            inventory.setItem(slot, menu.getStaticContents()[slot]);
+        }
+    }
+
+    /**
+     * Handles a click on a slot of this menu
+     *
+     * @param player The clicking player
+     * @param slot   The clicked slot
+     */
+    void handleClick(Player player, int slot) {
+        int contentIndex = menu.getContentIndex(slot);
+        if (contentIndex >= 0) {
+            handleEntryClick(player, contentIndex);
+            return;
+        }
+
+        MenuItemTemplate item = menu.getItem(slot);
+        if (item != null && item.getAction() != null) {
+            execute(player, item.getAction());
+        }
+    }
+
+    private void handleEntryClick(Player player, int contentIndex) {
+        String key = entryKeys[contentIndex];
+        String actionText = menu.getEntryTemplate().getActionText();
+        MenuSource source = manager.getSource(menu.getSourceName());
+        if (key == null || actionText == null || source == null) {
+            return;
+        }
+
+        // The entry may have disappeared since the page was rendered
+        Map<String, String> values = source.resolve(key, player);
+        if (values == null) {
+            keys = null;
+            refresh();
+            return;
+        }
+
+        try {
+            execute(player, MenuAction.parse(MenuItemTemplate.replaceValues(actionText, values)));
+        } catch (IllegalArgumentException e) {
+            manager.getPlugin().getLogger().warning("Invalid entry action in menu '" + menu.getName() + "': " + e.getMessage());
+        }
+    }
+
+    private void execute(Player player, MenuAction action) {
+        switch (action.getType()) {
+            case CLOSE:
+                player.closeInventory();
+                break;
+            case NEXT_PAGE:
+                if (page < pageCount - 1) {
+                    page++;
+                    keys = null;
+                    refresh();
+                }
+                break;
+            case PREVIOUS_PAGE:
+                if (page > 0) {
+                    page--;
+                    keys = null;
+                    refresh();
+                }
+                break;
+            case REFRESH:
+                keys = null;
+                refresh();
+                break;
+            case OPEN_MENU:
+                manager.open(player, action.getMenuName());
+                break;
+            case CLICK:
+                action.getClickAction().execute(player);
+                break;
+        }
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    // Getters
+    public Menu getMenu() {
+        return menu;
+    }
+
+    public Player getViewer() {
+        return viewer;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+}
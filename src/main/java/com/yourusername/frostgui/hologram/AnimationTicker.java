@@ -0,0 +1,211 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.metrics.PluginMetrics;
+import com.yourusername.frostgui.metrics.QosGovernor;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Drives every animated hologram line from one global tick loop.
+ * <p>
+ * Frame indices are derived from the global tick by integer math, and an armor stand
+ * is only renamed when its visible frame changes. Holograms without a player nearby
+ * are paused until someone comes back into range, and all animations slow down or
+ * pause while the {@link QosGovernor} sheds work. The loop runs on the global thread and
+ * hands each hologram's frame over to the thread owning its region.
+ */
+public class AnimationTicker {
+    /** How often (in ticks) holograms are checked for nearby viewers */
+    private static final int VIEWER_CHECK_INTERVAL = 20;
+
+    /**
+     * The animated lines of one shown hologram
+     */
+    private static final class AnimatedHologram {
+        private final Location location;
+        private final ArmorStand[] stands;
+        private final HologramAnimation[] animations;
+        private final int[] lastFrames;
+        private Runnable renderTask;
+        private Runnable catchUpTask;
+        private volatile boolean active;
+
+        private AnimatedHologram(Location location, ArmorStand[] stands, HologramAnimation[] animations) {
+            this.location = location;
+            this.stands = stands;
+            this.animations = animations;
+            this.lastFrames = new int[stands.length];
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final FrostScheduler scheduler;
+    private final QosGovernor governor;
+    private final LatencyHistogram tickTime;
+    private final Map<Hologram, AnimatedHologram> byHologram;
+    private final List<AnimatedHologram> animated;
+    /** Reused for viewer positions by the ticker, so viewer checks allocate nothing */
+    private final Location viewerLocation;
+    private TaskHandle tickTask;
+    private long tick;
+
+    /**
+     * Creates a new AnimationTicker
+     *
+     * @param plugin    The JavaPlugin instance
+     * @param metrics   Registry receiving the tick timings
+     * @param scheduler Scheduler running the loop and the frame updates
+     */
+    public AnimationTicker(JavaPlugin plugin, PluginMetrics metrics, FrostScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.governor = metrics.getGovernor();
+        this.tickTime = metrics.histogram("frostgui_animation_tick_seconds", "Time spent advancing hologram animations");
+        // Holograms register on their region's thread while the ticker iterates on the global one
+        this.byHologram = new ConcurrentHashMap<>();
+        this.animated = new CopyOnWriteArrayList<>();
+        this.viewerLocation = new Location(null, 0, 0, 0);
+    }
+
+    /**
+     * Registers the animated lines of a hologram that has just been shown
+     *
+     * @param hologram   The hologram owning the lines
+     * @param location   Location of the hologram
+     * @param stands     Armor stands of the animated lines
+     * @param animations Animation for each armor stand
+     */
+    synchronized void register(Hologram hologram, Location location, ArmorStand[] stands, HologramAnimation[] animations) {
+        unregister(hologram);
+
+        AnimatedHologram entry = new AnimatedHologram(location, stands, animations);
+        // Bound once, so handing a frame to the region thread allocates nothing per tick
+        entry.renderTask = () -> render(entry, false);
+        entry.catchUpTask = () -> render(entry, true);
+        // Registering may run on the hologram's region thread, so it does not share the ticker's location
+        entry.active = hasNearbyViewer(entry, viewRangeSquared(), new Location(null, 0, 0, 0));
+        render(entry, true);
+
+        byHologram.put(hologram, entry);
+        animated.add(entry);
+        startTicker();
+    }
+
+    /**
+     * Stops animating a hologram
+     *
+     * @param hologram The hologram to stop animating
+     */
+    synchronized void unregister(Hologram hologram) {
+        AnimatedHologram entry = byHologram.remove(hologram);
+        if (entry != null) {
+            animated.remove(entry);
+            if (animated.isEmpty()) {
+                stopTicker();
+            }
+        }
+    }
+
+    /**
+     * Stops the ticker and forgets every registered hologram
+     */
+    public synchronized void shutdown() {
+        byHologram.clear();
+        animated.clear();
+        stopTicker();
+    }
+
+    /**
+     * @return The number of holograms with animated lines
+     */
+    public int getAnimatedCount() {
+        return animated.size();
+    }
+
+    private void tick() {
+        tick++;
+        // Frames are derived from the tick, so skipped ticks simply catch up later
+        if (!governor.shouldAnimate(tick)) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean checkViewers = tick % VIEWER_CHECK_INTERVAL == 0;
+        double rangeSquared = checkViewers ? viewRangeSquared() : 0;
+
+        for (AnimatedHologram entry : animated) {
+            if (checkViewers) {
+                boolean wasActive = entry.active;
+                entry.active = hasNearbyViewer(entry, rangeSquared, viewerLocation);
+                if (entry.active && !wasActive) {
+                    // Catch up immediately when a viewer comes back into range
+                    scheduler.executeAt(entry.location, entry.catchUpTask);
+                    continue;
+                }
+            }
+            if (entry.active) {
+                scheduler.executeAt(entry.location, entry.renderTask);
+            }
+        }
+        tickTime.recordSince(start);
+    }
+
+    /**
+     * Pushes the current frame of each line, only renaming stands whose frame changed
+     */
+    private void render(AnimatedHologram entry, boolean force) {
+        scheduler.checkRegion(entry.location, "Animation frame");
+        for (int i = 0; i < entry.stands.length; i++) {
+            HologramAnimation animation = entry.animations[i];
+            int frame = animation.frameAt(tick);
+            if (force || frame != entry.lastFrames[i]) {
+                entry.lastFrames[i] = frame;
+                entry.stands[i].setCustomName(animation.getFrame(frame));
+            }
+        }
+    }
+
+    private double viewRangeSquared() {
+        double range = plugin.getConfig().getDouble("holograms.animation-view-distance", 48) * governor.getViewDistanceScale();
+        return range * range;
+    }
+
+    private boolean hasNearbyViewer(AnimatedHologram entry, double rangeSquared, Location scratch) {
+        World world = entry.location.getWorld();
+        if (world == null) {
+            return false;
+        }
+
+        for (Player player : world.getPlayers()) {
+            if (player.getLocation(scratch).distanceSquared(entry.location) <= rangeSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void startTicker() {
+        if (tickTask != null) {
+            return;
+        }
+
+        tickTask = scheduler.runGlobalTimer(this::tick, 1, 1);
+    }
+
+    private void stopTicker() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+}
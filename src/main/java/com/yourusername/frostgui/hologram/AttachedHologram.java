@@ -0,0 +1,100 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.ChatColor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A label riding on an entity, such as a name above an NPC, pet or minecart.
+ * Created through {@link AttachedHologramManager#attach} and never persisted.
+ */
+public class AttachedHologram {
+    private final AttachedHologramManager manager;
+    private final AttachedHologramManager.LabelStack stack;
+    private volatile String[] lines;
+    private volatile String[] compiledLines;
+    private volatile boolean removed;
+
+    AttachedHologram(AttachedHologramManager manager, AttachedHologramManager.LabelStack stack, List<String> lines) {
+        this.manager = manager;
+        this.stack = stack;
+        compile(lines);
+    }
+
+    private void compile(List<String> newLines) {
+        String[] raw = newLines.toArray(new String[0]);
+        String[] compiled = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            compiled[i] = ChatColor.translateAlternateColorCodes('&', raw[i]);
+        }
+        this.lines = raw;
+        this.compiledLines = compiled;
+    }
+
+    /**
+     * @return UUID of the entity this label rides on
+     */
+    public UUID getTargetId() {
+        return stack.targetId;
+    }
+
+    /**
+     * @return Read-only view of the raw lines
+     */
+    public List<String> getLines() {
+        return Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    /**
+     * Color-translated lines, shared with the stack rendering them
+     */
+    String[] getCompiledLines() {
+        return compiledLines;
+    }
+
+    /**
+     * Changes the text of the label. Only the text of the shared display is updated,
+     * nothing is respawned.
+     *
+     * @param newLines New lines of text (supports color codes with &)
+     * @throws IllegalArgumentException If there are no lines
+     */
+    public void setLines(List<String> newLines) {
+        if (newLines.isEmpty()) {
+            throw new IllegalArgumentException("An attached hologram needs at least one line");
+        }
+        if (removed) {
+            return;
+        }
+        compile(newLines);
+        manager.render(stack);
+    }
+
+    /**
+     * Removes the label from its entity
+     */
+    public void remove() {
+        if (!removed) {
+            removed = true;
+            manager.detach(this);
+        }
+    }
+
+    /**
+     * @return True if the label was removed, by {@link #remove()} or because its entity died
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    void markRemoved() {
+        removed = true;
+    }
+
+    AttachedHologramManager.LabelStack getStack() {
+        return stack;
+    }
+}
@@ -0,0 +1,483 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.AbstractHorse;
+import org.bukkit.entity.Boat;
+import org.bukkit.entity.Camel;
+import org.bukkit.entity.ChestBoat;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Steerable;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.entity.minecart.RideableMinecart;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manages holograms attached to entities, such as labels above NPCs, pets and minecarts.
+ * <p>
+ * Labels are attached by entity UUID and shown as a passenger of their target, so the
+ * client moves them along with the entity and the server never teleports them. All
+ * labels on the same entity are rendered by one text display, so a stack costs a single
+ * entity and a single metadata update however many labels it holds. Nothing runs per
+ * tick: the passenger is spawned when the target's entities load, dropped when they
+ * unload, and the labels are removed when the target dies or is destroyed.
+ * <p>
+ * Servers without display entities (before 1.19.4) fall back to one marker armor stand
+ * per stack, showing every line on a single nameplate.
+ * <p>
+ * Bukkit refuses to teleport an entity that carries passengers, so targets with labels
+ * must be moved through {@link #teleport}. Players cannot carry labels for the same
+ * reason, commands like /tp would stop working on them. Citizens NPCs are player
+ * entities as well, but may carry labels since Citizens remounts passengers when it
+ * teleports an NPC.
+ * <p>
+ * The label takes a passenger seat, and minecarts, horses and pigs only have one. A
+ * player right-clicking a labelled vehicle gets the seat freed before the mount runs,
+ * any rider entering drops the label, and the label is mounted again once the last
+ * rider leaves, so labels are hidden while their vehicle is ridden.
+ */
+public class AttachedHologramManager {
+    /** Tag stored in the hologram marker key of attached label entities */
+    static final String ATTACHED_TAG = "frostgui_attached";
+
+    /** Separates lines on the single nameplate of the armor stand fallback */
+    private static final String FALLBACK_SEPARATOR = ChatColor.DARK_GRAY + " | " + ChatColor.RESET;
+
+    private static final boolean DISPLAY_ENTITIES = hasDisplayEntities();
+
+    /**
+     * The labels riding on one entity and the entity showing them
+     */
+    static final class LabelStack {
+        final UUID targetId;
+        private final List<AttachedHologram> labels = new ArrayList<>();
+        private volatile Entity display;
+
+        private LabelStack(UUID targetId) {
+            this.targetId = targetId;
+        }
+
+        /**
+         * Joins the lines of every label, top label first
+         */
+        private synchronized String compose(String separator) {
+            StringBuilder text = new StringBuilder();
+            for (AttachedHologram label : labels) {
+                for (String line : label.getCompiledLines()) {
+                    if (text.length() > 0) {
+                        text.append(separator);
+                    }
+                    text.append(line);
+                }
+            }
+            return text.toString();
+        }
+
+        private synchronized boolean isEmpty() {
+            return labels.isEmpty();
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final FrostScheduler scheduler;
+    private final NamespacedKey hologramKey;
+    private final Map<UUID, LabelStack> stacks;
+
+    /**
+     * Creates a new AttachedHologramManager
+     *
+     * @param plugin    The JavaPlugin instance
+     * @param scheduler Scheduler running work on the thread owning each target
+     */
+    public AttachedHologramManager(JavaPlugin plugin, FrostScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.hologramKey = new NamespacedKey(plugin, "frostgui_hologram");
+        this.stacks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Attaches a label to an entity, below the labels it already carries
+     *
+     * @param target The entity to ride on
+     * @param lines  Lines of text to display (supports color codes with &)
+     * @return The attached label
+     * @throws IllegalArgumentException If the target is a player or there are no lines
+     */
+    public AttachedHologram attach(Entity target, List<String> lines) {
+        if (isPlayer(target)) {
+            throw new IllegalArgumentException("Players cannot carry attached holograms");
+        }
+        return attach(target.getUniqueId(), lines);
+    }
+
+    /**
+     * Attaches a label to an entity by UUID. If the entity is not loaded, the label
+     * appears once its chunk loads.
+     *
+     * @param targetId UUID of the entity to ride on
+     * @param lines    Lines of text to display (supports color codes with &)
+     * @return The attached label
+     * @throws IllegalArgumentException If there are no lines
+     */
+    public AttachedHologram attach(UUID targetId, List<String> lines) {
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("An attached hologram needs at least one line");
+        }
+        LabelStack stack = stacks.computeIfAbsent(targetId, LabelStack::new);
+        AttachedHologram label = new AttachedHologram(this, stack, lines);
+        synchronized (stack) {
+            stack.labels.add(label);
+        }
+        render(stack);
+        return label;
+    }
+
+    /**
+     * Gets the labels riding on an entity
+     *
+     * @param targetId UUID of the entity
+     * @return The labels, top first, or an empty list
+     */
+    public List<AttachedHologram> getAttached(UUID targetId) {
+        LabelStack stack = stacks.get(targetId);
+        if (stack == null) {
+            return new ArrayList<>();
+        }
+        synchronized (stack) {
+            return new ArrayList<>(stack.labels);
+        }
+    }
+
+    /**
+     * Teleports an entity together with its labels. Bukkit refuses to teleport entities
+     * carrying passengers, so the labels are dismounted and mounted again afterwards.
+     *
+     * @param target   The entity to teleport
+     * @param location The destination
+     * @return True if the entity was teleported
+     */
+    public boolean teleport(Entity target, Location location) {
+        LabelStack stack = stacks.get(target.getUniqueId());
+        if (stack == null) {
+            return target.teleport(location);
+        }
+        despawn(stack);
+        boolean teleported = target.teleport(location);
+        render(stack);
+        return teleported;
+    }
+
+    /**
+     * Removes a label and respawns or drops the display of its stack
+     *
+     * @param label The removed label
+     */
+    void detach(AttachedHologram label) {
+        LabelStack stack = label.getStack();
+        synchronized (stack) {
+            stack.labels.remove(label);
+        }
+        render(stack);
+    }
+
+    /**
+     * Shows the current text of a stack on the thread owning its target
+     *
+     * @param stack The stack
+     */
+    void render(LabelStack stack) {
+        Entity target = plugin.getServer().getEntity(stack.targetId);
+        if (target == null || !target.isValid() || isPlayer(target)) {
+            // Nothing is spawned without a target, the stack is shown when its entities load
+            if (stack.isEmpty()) {
+                stacks.remove(stack.targetId, stack);
+            }
+            return;
+        }
+        scheduler.executeForEntity(target, () -> apply(stack, target));
+    }
+
+    /**
+     * Spawns, updates or removes the display of a stack
+     */
+    private void apply(LabelStack stack, Entity target) {
+        scheduler.checkEntity(target, "Attached hologram render");
+        if (stack.isEmpty()) {
+            despawn(stack);
+            stacks.remove(stack.targetId, stack);
+            return;
+        }
+
+        String text = stack.compose(DISPLAY_ENTITIES ? "\n" : FALLBACK_SEPARATOR);
+        Entity display = stack.display;
+        if (display != null && display.isValid() && target.equals(display.getVehicle())) {
+            // Only the text changed, the passenger stays where it is
+            if (DISPLAY_ENTITIES) {
+                TextDisplays.setText(display, text);
+            } else {
+                display.setCustomName(text);
+            }
+            return;
+        }
+
+        // First render, or the passenger was lost (for example on a dimension change)
+        despawn(stack);
+        if (!target.getPassengers().isEmpty()) {
+            // A rider holds the seat, the label is mounted again once the last one leaves
+            return;
+        }
+        Location location = target.getLocation();
+        if (DISPLAY_ENTITIES) {
+            float yOffset = (float) plugin.getConfig().getDouble("holograms.attached.y-offset", 0.2);
+            display = TextDisplays.spawn(location, text, yOffset);
+            display.getPersistentDataContainer().set(hologramKey, PersistentDataType.STRING, ATTACHED_TAG);
+        } else {
+            display = Hologram.spawnLineStand(plugin, location, text, ATTACHED_TAG);
+        }
+        // The passenger is spawned again when the target loads, never saved with it
+        display.setPersistent(false);
+        target.addPassenger(display);
+        stack.display = display;
+    }
+
+    private void despawn(LabelStack stack) {
+        Entity display = stack.display;
+        stack.display = null;
+        if (display != null && !display.isDead()) {
+            display.remove();
+        }
+    }
+
+    /**
+     * Mounts the labels of entities that were just loaded
+     *
+     * @param entities The loaded entities
+     */
+    public void handleEntitiesLoaded(Collection<Entity> entities) {
+        if (stacks.isEmpty()) {
+            return;
+        }
+        for (Entity entity : entities) {
+            LabelStack stack = stacks.get(entity.getUniqueId());
+            if (stack != null && !isPlayer(entity)) {
+                apply(stack, entity);
+            }
+        }
+    }
+
+    /**
+     * Forgets the passengers of entities that are being unloaded; the labels are kept
+     * and mounted again when the entities load
+     *
+     * @param entities The unloaded entities
+     */
+    public void handleEntitiesUnloaded(Collection<Entity> entities) {
+        if (stacks.isEmpty()) {
+            return;
+        }
+        for (Entity entity : entities) {
+            LabelStack stack = stacks.get(entity.getUniqueId());
+            if (stack != null) {
+                despawn(stack);
+            }
+        }
+    }
+
+    /**
+     * Frees the seat taken by the label of a vehicle a player is about to mount. Nothing
+     * happens unless the label holds the last seat the player could take. If the player
+     * does not get on after all, the label is mounted again a tick later.
+     *
+     * @param vehicle The right-clicked vehicle
+     * @param player  The clicking player
+     */
+    public void handleMountAttempt(Entity vehicle, Player player) {
+        LabelStack stack = stacks.get(vehicle.getUniqueId());
+        if (stack == null || stack.display == null || !isLastSeatFor(vehicle, player)) {
+            return;
+        }
+        despawn(stack);
+        scheduler.runGlobalLater(() -> render(stack), 1);
+    }
+
+    /**
+     * Drops the label of an entity that is getting a rider
+     *
+     * @param vehicle The ridden entity
+     * @param rider   The entity getting on
+     */
+    public void handleRiderEntered(Entity vehicle, Entity rider) {
+        LabelStack stack = stacks.get(vehicle.getUniqueId());
+        if (stack != null && !isLabel(rider)) {
+            despawn(stack);
+        }
+    }
+
+    /**
+     * Mounts the label of an entity again after a rider got off. The passengers are only
+     * updated after the event, so the label is rendered a tick later.
+     *
+     * @param vehicle The entity that was ridden
+     * @param rider   The entity getting off
+     */
+    public void handleRiderLeft(Entity vehicle, Entity rider) {
+        LabelStack stack = stacks.get(vehicle.getUniqueId());
+        if (stack != null && !isLabel(rider)) {
+            scheduler.runGlobalLater(() -> render(stack), 1);
+        }
+    }
+
+    /**
+     * Removes the labels of an entity that died or was destroyed
+     *
+     * @param target The removed entity
+     */
+    public void handleTargetRemoved(Entity target) {
+        LabelStack stack = stacks.remove(target.getUniqueId());
+        if (stack == null) {
+            return;
+        }
+        despawn(stack);
+        synchronized (stack) {
+            for (AttachedHologram label : stack.labels) {
+                label.markRemoved();
+            }
+            stack.labels.clear();
+        }
+    }
+
+    /**
+     * Removes every label and its passenger entity
+     */
+    public void removeAll() {
+        for (LabelStack stack : stacks.values()) {
+            despawn(stack);
+            synchronized (stack) {
+                for (AttachedHologram label : stack.labels) {
+                    label.markRemoved();
+                }
+                stack.labels.clear();
+            }
+        }
+        stacks.clear();
+    }
+
+    /**
+     * @return Number of attached labels, shown or waiting for their target to load
+     */
+    public int getAttachedCount() {
+        int count = 0;
+        for (LabelStack stack : stacks.values()) {
+            synchronized (stack) {
+                count += stack.labels.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of passenger entities currently spawned, one per loaded target
+     */
+    public int getSpawnedCount() {
+        int count = 0;
+        for (LabelStack stack : stacks.values()) {
+            if (stack.display != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Real players cannot carry labels, Citizens NPCs are players marked with NPC metadata
+     */
+    /**
+     * Checks whether a right click would mount a player on a vehicle if its label did not
+     * take the last free seat
+     */
+    private boolean isLastSeatFor(Entity vehicle, Player player) {
+        // Sneaking clicks use the held item, and riders cannot switch vehicles by clicking
+        if (player.isSneaking() || player.isInsideVehicle()) {
+            return false;
+        }
+        if (vehicle instanceof AbstractHorse) {
+            AbstractHorse horse = (AbstractHorse) vehicle;
+            // Untamed horses are only mounted to tame them, which needs an empty hand
+            ItemStack held = player.getInventory().getItemInMainHand();
+            if (!horse.isAdult() || (!horse.isTamed() && held != null && !held.getType().isAir())) {
+                return false;
+            }
+        } else if (vehicle instanceof Steerable) {
+            if (!((Steerable) vehicle).hasSaddle()) {
+                return false;
+            }
+        } else if (!(vehicle instanceof Boat) && !(vehicle instanceof RideableMinecart)) {
+            // Other minecarts cannot be ridden by clicking them
+            return false;
+        }
+
+        int seats = vehicle instanceof Camel || (vehicle instanceof Boat && !(vehicle instanceof ChestBoat)) ? 2 : 1;
+        int riders = 0;
+        for (Entity passenger : vehicle.getPassengers()) {
+            if (!isLabel(passenger)) {
+                riders++;
+            }
+        }
+        return riders == seats - 1;
+    }
+
+    private static boolean isPlayer(Entity entity) {
+        return entity instanceof Player && !entity.hasMetadata("NPC");
+    }
+
+    private boolean isLabel(Entity entity) {
+        return ATTACHED_TAG.equals(entity.getPersistentDataContainer().get(hologramKey, PersistentDataType.STRING));
+    }
+
+    private static boolean hasDisplayEntities() {
+        try {
+            Class.forName("org.bukkit.entity.TextDisplay");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Text display access, kept in its own class so servers without display entities
+     * never load it
+     */
+    private static final class TextDisplays {
+
+        private static Entity spawn(Location location, String text, float yOffset) {
+            TextDisplay display = location.getWorld().spawn(location, TextDisplay.class);
+            display.setText(text);
+            display.setBillboard(Display.Billboard.CENTER);
+            // Lifts the text above the passenger seat on the client, no teleports needed
+            display.setTransformation(new Transformation(new Vector3f(0, yOffset, 0), new Quaternionf(),
+                    new Vector3f(1, 1, 1), new Quaternionf()));
+            return display;
+        }
+
+        private static void setText(Entity display, String text) {
+            ((TextDisplay) display).setText(text);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.yourusername.frostgui.hologram;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Minimal five-field cron expression (minute hour day-of-month month day-of-week).
+ * <p>
+ * Each field supports *, single values, ranges (a-b), lists (a,b,c) and steps (*&#47;n, a-b/n).
+ * Months and weekdays also accept three-letter names such as JAN or FRI. As in classic
+ * cron, when both day fields are restricted a day matches if either of them matches.
+ */
+public class CronExpression {
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN",
+            "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    /** Give up searching for a match after this many years (e.g. "0 0 30 2 *") */
+    private static final int MAX_SEARCH_YEARS = 5;
+
+    private final String expression;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean dayOfMonthRestricted;
+    private final boolean dayOfWeekRestricted;
+
+    /**
+     * Parses a cron expression
+     *
+     * @param expression Five whitespace-separated fields
+     * @throws IllegalArgumentException If the expression is malformed
+     */
+    public CronExpression(String expression) {
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("Expected 5 fields but found " + fields.length + " in '" + expression + "'");
+        }
+
+        this.expression = expression.trim();
+        this.minutes = parseField(fields[0], 0, 59, null);
+        this.hours = parseField(fields[1], 0, 23, null);
+        this.daysOfMonth = parseField(fields[2], 1, 31, null);
+        this.months = parseField(fields[3], 1, 12, MONTH_NAMES);
+        this.daysOfWeek = parseField(fields[4], 0, 7, DAY_NAMES);
+
+        // 7 is an alias for Sunday
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+        }
+
+        this.dayOfMonthRestricted = !fields[2].equals("*");
+        this.dayOfWeekRestricted = !fields[4].equals("*");
+    }
+
+    /**
+     * Finds the first matching minute strictly after the given time
+     *
+     * @param epochSecond Start time in epoch seconds
+     * @param zone        Time zone the expression is evaluated in
+     * @return Epoch second of the next match, or Long.MAX_VALUE if there is none
+     */
+    public long next(long epochSecond, ZoneId zone) {
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone)
+                .truncatedTo(ChronoUnit.MINUTES)
+                .plusMinutes(1);
+        int limitYear = time.getYear() + MAX_SEARCH_YEARS;
+
+        // Skip whole months, days and hours that cannot match before stepping by minutes
+        while (time.getYear() <= limitYear) {
+            if (!months.get(time.getMonthValue())) {
+                time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+                continue;
+            }
+            if (!matchesDay(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            }
+            if (!hours.get(time.getHour())) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                continue;
+            }
+            if (!minutes.get(time.getMinute())) {
+                time = time.plusMinutes(1);
+                continue;
+            }
+            return time.toEpochSecond();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private boolean matchesDay(ZonedDateTime time) {
+        boolean dayOfMonth = daysOfMonth.get(time.getDayOfMonth());
+        boolean dayOfWeek = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+        if (dayOfMonthRestricted && dayOfWeekRestricted) {
+            return dayOfMonth || dayOfWeek;
+        }
+        return dayOfMonth && dayOfWeek;
+    }
+
+    private static BitSet parseField(String field, int min, int max, String[] names) {
+        BitSet bits = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), 1, max, null);
+                part = part.substring(0, slash);
+            }
+
+            int start;
+            int end;
+            if (part.equals("*")) {
+                start = min;
+                end = max;
+            } else {
+                int dash = part.indexOf('-');
+                if (dash >= 0) {
+                    start = parseNumber(part.substring(0, dash), min, max, names);
+                    end = parseNumber(part.substring(dash + 1), min, max, names);
+                } else {
+                    start = parseNumber(part, min, max, names);
+                    end = slash >= 0 ? max : start;
+                }
+            }
+
+            if (start > end) {
+                throw new IllegalArgumentException("Invalid range '" + part + "'");
+            }
+            for (int value = start; value <= end; value += step) {
+                bits.set(value);
+            }
+        }
+        return bits;
+    }
+
+    private static int parseNumber(String value, int min, int max, String[] names) {
+        if (names != null) {
+            String upper = value.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    // Month names start at 1, day names at 0
+                    return min == 1 ? i + 1 : i;
+                }
+            }
+        }
+
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "'");
+        }
+        if (number < min || number > max) {
+            throw new IllegalArgumentException("Value " + number + " is outside " + min + "-" + max);
+        }
+        return number;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,208 @@
+package com.yourusername.frostgui.hologram;
+
+/**
+ * Hierarchical timing wheel for long-range deadlines.
+ * <p>
+ * Four levels of 64 slots cover about 194 days at the base resolution. Entries are
+ * placed on the coarsest level that fits their remaining delay and cascade down one
+ * level whenever the level below wraps around, so advancing the wheel is O(1)
+ * amortized per step regardless of how many entries are scheduled. Deadlines further
+ * away than the wheel can hold are parked in the last slot and fire early, so callers
+ * should re-check the deadline when an entry fires. Not thread-safe.
+ *
+ * @param <T> The entry type stored in the wheel
+ */
+public class HierarchicalTimingWheel<T extends HierarchicalTimingWheel.Node> {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Base class for anything that can be scheduled on a {@link HierarchicalTimingWheel}
+     */
+    public abstract static class Node {
+        private Node next;
+        private Node previous;
+        private int level = -1;
+        private int slot;
+        private long expireAt;
+        private long target;
+
+        /**
+         * @return True if this node is currently scheduled on a wheel
+         */
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+
+        /**
+         * @return The time step at which this node fires
+         */
+        public long getExpireAt() {
+            return expireAt;
+        }
+    }
+
+    /**
+     * Callback for nodes that fire while the wheel advances
+     *
+     * @param <T> The node type
+     */
+    @FunctionalInterface
+    public interface FireHandler<T> {
+        void fired(T node);
+    }
+
+    private final Node[][] wheels;
+    private long currentTime;
+    private int size;
+
+    /**
+     * Creates a new hierarchical timing wheel
+     *
+     * @param startTime The current time step (for example epoch seconds)
+     */
+    public HierarchicalTimingWheel(long startTime) {
+        this.wheels = new Node[LEVELS][SLOTS];
+        this.currentTime = startTime;
+    }
+
+    /**
+     * Schedules a node to fire at an absolute time step
+     *
+     * @param node     The node to schedule (rescheduled if it already is)
+     * @param expireAt Time step at which the node should fire
+     */
+    public void schedule(T node, long expireAt) {
+        Node entry = node;
+        if (entry.isScheduled()) {
+            unlink(entry);
+        }
+        entry.expireAt = Math.max(expireAt, currentTime + 1);
+        entry.target = Math.min(entry.expireAt, currentTime + MAX_DELAY);
+        insert(entry);
+        size++;
+    }
+
+    /**
+     * Removes a node from the wheel without firing it
+     *
+     * @param node The node to cancel
+     * @return True if the node was scheduled
+     */
+    public boolean cancel(T node) {
+        Node entry = node;
+        if (!entry.isScheduled()) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, firing every node that becomes due
+     *
+     * @param time    The new current time step
+     * @param handler Callback invoked for each fired node
+     */
+    public void advanceTo(long time, FireHandler<? super T> handler) {
+        // An empty wheel has nothing to cascade, so it can jump straight ahead
+        if (size == 0 && time > currentTime) {
+            currentTime = time;
+            return;
+        }
+        while (currentTime < time) {
+            advance(handler);
+        }
+    }
+
+    /**
+     * Advances the wheel by a single time step
+     *
+     * @param handler Callback invoked for each fired node
+     */
+    @SuppressWarnings("unchecked")
+    public void advance(FireHandler<? super T> handler) {
+        currentTime++;
+
+        // Cascade coarser levels down whenever the finer level wraps around
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTime >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                break;
+            }
+            cascade(level, (int) ((currentTime >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        // Everything left in the current base slot is due now
+        int slot = (int) (currentTime & SLOT_MASK);
+        Node entry = wheels[0][slot];
+        while (entry != null) {
+            Node next = entry.next;
+            unlink(entry);
+            handler.fired((T) entry);
+            entry = next;
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Node entry = wheels[level][slot];
+        wheels[level][slot] = null;
+        while (entry != null) {
+            Node next = entry.next;
+            entry.next = null;
+            entry.previous = null;
+            insert(entry);
+            entry = next;
+        }
+    }
+
+    private void insert(Node entry) {
+        long delay = entry.target - currentTime;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((entry.target >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = wheels[level][slot];
+        if (entry.next != null) {
+            entry.next.previous = entry;
+        }
+        wheels[level][slot] = entry;
+    }
+
+    private void unlink(Node entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            wheels[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.next = null;
+        entry.previous = null;
+        entry.level = -1;
+        size--;
+    }
+
+    /**
+     * @return The current time step of the wheel
+     */
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    /**
+     * @return The number of scheduled nodes
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -3,26 +3,63 @@ package com.yourusername.frostgui.hologram;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a hologram with multiple text lines
+ * <p>
+ * Servers can hold hundreds of thousands of holograms, most of them hidden, so the state
+ * is kept compact: the position is stored as primitive coordinates and a world index,
+ * lines as an array of interned strings, and entity arrays and viewer sets are only
+ * allocated while they are needed. Getters return read-only views instead of copies.
  */
 public class Hologram {
     private final String id;
-    private Location location;
-    private List<String> lines;
-    private List<ArmorStand> entities;
+    private int worldIndex;
+    private double x;
+    private double y;
+    private double z;
+    private Location spawnedAt;
+    private String[] lines;
+    private HologramTemplate template;
+    private Map<Integer, String> overrides;
+    private Map<Integer, HologramClickAction> clickActions;
+    private ArmorStand[] entities;
     private boolean isVisible;
+    private HologramSchedule schedule;
+    private boolean scheduleOpen = true;
+    private double lodDistance;
+    private String lodSummary;
+    private ArmorStand summaryStand;
+    private PersonalizedLines personalized;
+    private int priority;
+    private boolean collapsed;
+    // Written from each viewer's thread, allocated on the first far viewer and then kept
+    private volatile Set<UUID> farViewers;
+    // Read by the visibility checks on every player's thread
+    private volatile HologramVisibility visibility;
+    private volatile int visibilityIndex = -1;
     private final JavaPlugin plugin;
+    private final HologramManager manager;
 
     /**
      * Creates a new hologram
@@ -33,86 +70,590 @@ public class Hologram {
      * @param lines    Lines of text to display (supports color codes with &)
      */
     public Hologram(JavaPlugin plugin, String id, Location location, List<String> lines) {
+        this(plugin, null, id, location, lines);
+    }
+
+    /**
+     * Creates a new hologram owned by a manager, which resolves animated lines
+     * 
+     * @param manager  The owning hologram manager
+     * @param id       Unique identifier for the hologram
+     * @param location Location where the hologram should be displayed
+     * @param lines    Lines of text to display
+     */
+    Hologram(HologramManager manager, String id, Location location, List<String> lines) {
+        this(manager.getPlugin(), manager, id, location, lines);
+    }
+
+    private Hologram(JavaPlugin plugin, HologramManager manager, String id, Location location, List<String> lines) {
         this.plugin = plugin;
+        this.manager = manager;
         this.id = id;
-        this.location = location.clone();
-        this.lines = new ArrayList<>(lines);
-        this.entities = new ArrayList<>();
-        this.isVisible = false;
+        setPosition(location);
+        this.lines = internLines(lines);
+    }
+
+    /**
+     * Stores a location as primitive coordinates and a world index
+     * 
+     * @param location The location
+     */
+    private void setPosition(Location location) {
+        this.worldIndex = HologramWorlds.indexOf(location.getWorld());
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+    }
+
+    /**
+     * Copies lines into an array, sharing equal strings between holograms
+     * 
+     * @param lines The lines
+     * @return The interned lines
+     */
+    private static String[] internLines(List<String> lines) {
+        String[] interned = new String[lines.size()];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = lines.get(i).intern();
+        }
+        return interned;
     }
 
     /**
      * Creates the hologram entities in the world
      */
     public void show() {
-        if (isVisible) {
+        // Scheduled holograms stay hidden outside of their time window
+        if (isVisible || !scheduleOpen) {
+            return;
+        }
+        Location location = getLocation();
+        if (handOverToRegion(location, this::show)) {
             return;
         }
+        long start = System.nanoTime();
 
         // Remove any existing entities
-        remove();
+        despawn();
+        spawnedAt = location;
+        
+        // Over the chunk's entity budget only a single stand is spawned
+        if (collapsed) {
+            String text = lodSummary != null && !lodSummary.isEmpty() 
+                    ? ChatColor.translateAlternateColorCodes('&', lodSummary) 
+                    : getCompiledLine(0);
+            entities = new ArmorStand[] { spawnLineStand(plugin, location, text, id) };
+            isVisible = true;
+            if (visibilityIndex >= 0) {
+                entities[0].setVisibleByDefault(false);
+                showToAllowedViewers();
+            }
+            if (manager != null) {
+                manager.getShowTime().recordSince(start);
+            }
+            return;
+        }
         
         // Calculate starting position (start from top line)
         Location currentLocation = location.clone();
         
-        // Create an armor stand for each line
-        for (String line : lines) {
-            // Convert color codes
-            String coloredLine = ChatColor.translateAlternateColorCodes('&', line);
+        // Animated lines are handed to the shared animation ticker after spawning
+        List<ArmorStand> animatedStands = new ArrayList<>();
+        List<HologramAnimation> animations = new ArrayList<>();
+        
+        // Lines with placeholders are rendered per viewer instead of in the shared set
+        List<HologramPlaceholders.PlaceholderLine> placeholderLines = new ArrayList<>();
+        List<Location> placeholderLocations = new ArrayList<>();
+        
+        // Create an armor stand for each line, placeholder lines keep an empty slot
+        int lineCount = getLineCount();
+        entities = new ArmorStand[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            HologramAnimation animation = manager != null ? manager.getAnimationForLine(getRawLine(i)) : null;
+            HologramPlaceholders.PlaceholderLine placeholderLine = manager != null && animation == null 
+                    ? manager.getPlaceholders().compile(getCompiledLine(i)) 
+                    : null;
+            double lineSpacing = plugin.getConfig().getDouble("holograms.line-spacing", 0.25);
             
-            // Create invisible armor stand (with null-safety for 1.17+)
-            ArmorStand stand = (ArmorStand) Objects.requireNonNull(location.getWorld()).spawnEntity(currentLocation, EntityType.ARMOR_STAND);
-            stand.setVisible(false);
-            stand.setCustomName(coloredLine);
-            stand.setCustomNameVisible(true);
-            stand.setGravity(false);
-            stand.setSmall(true);
-            stand.setMarker(true);
-            stand.setInvulnerable(true);
+            if (placeholderLine != null) {
+                placeholderLines.add(placeholderLine);
+                placeholderLocations.add(currentLocation.clone());
+                currentLocation = currentLocation.subtract(0, lineSpacing, 0);
+                continue;
+            }
             
-            // 1.17+ specific features
-            stand.setCollidable(false);  // Prevent entity collisions in 1.17+
+            // Convert color codes (animated lines start on their first frame)
+            String coloredLine = animation != null 
+                    ? animation.getFrame(0) 
+                    : getCompiledLine(i);
             
-            // Mark this entity as a hologram using PersistentDataContainer (1.17+ feature)
-            NamespacedKey key = new NamespacedKey(plugin, "frostgui_hologram");
-            PersistentDataContainer container = stand.getPersistentDataContainer();
-            container.set(key, PersistentDataType.STRING, id);
+            // Create invisible armor stand (with null-safety for 1.17+)
+            ArmorStand stand = spawnLineStand(plugin, currentLocation, coloredLine, id);
+            if (visibilityIndex >= 0) {
+                // Conditional holograms are only shown to the players passing their conditions
+                stand.setVisibleByDefault(false);
+            }
+            entities[i] = stand;
             
-            entities.add(stand);
+            if (animation != null) {
+                animatedStands.add(stand);
+                animations.add(animation);
+            }
             
             // Move down for next line (using spacing from config)
-            double lineSpacing = plugin.getConfig().getDouble("holograms.line-spacing", 0.25);
             currentLocation = currentLocation.subtract(0, lineSpacing, 0);
         }
         
+        if (!animatedStands.isEmpty()) {
+            manager.getAnimationTicker().register(this, location.clone(),
+                    animatedStands.toArray(new ArmorStand[0]), animations.toArray(new HologramAnimation[0]));
+        }
+        
+        // Distant viewers see a single summary line instead of every line
+        if (hasLod() && lodSummary != null && !lodSummary.isEmpty()) {
+            summaryStand = spawnLineStand(plugin, location, ChatColor.translateAlternateColorCodes('&', lodSummary), id);
+            summaryStand.setVisibleByDefault(false);
+        }
+        
         isVisible = true;
+        
+        if (!placeholderLines.isEmpty()) {
+            personalized = new PersonalizedLines(this, plugin, manager.getTaskScheduler(), 
+                    placeholderLines.toArray(new HologramPlaceholders.PlaceholderLine[0]), 
+                    placeholderLocations.toArray(new Location[0]));
+            manager.getPlaceholders().track(this, personalized);
+        }
+        
+        // Fresh entities are visible to everyone, so re-apply the far tier
+        if (visibilityIndex >= 0) {
+            showToAllowedViewers();
+        } else if (farViewers != null) {
+            for (UUID viewerId : farViewers) {
+                Player viewer = plugin.getServer().getPlayer(viewerId);
+                if (viewer == null) {
+                    continue;
+                }
+                if (manager != null) {
+                    manager.getTaskScheduler().executeForEntity(viewer, () -> applyTier(viewer, true));
+                } else {
+                    applyTier(viewer, true);
+                }
+            }
+        }
+        
+        if (manager != null) {
+            manager.getShowTime().recordSince(start);
+        }
+    }
+
+    /**
+     * Shows freshly spawned conditional entities to the players allowed to see them
+     */
+    private void showToAllowedViewers() {
+        for (Player viewer : plugin.getServer().getOnlinePlayers()) {
+            if (isVisibleTo(viewer.getUniqueId())) {
+                manager.getTaskScheduler().executeForEntity(viewer, () -> applyVisibility(viewer));
+            }
+        }
+    }
+
+    /**
+     * Spawns a single invisible marker armor stand displaying one line of text
+     * 
+     * @param plugin      The plugin instance
+     * @param location    Location of the line
+     * @param coloredLine Already color-translated text
+     * @param tag         Value stored in the hologram marker key
+     * @return The spawned armor stand
+     */
+    static ArmorStand spawnLineStand(JavaPlugin plugin, Location location, String coloredLine, String tag) {
+        ArmorStand stand = (ArmorStand) Objects.requireNonNull(location.getWorld()).spawnEntity(location, EntityType.ARMOR_STAND);
+        stand.setVisible(false);
+        stand.setCustomName(coloredLine);
+        stand.setCustomNameVisible(true);
+        stand.setGravity(false);
+        stand.setSmall(true);
+        stand.setMarker(true);
+        stand.setInvulnerable(true);
+        
+        // 1.17+ specific features
+        stand.setCollidable(false);  // Prevent entity collisions in 1.17+
+        
+        // Mark this entity as a hologram using PersistentDataContainer (1.17+ feature)
+        NamespacedKey key = new NamespacedKey(plugin, "frostgui_hologram");
+        PersistentDataContainer container = stand.getPersistentDataContainer();
+        container.set(key, PersistentDataType.STRING, tag);
+        
+        return stand;
     }
 
     /**
      * Removes all hologram entities from the world
      */
     public void remove() {
+        if (isVisible && handOverToRegion(spawnedAt, this::remove)) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean wasVisible = isVisible;
+        despawn();
+        
+        // Hidden holograms have nothing to despawn and would only skew the timings
+        if (wasVisible && manager != null) {
+            manager.getRemoveTime().recordSince(start);
+        }
+    }
+
+    /**
+     * Removes the entities without recording the time taken, also used before spawning
+     */
+    private void despawn() {
+        if (manager != null) {
+            manager.getAnimationTicker().unregister(this);
+        }
+        if (personalized != null) {
+            manager.getPlaceholders().untrack(this);
+            personalized.despawn();
+            personalized = null;
+        }
+        if (summaryStand != null) {
+            if (!summaryStand.isDead()) {
+                summaryStand.remove();
+            }
+            summaryStand = null;
+        }
         if (entities != null) {
             for (ArmorStand stand : entities) {
                 if (stand != null && !stand.isDead()) {
                     stand.remove();
                 }
             }
-            entities.clear();
+            entities = null;
         }
+        spawnedAt = null;
         isVisible = false;
     }
 
+    /**
+     * Hands a task over to the thread owning a location, unless the current thread owns it
+     * 
+     * @param at   Location the task touches
+     * @param task The task, usually the calling method again
+     * @return True if the task was handed over and the caller should stop
+     */
+    private boolean handOverToRegion(Location at, Runnable task) {
+        if (manager == null || manager.getTaskScheduler().isOwnedByCurrentThread(at)) {
+            return false;
+        }
+        manager.getTaskScheduler().executeAt(at, task);
+        return true;
+    }
+
+    /**
+     * Respawns the hologram entities if the hologram is currently shown
+     */
+    public void refresh() {
+        // Despawn on the old region first, the new location may belong to another one
+        if (isVisible && !handOverToRegion(spawnedAt, this::refresh)) {
+            remove();
+            show();
+        }
+    }
+
+    /**
+     * Moves a viewer between the full and the summary level of detail
+     * 
+     * @param viewer The viewing player
+     * @param far    True if the viewer should only see the summary
+     */
+    void setViewerFar(Player viewer, boolean far) {
+        boolean changed;
+        if (far) {
+            changed = getFarViewers().add(viewer.getUniqueId());
+        } else {
+            Set<UUID> viewers = farViewers;
+            changed = viewers != null && viewers.remove(viewer.getUniqueId());
+        }
+        // A collapsed hologram already is its own summary
+        if (changed && isVisible && !collapsed) {
+            applyTier(viewer, far);
+        }
+    }
+
+    /**
+     * Forgets the level of detail of a viewer, for example when they leave
+     * 
+     * @param viewerId UUID of the viewer
+     */
+    void forgetViewer(UUID viewerId) {
+        Set<UUID> viewers = farViewers;
+        if (viewers != null) {
+            viewers.remove(viewerId);
+        }
+    }
+
+    private Set<UUID> getFarViewers() {
+        Set<UUID> viewers = farViewers;
+        if (viewers == null) {
+            synchronized (this) {
+                if (farViewers == null) {
+                    farViewers = ConcurrentHashMap.newKeySet();
+                }
+                viewers = farViewers;
+            }
+        }
+        return viewers;
+    }
+
+    /**
+     * Checks whether a viewer currently sees the summary level of detail
+     * 
+     * @param viewerId UUID of the viewer
+     * @return True if the viewer is in the far tier
+     */
+    public boolean isViewerFar(UUID viewerId) {
+        Set<UUID> viewers = farViewers;
+        return viewers != null && viewers.contains(viewerId);
+    }
+
+    /**
+     * Shows or hides the entities for a viewer after their visibility bit changed
+     * 
+     * @param viewer The viewing player
+     */
+    void applyVisibility(Player viewer) {
+        if (isVisible) {
+            applyTier(viewer, !collapsed && isViewerFar(viewer.getUniqueId()));
+        }
+    }
+
+    /**
+     * Checks whether a player passes the visibility conditions of this hologram
+     * 
+     * @param playerId UUID of the player
+     * @return True if the hologram has no conditions or the player passes them
+     */
+    public boolean isVisibleTo(UUID playerId) {
+        int index = visibilityIndex;
+        return index < 0 || manager.getVisibilityIndex().canSee(playerId, index);
+    }
+
+    private void applyTier(Player viewer, boolean far) {
+        if (manager != null) {
+            manager.getTaskScheduler().checkEntity(viewer, "Hologram tier switch");
+        }
+        boolean allowed = isVisibleTo(viewer.getUniqueId());
+        boolean linesShown = allowed && !far;
+        // Handed-over tier switches can run after the hologram was hidden again
+        if (entities != null) {
+            for (ArmorStand stand : entities) {
+                if (stand == null) {
+                    continue;
+                }
+                if (linesShown) {
+                    viewer.showEntity(plugin, stand);
+                } else {
+                    viewer.hideEntity(plugin, stand);
+                }
+            }
+        }
+        if (personalized != null) {
+            personalized.setViewerFar(viewer, !linesShown);
+        }
+        if (summaryStand != null) {
+            if (allowed && far) {
+                viewer.showEntity(plugin, summaryStand);
+            } else {
+                viewer.hideEntity(plugin, summaryStand);
+            }
+        }
+    }
+
+    /**
+     * Gets the raw text of a line, taking template overrides into account
+     * 
+     * @param index Line index
+     * @return The line with & color codes
+     */
+    public String getRawLine(int index) {
+        if (template != null) {
+            String override = overrides != null ? overrides.get(index) : null;
+            return override != null ? override : template.getRawLine(index);
+        }
+        return lines[index];
+    }
+
+    /**
+     * Gets the color-translated text of a line. Template lines share the compiled
+     * text of the template, other lines go through the manager's line cache.
+     * 
+     * @param index Line index
+     * @return The translated line
+     */
+    String getCompiledLine(int index) {
+        if (template != null && !isLineOverridden(index)) {
+            return template.getCompiledLine(index);
+        }
+        String raw = getRawLine(index);
+        return manager != null ? manager.compileLine(raw) : ChatColor.translateAlternateColorCodes('&', raw);
+    }
+
+    /**
+     * @return Number of lines in the hologram
+     */
+    public int getLineCount() {
+        return template != null ? template.getLineCount() : lines.length;
+    }
+
+    /**
+     * Checks whether a template line is replaced by this hologram
+     * 
+     * @param index Line index
+     * @return True if the line is overridden
+     */
+    public boolean isLineOverridden(int index) {
+        return overrides != null && overrides.containsKey(index);
+    }
+
+    /**
+     * Pushes the current text of one line to its armor stand without respawning the
+     * hologram. Falls back to a full refresh when animated lines are involved.
+     * 
+     * @param index       Line index
+     * @param previousRaw The raw text the line had before
+     */
+    void updateLineEntity(int index, String previousRaw) {
+        if (!isVisible) {
+            return;
+        }
+        if (handOverToRegion(spawnedAt, () -> updateLineEntity(index, previousRaw))) {
+            return;
+        }
+        if (collapsed) {
+            refresh();
+            return;
+        }
+        
+        boolean animated = manager != null && (manager.getAnimationForLine(previousRaw) != null 
+                || manager.getAnimationForLine(getRawLine(index)) != null);
+        if (animated || entities == null || index >= entities.length || entities[index] == null 
+                || (manager != null && manager.getPlaceholders().compile(getCompiledLine(index)) != null)) {
+            refresh();
+            return;
+        }
+        
+        entities[index].setCustomName(getCompiledLine(index));
+    }
+
+    /**
+     * Changes the text of a single line. On templated holograms this stores an override.
+     * 
+     * @param index Line index
+     * @param text  New text of the line
+     * @return True if changed, false if index is out of bounds
+     */
+    public boolean setLine(int index, String text) {
+        if (index < 0 || index >= getLineCount()) {
+            return false;
+        }
+        
+        String previous = getRawLine(index);
+        if (template != null) {
+            if (text.equals(template.getRawLine(index))) {
+                // Same as the template again, no need to keep the override
+                if (overrides != null) {
+                    overrides.remove(index);
+                }
+            } else {
+                if (overrides == null) {
+                    overrides = new TreeMap<>();
+                }
+                overrides.put(index, text);
+            }
+        } else {
+            lines[index] = text.intern();
+        }
+        
+        updateLineEntity(index, previous);
+        changed();
+        return true;
+    }
+
+    /**
+     * Links this hologram to a template, replacing its own lines
+     * 
+     * @param newTemplate  The template to use
+     * @param newOverrides Lines replaced by this hologram (index to text), may be null
+     */
+    void setTemplate(HologramTemplate newTemplate, Map<Integer, String> newOverrides) {
+        if (template != null) {
+            template.removeInstance(this);
+        }
+        template = newTemplate;
+        overrides = newOverrides != null && !newOverrides.isEmpty() ? new TreeMap<>(newOverrides) : null;
+        lines = null;
+        template.addInstance(this);
+        refresh();
+        changed();
+    }
+
+    /**
+     * Unlinks this hologram from its template, keeping its current lines as its own
+     */
+    void detachTemplate() {
+        if (template == null) {
+            return;
+        }
+        String[] current = new String[getLineCount()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = getRawLine(i);
+        }
+        template.removeInstance(this);
+        template = null;
+        overrides = null;
+        lines = current;
+    }
+
     /**
      * Updates the text lines of the hologram
      * 
      * @param newLines New lines of text
      */
     public void updateLines(List<String> newLines) {
-        this.lines = new ArrayList<>(newLines);
-        if (isVisible) {
-            // Refresh the hologram
-            show();
+        replaceLines(newLines);
+        // Refresh the hologram
+        refresh();
+        changed();
+    }
+
+    /**
+     * Replaces the text lines without respawning, used by batches that render later
+     * 
+     * @param newLines New lines of text
+     */
+    void replaceLines(List<String> newLines) {
+        detachTemplate();
+        this.lines = internLines(newLines);
+        pruneLines(newLines.size());
+    }
+
+    /**
+     * Drops the overrides and click actions of lines that no longer exist
+     * 
+     * @param lineCount The new number of lines
+     */
+    void pruneLines(int lineCount) {
+        if (overrides != null) {
+            overrides.keySet().removeIf(line -> line >= lineCount);
+            if (overrides.isEmpty()) {
+                overrides = null;
+            }
+        }
+        if (clickActions != null) {
+            clickActions.keySet().removeIf(line -> line >= lineCount);
+            if (clickActions.isEmpty()) {
+                clickActions = null;
+            }
         }
     }
 
@@ -122,11 +663,19 @@ public class Hologram {
      * @param newLocation New location
      */
     public void updateLocation(Location newLocation) {
-        this.location = newLocation.clone();
-        if (isVisible) {
-            // Refresh the hologram
-            show();
-        }
+        setPosition(newLocation);
+        // Refresh the hologram
+        refresh();
+        changed();
+    }
+
+    /**
+     * Moves the hologram without respawning, used by batches that render later
+     * 
+     * @param newLocation New location
+     */
+    void relocate(Location newLocation) {
+        setPosition(newLocation);
     }
 
     /**
@@ -135,11 +684,12 @@ public class Hologram {
      * @param line Line to add
      */
     public void addLine(String line) {
-        lines.add(line);
-        if (isVisible) {
-            // Refresh the hologram
-            show();
-        }
+        detachTemplate();
+        lines = Arrays.copyOf(lines, lines.length + 1);
+        lines[lines.length - 1] = line.intern();
+        // Refresh the hologram
+        refresh();
+        changed();
     }
 
     /**
@@ -149,31 +699,275 @@ public class Hologram {
      * @return True if removed, false if index is out of bounds
      */
     public boolean removeLine(int index) {
-        if (index >= 0 && index < lines.size()) {
-            lines.remove(index);
-            if (isVisible) {
-                // Refresh the hologram
-                show();
-            }
+        if (index >= 0 && index < getLineCount()) {
+            detachTemplate();
+            String[] remaining = new String[lines.length - 1];
+            System.arraycopy(lines, 0, remaining, 0, index);
+            System.arraycopy(lines, index + 1, remaining, index, remaining.length - index);
+            lines = remaining;
+            shiftClickActions(index);
+            // Refresh the hologram
+            refresh();
+            changed();
             return true;
         }
         return false;
     }
 
+    /**
+     * Moves the click actions below a removed line up by one
+     * 
+     * @param removedIndex Index of the removed line
+     */
+    private void shiftClickActions(int removedIndex) {
+        if (clickActions == null) {
+            return;
+        }
+        Map<Integer, HologramClickAction> shifted = new TreeMap<>();
+        for (Map.Entry<Integer, HologramClickAction> entry : clickActions.entrySet()) {
+            int line = entry.getKey();
+            if (line != removedIndex) {
+                shifted.put(line > removedIndex ? line - 1 : line, entry.getValue());
+            }
+        }
+        clickActions = shifted.isEmpty() ? null : shifted;
+    }
+
+    /**
+     * Notifies the manager that the position or size of the lines changed
+     */
+    void changed() {
+        if (manager != null) {
+            manager.onHologramChanged(this);
+        }
+    }
+
+    /**
+     * Gets the action run when a line is clicked
+     * 
+     * @param index Line index
+     * @return The click action, or null if the line is not clickable
+     */
+    public HologramClickAction getClickAction(int index) {
+        return clickActions != null ? clickActions.get(index) : null;
+    }
+
+    /**
+     * @return True if at least one line of this hologram is clickable
+     */
+    public boolean hasClickActions() {
+        return clickActions != null;
+    }
+
+    public Map<Integer, HologramClickAction> getClickActions() {
+        return clickActions != null ? Collections.unmodifiableMap(clickActions) : Collections.emptyMap();
+    }
+
+    /**
+     * Sets or clears the action run when a line is clicked
+     * 
+     * @param index  Line index
+     * @param action The click action, or null to make the line non-clickable
+     */
+    void setClickAction(int index, HologramClickAction action) {
+        if (action != null) {
+            if (clickActions == null) {
+                clickActions = new TreeMap<>();
+            }
+            clickActions.put(index, action);
+        } else if (clickActions != null) {
+            clickActions.remove(index);
+            if (clickActions.isEmpty()) {
+                clickActions = null;
+            }
+        }
+        changed();
+    }
+
     // Getters and setters
     public String getId() {
         return id;
     }
 
+    /**
+     * @return A new Location of the hologram, prefer the coordinate getters in hot paths
+     */
     public Location getLocation() {
-        return location.clone();
+        return new Location(getWorld(), x, y, z);
+    }
+
+    /**
+     * @return The world of the hologram, or null if it is not loaded
+     */
+    public World getWorld() {
+        return HologramWorlds.get(worldIndex);
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getZ() {
+        return z;
     }
 
+    /**
+     * @return Read-only view of the raw lines, reflecting later changes to the hologram
+     */
     public List<String> getLines() {
-        return new ArrayList<>(lines);
+        return new LineView();
+    }
+
+    public HologramTemplate getTemplate() {
+        return template;
+    }
+
+    public Map<Integer, String> getOverrides() {
+        return overrides != null ? Collections.unmodifiableMap(overrides) : Collections.emptyMap();
     }
 
     public boolean isVisible() {
         return isVisible;
     }
+
+    /**
+     * @return Name of the world the hologram is in, or "unknown" if it is not loaded
+     */
+    public String getWorldName() {
+        World world = getWorld();
+        return world != null ? world.getName() : "unknown";
+    }
+
+    /**
+     * @return Number of entities currently spawned for this hologram
+     */
+    public int getEntityCount() {
+        int count = summaryStand != null ? 1 : 0;
+        if (entities != null) {
+            for (ArmorStand stand : entities) {
+                if (stand != null) {
+                    count++;
+                }
+            }
+        }
+        if (personalized != null) {
+            count += personalized.getStandCount();
+        }
+        return count;
+    }
+
+    /**
+     * @return True if this hologram switches to a summary for distant viewers
+     */
+    public boolean hasLod() {
+        return lodDistance > 0;
+    }
+
+    public double getLodDistance() {
+        return lodDistance;
+    }
+
+    public String getLodSummary() {
+        return lodSummary;
+    }
+
+    void setLod(double lodDistance, String lodSummary) {
+        this.lodDistance = Math.max(0, lodDistance);
+        this.lodSummary = lodSummary;
+    }
+
+    /**
+     * @return Priority when the chunk is over its entity budget, higher keeps its lines first
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * @return True if the hologram is shown as a single stand to fit its chunk's entity budget
+     */
+    public boolean isCollapsed() {
+        return collapsed;
+    }
+
+    /**
+     * Collapses the hologram to a single stand or restores its lines, taking effect on the next show
+     * 
+     * @param collapsed True to collapse
+     * @return True if the state changed
+     */
+    boolean setCollapsed(boolean collapsed) {
+        if (this.collapsed == collapsed) {
+            return false;
+        }
+        this.collapsed = collapsed;
+        return true;
+    }
+
+    /**
+     * @return Conditions a player has to meet to see this hologram, or null if everyone sees it
+     */
+    public HologramVisibility getVisibility() {
+        return visibility;
+    }
+
+    void setVisibility(HologramVisibility visibility) {
+        this.visibility = visibility != null && !visibility.isEmpty() ? visibility : null;
+    }
+
+    /**
+     * @return Dense index in the visibility index, or -1 if the hologram has no conditions
+     */
+    int getVisibilityIndex() {
+        return visibilityIndex;
+    }
+
+    void setVisibilityIndex(int visibilityIndex) {
+        this.visibilityIndex = visibilityIndex;
+    }
+
+    public HologramSchedule getSchedule() {
+        return schedule;
+    }
+
+    void setSchedule(HologramSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * @return True if the hologram is inside its scheduled time window (or has no schedule)
+     */
+    public boolean isScheduleOpen() {
+        return scheduleOpen;
+    }
+
+    void setScheduleOpen(boolean scheduleOpen) {
+        this.scheduleOpen = scheduleOpen;
+    }
+
+    /**
+     * Read-only list of the raw lines, backed by the hologram
+     */
+    private final class LineView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= getLineCount()) {
+                throw new IndexOutOfBoundsException("Line " + index + " of " + getLineCount());
+            }
+            return getRawLine(index);
+        }
+
+        @Override
+        public int size() {
+            return getLineCount();
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.ChatColor;
+
+import java.util.List;
+
+/**
+ * A precompiled animated line defined in the animations section of holograms.yml.
+ * <p>
+ * All frames are color-translated once at load time, so advancing the animation
+ * only has to pick an index out of the frame array.
+ */
+public class HologramAnimation {
+    private final String name;
+    private final int period;
+    private final String[] frames;
+
+    /**
+     * Creates a new animation
+     *
+     * @param name   Name used to reference the animation from a line
+     * @param period Number of ticks each frame stays visible
+     * @param frames Already color-translated frames
+     */
+    public HologramAnimation(String name, int period, String[] frames) {
+        this.name = name;
+        this.period = Math.max(1, period);
+        this.frames = frames;
+    }
+
+    /**
+     * Compiles an explicit list of frames
+     *
+     * @param rawFrames Frames with & color codes
+     * @return The translated frames
+     */
+    public static String[] compileFrames(List<String> rawFrames) {
+        String[] frames = new String[rawFrames.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = ChatColor.translateAlternateColorCodes('&', rawFrames.get(i));
+        }
+        return frames;
+    }
+
+    /**
+     * Compiles a scrolling marquee. Leading color codes of the text are applied to every
+     * frame, the rest of the text scrolls through a window of the given width.
+     *
+     * @param text  Text with optional leading & color codes
+     * @param width Number of visible characters
+     * @return One frame per scroll position
+     */
+    public static String[] compileScroll(String text, int width) {
+        // Split off the leading color/format codes so they survive the scrolling
+        int styleEnd = 0;
+        while (styleEnd + 1 < text.length() && text.charAt(styleEnd) == '&') {
+            styleEnd += 2;
+        }
+        String style = ChatColor.translateAlternateColorCodes('&', text.substring(0, styleEnd));
+        String content = text.substring(styleEnd);
+
+        if (content.length() <= width) {
+            return new String[] { style + content };
+        }
+
+        // Loop the text with a gap so the end does not run into the start
+        String looped = content + "   ";
+        String doubled = looped + looped;
+        String[] frames = new String[looped.length()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = style + doubled.substring(i, i + width);
+        }
+        return frames;
+    }
+
+    /**
+     * Compiles a color pulse, showing the same text in each of the given colors
+     *
+     * @param text   Text with optional & format codes
+     * @param colors Color prefixes such as "&c"
+     * @return One frame per color
+     */
+    public static String[] compilePulse(String text, List<String> colors) {
+        String[] frames = new String[colors.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = ChatColor.translateAlternateColorCodes('&', colors.get(i) + text);
+        }
+        return frames;
+    }
+
+    /**
+     * Gets the frame index visible at the given tick
+     *
+     * @param tick Global animation tick
+     * @return Index into the frame array
+     */
+    public int frameAt(long tick) {
+        return (int) ((tick / period) % frames.length);
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public String getFrame(int index) {
+        return frames[index];
+    }
+
+    public int getFrameCount() {
+        return frames.length;
+    }
+}
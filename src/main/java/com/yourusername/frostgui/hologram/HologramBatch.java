@@ -0,0 +1,540 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A set of hologram changes applied all at once.
+ * <p>
+ * Changes are staged on drafts and validated as they are made; the live holograms are
+ * not touched until {@link #commit()}. An invalid change throws an IllegalArgumentException
+ * and leaves the batch as it was, so dropping a batch after an error applies nothing.
+ * A commit checks every change against the current holograms and templates before applying
+ * any of them, writes holograms.yml once and respawns the changed holograms spread over the
+ * following ticks instead of all in the same tick.
+ */
+public class HologramBatch {
+
+    /** Keys of a hologram section that are not settings, see {@link #setSettings} */
+    private static final Set<String> DEFINITION_KEYS = new HashSet<>(
+            Arrays.asList("world", "x", "y", "z", "lines", "template", "overrides"));
+
+    /**
+     * Staged state of one hologram
+     */
+    private static final class Draft {
+        private final Hologram live;
+        private Location location;
+        private List<String> lines;
+        private boolean removed;
+        private boolean templateStaged;
+        private String template;
+        private Map<Integer, String> overrides;
+        private ConfigurationSection settings;
+
+        private Draft(Hologram live, Location location, List<String> lines) {
+            this.live = live;
+            this.location = location;
+            this.lines = lines;
+        }
+
+        private boolean isMoved() {
+            return live.getWorld() != location.getWorld() || live.getX() != location.getX()
+                    || live.getY() != location.getY() || live.getZ() != location.getZ();
+        }
+
+        private boolean isTemplateChanged() {
+            if (!templateStaged) {
+                return false;
+            }
+            HologramTemplate current = live.getTemplate();
+            if (template == null) {
+                return current != null;
+            }
+            return current == null || !current.getName().equals(template) || !live.getOverrides().equals(overrides);
+        }
+
+        private boolean isSettingsChanged() {
+            if (settings == null) {
+                return false;
+            }
+            YamlConfiguration current = new YamlConfiguration();
+            HologramManager.writeDefinition(current, "hologram", live);
+            ConfigurationSection written = current.getConfigurationSection("hologram");
+            return written == null || !settingValues(written).equals(settingValues(settings));
+        }
+    }
+
+    private final HologramManager manager;
+    private final Map<String, Draft> drafts;
+    private final Map<String, List<String>> newTemplates;
+    private boolean committed;
+
+    /**
+     * Creates a new empty batch
+     *
+     * @param manager The manager whose holograms are changed
+     */
+    HologramBatch(HologramManager manager) {
+        this.manager = manager;
+        this.drafts = new LinkedHashMap<>();
+        this.newTemplates = new LinkedHashMap<>();
+    }
+
+    /**
+     * Stages a new hologram
+     *
+     * @param id       Unique identifier for the hologram
+     * @param location Location of the hologram
+     * @param lines    Lines of text to display
+     * @throws IllegalArgumentException If the ID is taken, the world is not loaded or there are no lines
+     */
+    public void create(String id, Location location, List<String> lines) {
+        if (id == null || id.isEmpty() || id.contains(".")) {
+            throw new IllegalArgumentException("Invalid hologram ID '" + id + "'");
+        }
+        if (exists(id)) {
+            throw new IllegalArgumentException("A hologram with ID '" + id + "' already exists");
+        }
+        if (location.getWorld() == null) {
+            throw new IllegalArgumentException("The world of hologram '" + id + "' is not loaded");
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Hologram '" + id + "' needs at least one line");
+        }
+
+        // Re-creating a hologram removed earlier in this batch turns into an edit of it
+        Draft draft = new Draft(manager.getHologram(id), location.clone(), new ArrayList<>(lines));
+        if (draft.live != null) {
+            // Starts over like a new hologram: no template, level of detail, schedule or visibility
+            draft.templateStaged = true;
+            draft.settings = new YamlConfiguration();
+        }
+        drafts.put(id, draft);
+    }
+
+    /**
+     * Stages new lines for a hologram
+     *
+     * @param id    The hologram ID
+     * @param lines New lines of text
+     * @throws IllegalArgumentException If there is no such hologram or a template is staged for it
+     */
+    public void setLines(String id, List<String> lines) {
+        ownLinesDraft(id).lines = new ArrayList<>(lines);
+    }
+
+    /**
+     * Stages a new text for one line
+     *
+     * @param id    The hologram ID
+     * @param index Line index
+     * @param text  New text of the line
+     * @throws IllegalArgumentException If there is no such hologram or line, or a template is staged for it
+     */
+    public void setLine(String id, int index, String text) {
+        Draft draft = ownLinesDraft(id);
+        checkLine(id, draft, index);
+        draft.lines.set(index, text);
+    }
+
+    /**
+     * Stages a line added to the end of a hologram
+     *
+     * @param id   The hologram ID
+     * @param text Text of the line
+     * @throws IllegalArgumentException If there is no such hologram or a template is staged for it
+     */
+    public void addLine(String id, String text) {
+        ownLinesDraft(id).lines.add(text);
+    }
+
+    /**
+     * Stages the removal of one line
+     *
+     * @param id    The hologram ID
+     * @param index Line index
+     * @throws IllegalArgumentException If there is no such hologram or line, or a template is staged for it
+     */
+    public void removeLine(String id, int index) {
+        Draft draft = ownLinesDraft(id);
+        checkLine(id, draft, index);
+        draft.lines.remove(index);
+    }
+
+    /**
+     * Stages linking a hologram to a template, or unlinking it. The hologram shows the
+     * template's lines, with its own overrides. Once a template is staged, the lines can
+     * only be changed through the overrides.
+     *
+     * @param id        The hologram ID
+     * @param template  Name of an existing or staged template, or null to keep the current
+     *                  lines as the hologram's own
+     * @param overrides Lines replaced by the hologram (index to text), may be null
+     * @throws IllegalArgumentException If there is no such hologram or template
+     */
+    public void setTemplate(String id, String template, Map<Integer, String> overrides) {
+        Draft draft = draft(id);
+        if (template != null) {
+            List<String> templateLines = getTemplateLines(template);
+            if (templateLines == null) {
+                throw new IllegalArgumentException("Hologram '" + id + "' uses unknown template '" + template + "'");
+            }
+            draft.lines = new ArrayList<>(templateLines);
+        }
+        draft.templateStaged = true;
+        draft.template = template;
+        draft.overrides = template != null && overrides != null ? new TreeMap<>(overrides) : new TreeMap<>();
+    }
+
+    /**
+     * Stages replacing the level of detail, schedule, click actions, priority and visibility
+     * of a hologram with those of a section laid out like the holograms in holograms.yml.
+     * Settings missing from the section are cleared.
+     *
+     * @param id       The hologram ID
+     * @param settings The hologram's section
+     * @throws IllegalArgumentException If there is no such hologram or any setting is invalid,
+     *                                  listing every invalid setting
+     */
+    public void setSettings(String id, ConfigurationSection settings) {
+        Draft draft = draft(id);
+        // Read onto a detached copy, so invalid settings are reported before anything is applied
+        Hologram probe = new Hologram(manager.getPlugin(), id, draft.location, draft.lines);
+        List<String> problems = manager.readSettings(probe, settings);
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Invalid " + String.join(", ", problems));
+        }
+        draft.settings = settings;
+    }
+
+    /**
+     * Stages a new template, created before the holograms of this batch are applied
+     *
+     * @param name  Name of the template
+     * @param lines Lines of the template
+     * @throws IllegalArgumentException If the template exists or there are no lines
+     */
+    public void createTemplate(String name, List<String> lines) {
+        if (getTemplateLines(name) != null) {
+            throw new IllegalArgumentException("A template named '" + name + "' already exists");
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Template '" + name + "' needs at least one line");
+        }
+        newTemplates.put(name, new ArrayList<>(lines));
+    }
+
+    /**
+     * Gets the lines of an existing or staged template
+     *
+     * @param name Name of the template
+     * @return The lines, or null if there is no such template
+     */
+    public List<String> getTemplateLines(String name) {
+        List<String> staged = newTemplates.get(name);
+        if (staged != null) {
+            return staged;
+        }
+        HologramTemplate template = manager.getTemplate(name);
+        return template != null ? template.getLines() : null;
+    }
+
+    /**
+     * Stages a new location for a hologram
+     *
+     * @param id       The hologram ID
+     * @param location New location
+     * @throws IllegalArgumentException If there is no such hologram or the world is not loaded
+     */
+    public void move(String id, Location location) {
+        Draft draft = draft(id);
+        if (location.getWorld() == null) {
+            throw new IllegalArgumentException("The world of hologram '" + id + "' is not loaded");
+        }
+        draft.location = location.clone();
+    }
+
+    /**
+     * Stages moving a hologram by an offset
+     *
+     * @param id The hologram ID
+     * @param dx Offset along X
+     * @param dy Offset along Y
+     * @param dz Offset along Z
+     * @throws IllegalArgumentException If there is no such hologram
+     */
+    public void shift(String id, double dx, double dy, double dz) {
+        draft(id).location.add(dx, dy, dz);
+    }
+
+    /**
+     * Stages the removal of a hologram
+     *
+     * @param id The hologram ID
+     * @throws IllegalArgumentException If there is no such hologram
+     */
+    public void remove(String id) {
+        Draft draft = draft(id);
+        if (draft.live == null) {
+            // Created and removed in the same batch, nothing to do
+            drafts.remove(id);
+        } else {
+            draft.removed = true;
+        }
+    }
+
+    /**
+     * Checks whether a hologram exists once this batch is applied
+     *
+     * @param id The hologram ID
+     * @return True if the hologram exists
+     */
+    public boolean exists(String id) {
+        Draft draft = drafts.get(id);
+        return draft != null ? !draft.removed : manager.getHologram(id) != null;
+    }
+
+    /**
+     * Describes what committing this batch would change, for dry runs
+     *
+     * @return One line per change: "+" created, "-" removed and "~" changed holograms
+     */
+    public List<String> describeChanges() {
+        List<String> changes = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : newTemplates.entrySet()) {
+            changes.add("+ template " + entry.getKey() + " with " + entry.getValue().size() + " line(s)");
+        }
+        for (Map.Entry<String, Draft> entry : drafts.entrySet()) {
+            String id = entry.getKey();
+            Draft draft = entry.getValue();
+            if (draft.removed) {
+                changes.add("- " + id);
+                continue;
+            }
+            if (draft.live == null) {
+                changes.add("+ " + id + " at " + format(draft.location) + " with " + draft.lines.size() + " line(s)"
+                        + (draft.template != null ? " from template " + draft.template : ""));
+                continue;
+            }
+            if (draft.isMoved()) {
+                changes.add("~ " + id + " moved to " + format(draft.location));
+            }
+            if (draft.isTemplateChanged()) {
+                changes.add("~ " + id + (draft.template != null ? " uses template " + draft.template : " no longer uses a template"));
+            }
+            if (draft.isSettingsChanged()) {
+                changes.add("~ " + id + " settings changed");
+            }
+            if (draft.template != null) {
+                // Template lines are not the hologram's own, overrides are covered above
+                continue;
+            }
+            List<String> current = draft.live.getLines();
+            int lineCount = Math.max(current.size(), draft.lines.size());
+            for (int i = 0; i < lineCount; i++) {
+                String before = i < current.size() ? current.get(i) : null;
+                String after = i < draft.lines.size() ? draft.lines.get(i) : null;
+                if (before == null) {
+                    changes.add("~ " + id + " line " + (i + 1) + " added: " + after);
+                } else if (after == null) {
+                    changes.add("~ " + id + " line " + (i + 1) + " removed: " + before);
+                } else if (!before.equals(after)) {
+                    changes.add("~ " + id + " line " + (i + 1) + ": " + before + " -> " + after);
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Applies every staged change: one write of holograms.yml, then a time-sliced respawn
+     *
+     * @return Number of holograms created, changed or removed
+     * @throws IllegalStateException    If the batch was already committed
+     * @throws IllegalArgumentException If holograms or templates were changed since they were
+     *                                  staged; nothing is applied then
+     */
+    public int commit() {
+        if (committed) {
+            throw new IllegalStateException("Batch was already committed");
+        }
+        Map<String, HologramTemplate> templates = resolveTemplates();
+        committed = true;
+
+        for (Map.Entry<String, List<String>> entry : newTemplates.entrySet()) {
+            templates.put(entry.getKey(), manager.createTemplate(entry.getKey(), entry.getValue()));
+        }
+
+        List<Hologram> created = new ArrayList<>();
+        List<Hologram> changed = new ArrayList<>();
+        List<Hologram> removed = new ArrayList<>();
+        // Holograms with new settings, handed to the trackers once they are registered
+        List<Hologram> createdWithSettings = new ArrayList<>();
+        List<Hologram> changedSettings = new ArrayList<>();
+        for (Map.Entry<String, Draft> entry : drafts.entrySet()) {
+            Draft draft = entry.getValue();
+            if (draft.live == null) {
+                Hologram hologram = new Hologram(manager, entry.getKey(), draft.location, draft.lines);
+                if (draft.template != null) {
+                    hologram.setTemplate(templates.get(draft.template), draft.overrides);
+                }
+                if (draft.settings != null) {
+                    manager.readSettings(hologram, draft.settings);
+                    createdWithSettings.add(hologram);
+                }
+                created.add(hologram);
+                continue;
+            }
+            if (draft.removed) {
+                removed.add(draft.live);
+                continue;
+            }
+
+            boolean moved = draft.isMoved();
+            boolean templateChanged = draft.isTemplateChanged();
+            boolean settingsChanged = draft.isSettingsChanged();
+            boolean linesChanged = draft.template == null && !draft.lines.equals(draft.live.getLines());
+            if (!moved && !templateChanged && !settingsChanged && !linesChanged) {
+                continue;
+            }
+            if (templateChanged) {
+                if (draft.template != null) {
+                    draft.live.setTemplate(templates.get(draft.template), draft.overrides);
+                } else {
+                    draft.live.detachTemplate();
+                }
+            }
+            // Unchanged lines keep their template link, only real edits detach it
+            if (linesChanged) {
+                draft.live.replaceLines(draft.lines);
+            }
+            if (moved) {
+                draft.live.relocate(draft.location);
+            }
+            if (settingsChanged) {
+                manager.readSettings(draft.live, draft.settings);
+                changedSettings.add(draft.live);
+            }
+            changed.add(draft.live);
+        }
+
+        manager.applyBatch(created, changed, removed);
+        for (Hologram hologram : createdWithSettings) {
+            manager.trackSettings(hologram, false, false);
+        }
+        // The previous level of detail or schedule may have been cleared, so update both
+        for (Hologram hologram : changedSettings) {
+            manager.trackSettings(hologram, true, true);
+        }
+        return created.size() + changed.size() + removed.size();
+    }
+
+    /**
+     * Collects the settings of a hologram section, leaving out position, lines and template
+     *
+     * @param section The hologram's section
+     * @return Setting paths to values, with numbers widened so 2 and 2.0 compare equal
+     */
+    private static Map<String, Object> settingValues(ConfigurationSection section) {
+        Map<String, Object> values = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            String key = entry.getKey();
+            int split = key.indexOf('.');
+            Object value = entry.getValue();
+            if (value instanceof ConfigurationSection || DEFINITION_KEYS.contains(split >= 0 ? key.substring(0, split) : key)) {
+                continue;
+            }
+            values.put(key, value instanceof Number ? ((Number) value).doubleValue() : value);
+        }
+        return values;
+    }
+
+    /**
+     * Checks every staged change against the current holograms and templates, before any
+     * of them is applied
+     *
+     * @return The existing templates used by the drafts, by name
+     * @throws IllegalArgumentException If a hologram or template was changed since it was staged
+     */
+    private Map<String, HologramTemplate> resolveTemplates() {
+        List<String> problems = new ArrayList<>();
+        for (String name : newTemplates.keySet()) {
+            if (manager.getTemplate(name) != null) {
+                problems.add("template '" + name + "' was created meanwhile");
+            }
+        }
+
+        Map<String, HologramTemplate> templates = new HashMap<>();
+        for (Map.Entry<String, Draft> entry : drafts.entrySet()) {
+            String id = entry.getKey();
+            Draft draft = entry.getValue();
+            Hologram current = manager.getHologram(id);
+            if (current != draft.live) {
+                problems.add("hologram '" + id + "' was " + (draft.live == null ? "created" : current == null ? "removed" : "replaced") + " meanwhile");
+            }
+            if (draft.removed || draft.template == null || newTemplates.containsKey(draft.template)) {
+                continue;
+            }
+            HologramTemplate template = manager.getTemplate(draft.template);
+            if (template == null) {
+                problems.add("template '" + draft.template + "' of hologram '" + id + "' was removed meanwhile");
+            } else {
+                templates.put(draft.template, template);
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Batch not applied, " + String.join(", ", problems));
+        }
+        return templates;
+    }
+
+    private Draft draft(String id) {
+        Draft draft = drafts.get(id);
+        if (draft == null) {
+            Hologram live = manager.getHologram(id);
+            if (live == null) {
+                throw new IllegalArgumentException("No hologram found with ID '" + id + "'");
+            }
+            draft = new Draft(live, live.getLocation(), new ArrayList<>(live.getLines()));
+            drafts.put(id, draft);
+        } else if (draft.removed) {
+            throw new IllegalArgumentException("Hologram '" + id + "' is removed in this batch");
+        }
+        return draft;
+    }
+
+    private Draft ownLinesDraft(String id) {
+        Draft draft = draft(id);
+        if (draft.template != null) {
+            throw new IllegalArgumentException("Hologram '" + id + "' uses template '" + draft.template
+                    + "' in this batch, change its overrides instead");
+        }
+        return draft;
+    }
+
+    private static void checkLine(String id, Draft draft, int index) {
+        if (index < 0 || index >= draft.lines.size()) {
+            throw new IllegalArgumentException("Hologram '" + id + "' has no line " + (index + 1)
+                    + " (1-" + draft.lines.size() + ")");
+        }
+    }
+
+    private static String format(Location location) {
+        return String.format(Locale.ROOT, "%s %.2f, %.2f, %.2f", Objects.requireNonNull(location.getWorld()).getName(),
+                location.getX(), location.getY(), location.getZ());
+    }
+}
@@ -0,0 +1,107 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.Locale;
+
+/**
+ * Action executed when a player clicks a hologram line.
+ * <p>
+ * Stored with the hologram as "&lt;type&gt;:&lt;value&gt;", where the type is one of
+ * command (run by the player), console (run by the console), message (sent to the player)
+ * or menu (opens a FrostGUI menu).
+ * {player} in the value is replaced with the name of the clicking player.
+ */
+public class HologramClickAction {
+
+    /**
+     * Kinds of click actions
+     */
+    public enum Type {
+        COMMAND,
+        CONSOLE,
+        MESSAGE,
+        MENU
+    }
+
+    private final Type type;
+    private final String value;
+
+    /**
+     * Creates a new click action
+     *
+     * @param type  The kind of action
+     * @param value The command or message
+     */
+    public HologramClickAction(Type type, String value) {
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Parses an action in the form "&lt;type&gt;:&lt;value&gt;"
+     *
+     * @param text The action text
+     * @return The parsed action
+     * @throws IllegalArgumentException If the type is unknown or the value is empty
+     */
+    public static HologramClickAction parse(String text) {
+        int colon = text.indexOf(':');
+        if (colon <= 0 || colon == text.length() - 1) {
+            throw new IllegalArgumentException("Expected <type>:<value> but got '" + text + "'");
+        }
+
+        Type type;
+        try {
+            type = Type.valueOf(text.substring(0, colon).trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown click action type '" + text.substring(0, colon) + "'");
+        }
+
+        String value = text.substring(colon + 1).trim();
+        // Commands may be written with or without the leading slash
+        if ((type == Type.COMMAND || type == Type.CONSOLE) && value.startsWith("/")) {
+            value = value.substring(1);
+        }
+        return new HologramClickAction(type, value);
+    }
+
+    /**
+     * Runs the action for a player
+     *
+     * @param player The clicking player
+     */
+    public void execute(Player player) {
+        String resolved = value.replace("{player}", player.getName());
+        switch (type) {
+            case COMMAND:
+                player.performCommand(resolved);
+                break;
+            case CONSOLE:
+                player.getServer().dispatchCommand(player.getServer().getConsoleSender(), resolved);
+                break;
+            case MESSAGE:
+                player.sendMessage(ChatColor.translateAlternateColorCodes('&', resolved));
+                break;
+            case MENU:
+                // Goes through the command so the menu's own permission check applies
+                player.performCommand("frostgui menu " + resolved);
+                break;
+        }
+    }
+
+    // Getters
+    public Type getType() {
+        return type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return type.name().toLowerCase(Locale.ROOT) + ":" + value;
+    }
+}
@@ -0,0 +1,226 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caps the number of line entities spawned per chunk.
+ * <p>
+ * Every hologram wants one armor stand per line, plus one for its LOD summary. When the
+ * holograms anchored in a chunk want more than the configured budget, the ones with the
+ * lowest priority are collapsed into a single stand showing their LOD summary (or their
+ * first line) until the chunk fits. Chunks are only rebalanced when a hologram in them
+ * is added, changed or removed, so the budget costs nothing while rendering.
+ */
+public class HologramDensityBudget {
+    /** Highest priority first; among equals, smaller holograms keep their lines first */
+    private static final Comparator<Hologram> KEEP_ORDER = Comparator
+            .comparingInt(Hologram::getPriority).reversed()
+            .thenComparingInt(HologramDensityBudget::wantedEntities)
+            .thenComparing(Hologram::getId);
+
+    /**
+     * Line entities wanted and spawned in one chunk
+     */
+    public static final class ChunkUsage {
+        private final World world;
+        private final int chunkX;
+        private final int chunkZ;
+        private int holograms;
+        private int wanted;
+        private int collapsed;
+
+        private ChunkUsage(World world, int chunkX, int chunkZ) {
+            this.world = world;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        public World getWorld() {
+            return world;
+        }
+
+        public int getChunkX() {
+            return chunkX;
+        }
+
+        public int getChunkZ() {
+            return chunkZ;
+        }
+
+        /**
+         * @return Number of holograms anchored in the chunk
+         */
+        public int getHologramCount() {
+            return holograms;
+        }
+
+        /**
+         * @return Line entities the holograms would spawn without a budget
+         */
+        public int getWantedEntities() {
+            return wanted;
+        }
+
+        /**
+         * @return Number of holograms collapsed to a single stand
+         */
+        public int getCollapsedCount() {
+            return collapsed;
+        }
+    }
+
+    private final HologramManager manager;
+    private final Map<UUID, Map<Long, ChunkUsage>> chunks;
+    private final Map<Hologram, ChunkUsage> chunkOf;
+
+    /**
+     * Creates a new HologramDensityBudget
+     *
+     * @param manager The owning hologram manager
+     */
+    public HologramDensityBudget(HologramManager manager) {
+        this.manager = manager;
+        this.chunks = new HashMap<>();
+        this.chunkOf = new IdentityHashMap<>();
+    }
+
+    /**
+     * @return Line entities allowed per chunk, or 0 if the budget is disabled
+     */
+    public int getBudget() {
+        return Math.max(0, manager.getPlugin().getConfig().getInt("holograms.density.max-line-entities-per-chunk", 64));
+    }
+
+    /**
+     * Line entities a hologram spawns when it is not collapsed
+     *
+     * @param hologram The hologram
+     * @return One per line, plus one for the LOD summary
+     */
+    public static int wantedEntities(Hologram hologram) {
+        boolean summary = hologram.hasLod() && hologram.getLodSummary() != null && !hologram.getLodSummary().isEmpty();
+        return hologram.getLineCount() + (summary ? 1 : 0);
+    }
+
+    /**
+     * Rebalances the chunk of a hologram after it was added, moved or changed, and the
+     * chunk it left if it moved. The spatial index must already be up to date.
+     *
+     * @param hologram The hologram
+     */
+    void update(Hologram hologram) {
+        World world = hologram.getWorld();
+        ChunkUsage previous = chunkOf.get(hologram);
+        if (world == null) {
+            remove(hologram);
+            return;
+        }
+
+        int chunkX = (int) Math.floor(hologram.getX()) >> 4;
+        int chunkZ = (int) Math.floor(hologram.getZ()) >> 4;
+        ChunkUsage current = chunks.computeIfAbsent(world.getUID(), id -> new HashMap<>())
+                .computeIfAbsent(HologramSpatialIndex.chunkKey(chunkX, chunkZ), key -> new ChunkUsage(world, chunkX, chunkZ));
+        chunkOf.put(hologram, current);
+        if (previous != null && previous != current) {
+            rebalance(previous);
+        }
+        rebalance(current);
+    }
+
+    /**
+     * Rebalances the chunk a removed hologram was in. The spatial index must already be up to date.
+     *
+     * @param hologram The removed hologram
+     */
+    void remove(Hologram hologram) {
+        ChunkUsage previous = chunkOf.remove(hologram);
+        if (previous != null) {
+            rebalance(previous);
+        }
+    }
+
+    /**
+     * Rebalances every chunk, for example after the budget was changed in the config
+     */
+    public void rebalanceAll() {
+        List<ChunkUsage> all = new ArrayList<>();
+        for (Map<Long, ChunkUsage> worldChunks : chunks.values()) {
+            all.addAll(worldChunks.values());
+        }
+        for (ChunkUsage usage : all) {
+            rebalance(usage);
+        }
+    }
+
+    /**
+     * Gets the usage of the chunk a hologram is anchored in
+     *
+     * @param hologram The hologram
+     * @return The usage, or null if the hologram is not tracked
+     */
+    public ChunkUsage getUsage(Hologram hologram) {
+        return chunkOf.get(hologram);
+    }
+
+    /**
+     * Gets the chunks wanting the most line entities
+     *
+     * @param limit Maximum number of chunks returned
+     * @return Chunks ordered by wanted line entities, densest first
+     */
+    public List<ChunkUsage> getDensestChunks(int limit) {
+        List<ChunkUsage> all = new ArrayList<>();
+        for (Map<Long, ChunkUsage> worldChunks : chunks.values()) {
+            all.addAll(worldChunks.values());
+        }
+        all.sort(Comparator.comparingInt(ChunkUsage::getWantedEntities).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+    }
+
+    /**
+     * Decides which holograms of a chunk keep all their lines. Holograms are granted their
+     * full entity count in priority order while it fits the budget; the rest collapse.
+     */
+    private void rebalance(ChunkUsage usage) {
+        List<Hologram> inChunk = manager.getSpatialIndex().getHologramsInChunk(usage.world, usage.chunkX, usage.chunkZ);
+        if (inChunk.isEmpty()) {
+            Map<Long, ChunkUsage> worldChunks = chunks.get(usage.world.getUID());
+            if (worldChunks != null) {
+                worldChunks.remove(HologramSpatialIndex.chunkKey(usage.chunkX, usage.chunkZ));
+                if (worldChunks.isEmpty()) {
+                    chunks.remove(usage.world.getUID());
+                }
+            }
+            return;
+        }
+
+        inChunk.sort(KEEP_ORDER);
+        int budget = getBudget();
+        int used = 0;
+        usage.holograms = inChunk.size();
+        usage.wanted = 0;
+        usage.collapsed = 0;
+        for (Hologram hologram : inChunk) {
+            int wanted = wantedEntities(hologram);
+            usage.wanted += wanted;
+            boolean collapse = budget > 0 && wanted > 1 && used + wanted > budget;
+            used += collapse ? 1 : wanted;
+            if (collapse) {
+                usage.collapsed++;
+            }
+            if (hologram.setCollapsed(collapse)) {
+                // Collapsed holograms have no clickable lines
+                manager.getSpatialIndex().update(hologram);
+                hologram.refresh();
+            }
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package com.yourusername.frostgui.hologram;
 
+import com.yourusername.frostgui.metrics.Counter;
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.metrics.PluginMetrics;
+import com.yourusername.frostgui.scheduler.BukkitFrostScheduler;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.ChatColor;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -8,27 +16,108 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * Manages all holograms in the plugin
  */
 public class HologramManager {
+    private static final String ANIMATION_PREFIX = "{animation:";
+    private static final int MAX_COMPILED_LINES = 4096;
+    
     private JavaPlugin plugin;
     private Map<String, Hologram> holograms;
     private File hologramsFile;
     private FileConfiguration hologramsConfig;
+    private final Map<String, HologramAnimation> animations;
+    private final Map<String, HologramTemplate> templates;
+    /** Most recently used compiled lines, shared between holograms showing the same text */
+    private final Map<String, String> compiledLines;
+    private final AnimationTicker animationTicker;
+    private final HologramScheduler scheduler;
+    private final HologramViewTracker viewTracker;
+    private final HologramSpatialIndex spatialIndex;
+    private final HologramPlaceholders placeholders;
+    private final HologramDensityBudget densityBudget;
+    private final HologramVisibilityIndex visibilityIndex;
+    private final PluginMetrics metrics;
+    private final FrostScheduler taskScheduler;
+    private final LatencyHistogram showTime;
+    private final LatencyHistogram removeTime;
+    private final LatencyHistogram saveTime;
+    private final LatencyHistogram loadTime;
+    private final Counter saveFailures;
+    private final Set<Hologram> pendingRenders;
+    private TaskHandle renderTask;
+    private boolean showingHolograms;
+    private volatile long registryVersion;
 
     /**
-     * Creates a new HologramManager
+     * Creates a new HologramManager with its own metrics
      * 
      * @param plugin The JavaPlugin instance
      */
     public HologramManager(JavaPlugin plugin) {
+        this(plugin, new PluginMetrics());
+    }
+
+    /**
+     * Creates a new HologramManager
+     * 
+     * @param plugin  The JavaPlugin instance
+     * @param metrics Registry receiving the hologram timings and entity counts
+     */
+    public HologramManager(JavaPlugin plugin, PluginMetrics metrics) {
+        this(plugin, metrics, new BukkitFrostScheduler(plugin));
+    }
+
+    /**
+     * Creates a new HologramManager
+     * 
+     * @param plugin        The JavaPlugin instance
+     * @param metrics       Registry receiving the hologram timings and entity counts
+     * @param taskScheduler Scheduler running hologram work on the thread owning each region
+     */
+    public HologramManager(JavaPlugin plugin, PluginMetrics metrics, FrostScheduler taskScheduler) {
         this.plugin = plugin;
+        this.metrics = metrics;
+        this.taskScheduler = taskScheduler;
+        this.showTime = metrics.histogram("frostgui_hologram_show_seconds", "Time spent spawning a hologram");
+        this.removeTime = metrics.histogram("frostgui_hologram_remove_seconds", "Time spent despawning a hologram");
+        this.saveTime = metrics.histogram("frostgui_holograms_save_seconds", "Time spent writing holograms.yml");
+        this.loadTime = metrics.histogram("frostgui_holograms_load_seconds", "Time spent loading holograms from holograms.yml");
+        this.saveFailures = metrics.counter("frostgui_holograms_save_failures_total", "Failed writes of holograms.yml");
+        metrics.gauge("frostgui_holograms", "Holograms loaded", "world", this::countHologramsByWorld);
+        metrics.gauge("frostgui_hologram_entities", "Live hologram entities", "world", this::countEntitiesByWorld);
         this.holograms = new HashMap<>();
+        this.animations = new HashMap<>();
+        this.templates = new HashMap<>();
+        this.compiledLines = Collections.synchronizedMap(new LinkedHashMap<String, String>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_COMPILED_LINES;
+            }
+        });
+        this.pendingRenders = new LinkedHashSet<>();
+        this.animationTicker = new AnimationTicker(plugin, metrics, taskScheduler);
+        this.scheduler = new HologramScheduler(this);
+        this.spatialIndex = new HologramSpatialIndex(plugin);
+        this.viewTracker = new HologramViewTracker(plugin, metrics.getGovernor(), taskScheduler, spatialIndex);
+        this.placeholders = new HologramPlaceholders(this);
+        this.densityBudget = new HologramDensityBudget(this);
+        this.visibilityIndex = new HologramVisibilityIndex(plugin, taskScheduler);
         this.hologramsFile = new File(plugin.getDataFolder(), "holograms.yml");
         
         // Create config file if it doesn't exist
@@ -66,8 +155,14 @@ public class HologramManager {
         
         this.hologramsConfig = YamlConfiguration.loadConfiguration(hologramsFile);
         
+        // Load animations and templates first so holograms can reference them
+        loadAnimations();
+        loadTemplates();
+        
         // Load holograms from config
+        long loadStart = System.nanoTime();
         loadHolograms();
+        loadTime.recordSince(loadStart);
     }
 
     /**
@@ -83,8 +178,11 @@ public class HologramManager {
             return null; // Hologram with this ID already exists
         }
         
-        Hologram hologram = new Hologram(plugin, id, location, lines);
+        Hologram hologram = new Hologram(this, id, location, lines);
         holograms.put(id, hologram);
+        registryVersion++;
+        spatialIndex.update(hologram);
+        densityBudget.update(hologram);
         saveHologram(hologram);
         
         return hologram;
@@ -107,20 +205,131 @@ public class HologramManager {
      * @return True if removed, false if not found
      */
     public boolean removeHologram(String id) {
-        Hologram hologram = holograms.remove(id);
+        Hologram hologram = holograms.get(id);
         if (hologram != null) {
-            hologram.remove();
-            hologramsConfig.set("holograms." + id, null);
+            unregister(hologram);
             saveConfig();
             return true;
         }
         return false;
     }
 
+    /**
+     * Despawns a hologram and forgets it everywhere, without saving the file
+     * 
+     * @param hologram The hologram to remove
+     */
+    private void unregister(Hologram hologram) {
+        holograms.remove(hologram.getId());
+        registryVersion++;
+        pendingRenders.remove(hologram);
+        if (hologram.getTemplate() != null) {
+            hologram.getTemplate().removeInstance(hologram);
+        }
+        scheduler.unschedule(hologram);
+        viewTracker.forget(hologram);
+        spatialIndex.remove(hologram);
+        densityBudget.remove(hologram);
+        visibilityIndex.remove(hologram);
+        hologram.remove();
+        hologramsConfig.set("holograms." + hologram.getId(), null);
+    }
+
+    /**
+     * Starts a batch of changes that is applied all at once by {@link HologramBatch#commit()}
+     * 
+     * @return The new, empty batch
+     */
+    public HologramBatch batch() {
+        return new HologramBatch(this);
+    }
+
+    /**
+     * Stages changes in a new batch and commits them. If staging throws, nothing is applied.
+     * 
+     * @param changes Stages the changes on the batch
+     * @return Number of holograms created, changed or removed
+     * @throws IllegalArgumentException If one of the changes is invalid
+     */
+    public int batch(Consumer<HologramBatch> changes) {
+        HologramBatch batch = batch();
+        changes.accept(batch);
+        return batch.commit();
+    }
+
+    /**
+     * Registers, persists and queues the respawn of everything a committed batch touched
+     * 
+     * @param created Holograms new in this batch
+     * @param changed Holograms whose location or lines were changed in place
+     * @param removed Holograms to remove
+     */
+    void applyBatch(List<Hologram> created, List<Hologram> changed, List<Hologram> removed) {
+        for (Hologram hologram : removed) {
+            unregister(hologram);
+        }
+        for (Hologram hologram : created) {
+            holograms.put(hologram.getId(), hologram);
+            registryVersion++;
+            spatialIndex.update(hologram);
+            densityBudget.update(hologram);
+            writeHologram(hologram);
+            pendingRenders.add(hologram);
+        }
+        for (Hologram hologram : changed) {
+            hologram.changed();
+            writeHologram(hologram);
+            pendingRenders.add(hologram);
+        }
+        
+        // One write for the whole batch
+        saveConfig();
+        if (!pendingRenders.isEmpty()) {
+            startRenderTask();
+        }
+    }
+
+    /**
+     * Respawns a slice of the holograms changed by batches, so that a large batch does
+     * not spawn thousands of entities in a single tick
+     */
+    private void renderPending() {
+        int budget = Math.max(1, plugin.getConfig().getInt("holograms.batch.renders-per-tick", 25));
+        Iterator<Hologram> iterator = pendingRenders.iterator();
+        while (budget > 0 && iterator.hasNext()) {
+            Hologram hologram = iterator.next();
+            iterator.remove();
+            if (hologram.isVisible()) {
+                hologram.refresh();
+            } else if (showingHolograms) {
+                hologram.show();
+            }
+            budget--;
+        }
+        if (pendingRenders.isEmpty()) {
+            stopRenderTask();
+        }
+    }
+
+    private void startRenderTask() {
+        if (renderTask == null) {
+            renderTask = taskScheduler.runGlobalTimer(this::renderPending, 1, 1);
+        }
+    }
+
+    private void stopRenderTask() {
+        if (renderTask != null) {
+            renderTask.cancel();
+            renderTask = null;
+        }
+    }
+
     /**
      * Shows all holograms in the world
      */
     public void showAllHolograms() {
+        showingHolograms = true;
+        visibilityIndex.start();
         for (Hologram hologram : holograms.values()) {
             hologram.show();
         }
@@ -130,9 +339,216 @@ public class HologramManager {
      * Removes all holograms from the world
      */
     public void removeAllHolograms() {
+        showingHolograms = false;
+        pendingRenders.clear();
+        stopRenderTask();
         for (Hologram hologram : holograms.values()) {
             hologram.remove();
         }
+        animationTicker.shutdown();
+        visibilityIndex.shutdown();
+    }
+
+    /**
+     * Checks whether holograms are currently shown in the world
+     * 
+     * @return True after {@link #showAllHolograms()} until {@link #removeAllHolograms()}
+     */
+    public boolean isShowingHolograms() {
+        return showingHolograms;
+    }
+
+    /**
+     * Sets or clears the time window in which a hologram is shown
+     * 
+     * @param hologram The hologram to schedule
+     * @param schedule The new schedule, or null to show the hologram permanently
+     */
+    public void setSchedule(Hologram hologram, HologramSchedule schedule) {
+        hologram.setSchedule(schedule != null && !schedule.isEmpty() ? schedule : null);
+        scheduler.update(hologram);
+        saveHologram(hologram);
+    }
+
+    /**
+     * Sets or clears the level of detail of a hologram
+     * 
+     * @param hologram The hologram
+     * @param distance Distance beyond which viewers only see the summary, or 0 to disable
+     * @param summary  Summary line shown to distant viewers, or null to show nothing
+     */
+    public void setLod(Hologram hologram, double distance, String summary) {
+        hologram.setLod(distance, summary);
+        densityBudget.update(hologram);
+        hologram.refresh();
+        viewTracker.update(hologram);
+        saveHologram(hologram);
+    }
+
+    /**
+     * Sets or clears the conditions a player has to meet to see a hologram
+     * 
+     * @param hologram   The hologram
+     * @param visibility The conditions, or null to show the hologram to everyone
+     */
+    public void setVisibility(Hologram hologram, HologramVisibility visibility) {
+        hologram.setVisibility(visibility);
+        visibilityIndex.update(hologram);
+        // Respawned stands are hidden by default if the hologram has conditions, or visible if not
+        hologram.refresh();
+        saveHologram(hologram);
+    }
+
+    /**
+     * Sets or clears the action run when a line of a hologram is clicked
+     * 
+     * @param hologram The hologram
+     * @param line     Line index
+     * @param action   The click action, or null to make the line non-clickable
+     */
+    public void setClickAction(Hologram hologram, int line, HologramClickAction action) {
+        hologram.setClickAction(line, action);
+        saveHologram(hologram);
+    }
+
+    /**
+     * Sets the priority deciding which holograms keep their lines in a chunk over its entity budget
+     * 
+     * @param hologram The hologram
+     * @param priority The priority, higher keeps its lines first
+     */
+    public void setPriority(Hologram hologram, int priority) {
+        hologram.setPriority(priority);
+        densityBudget.update(hologram);
+        saveHologram(hologram);
+    }
+
+    /**
+     * Gets the per-chunk line entity budget
+     * 
+     * @return The HologramDensityBudget instance
+     */
+    public HologramDensityBudget getDensityBudget() {
+        return densityBudget;
+    }
+
+    /**
+     * Gets the index deciding which players see holograms with visibility conditions
+     * 
+     * @return The HologramVisibilityIndex instance
+     */
+    public HologramVisibilityIndex getVisibilityIndex() {
+        return visibilityIndex;
+    }
+
+    /**
+     * Gets the index used to find clicked hologram lines
+     * 
+     * @return The HologramSpatialIndex instance
+     */
+    public HologramSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Gets the registry of per-viewer placeholders such as {player}
+     * 
+     * @return The HologramPlaceholders instance
+     */
+    public HologramPlaceholders getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * Re-indexes a hologram after its location or lines changed
+     * 
+     * @param hologram The changed hologram
+     */
+    void onHologramChanged(Hologram hologram) {
+        if (holograms.get(hologram.getId()) == hologram) {
+            spatialIndex.update(hologram);
+            densityBudget.update(hologram);
+        }
+    }
+
+    /**
+     * Gets the registry holding the hologram timings and entity counts
+     * 
+     * @return The PluginMetrics instance
+     */
+    public PluginMetrics getMetrics() {
+        return metrics;
+    }
+
+    LatencyHistogram getShowTime() {
+        return showTime;
+    }
+
+    LatencyHistogram getRemoveTime() {
+        return removeTime;
+    }
+
+    private Map<String, Integer> countHologramsByWorld() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Hologram hologram : holograms.values()) {
+            counts.merge(hologram.getWorldName(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private Map<String, Integer> countEntitiesByWorld() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Hologram hologram : holograms.values()) {
+            if (hologram.isVisible()) {
+                counts.merge(hologram.getWorldName(), hologram.getEntityCount(), Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the tracker deciding which level of detail each player sees
+     * 
+     * @return The HologramViewTracker instance
+     */
+    public HologramViewTracker getViewTracker() {
+        return viewTracker;
+    }
+
+    /**
+     * Gets the time zone that hologram schedules are evaluated in
+     * 
+     * @return The configured zone, or the system default
+     */
+    public ZoneId getScheduleZone() {
+        String zone = plugin.getConfig().getString("holograms.schedule-timezone", "");
+        if (zone == null || zone.isEmpty()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            plugin.getLogger().warning("Invalid holograms.schedule-timezone '" + zone + "', using the system default");
+            return ZoneId.systemDefault();
+        }
+    }
+
+    /**
+     * Re-binds the holograms of a world that was unloaded and loaded again to the new world
+     * 
+     * @param world The loaded world
+     */
+    public void handleWorldLoad(World world) {
+        HologramWorlds.rebind(world);
+    }
+
+    /**
+     * Gets a number that changes whenever a hologram is created or removed
+     * 
+     * @return The version of the set of hologram IDs
+     */
+    public long getRegistryVersion() {
+        return registryVersion;
     }
 
     /**
@@ -144,10 +560,237 @@ public class HologramManager {
         return new HashMap<>(holograms);
     }
 
+    /**
+     * Gets the animation referenced by a line in the form {animation:name}
+     * 
+     * @param line The raw line text
+     * @return The animation, or null if the line is not an animation reference
+     */
+    public HologramAnimation getAnimationForLine(String line) {
+        if (animations.isEmpty() || !line.startsWith(ANIMATION_PREFIX) || !line.endsWith("}")) {
+            return null;
+        }
+        return animations.get(line.substring(ANIMATION_PREFIX.length(), line.length() - 1));
+    }
+
+    /**
+     * Gets the ticker driving all animated lines
+     * 
+     * @return The AnimationTicker instance
+     */
+    public AnimationTicker getAnimationTicker() {
+        return animationTicker;
+    }
+
+    /**
+     * Gets the scheduler firing show/hide transitions of scheduled holograms
+     * 
+     * @return The HologramScheduler instance
+     */
+    public HologramScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the scheduler running hologram work on the right thread
+     * 
+     * @return The FrostScheduler instance
+     */
+    public FrostScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    /**
+     * Gets the plugin owning this manager
+     * 
+     * @return The JavaPlugin instance
+     */
+    public JavaPlugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Loads and precompiles animations from the config file
+     */
+    private void loadAnimations() {
+        animations.clear();
+        ConfigurationSection section = hologramsConfig.getConfigurationSection("animations");
+        if (section == null) {
+            return;
+        }
+        
+        for (String name : section.getKeys(false)) {
+            ConfigurationSection animationSection = section.getConfigurationSection(name);
+            if (animationSection == null) {
+                continue;
+            }
+            
+            int period = animationSection.getInt("period", 10);
+            String type = animationSection.getString("type", "frames").toLowerCase();
+            String[] frames;
+            
+            switch (type) {
+                case "scroll":
+                    frames = HologramAnimation.compileScroll(animationSection.getString("text", ""),
+                            Math.max(1, animationSection.getInt("width", 20)));
+                    break;
+                case "pulse":
+                    frames = HologramAnimation.compilePulse(animationSection.getString("text", ""),
+                            animationSection.getStringList("colors"));
+                    break;
+                case "frames":
+                    frames = HologramAnimation.compileFrames(animationSection.getStringList("frames"));
+                    break;
+                default:
+                    plugin.getLogger().warning("Skipping animation '" + name + "' with unknown type '" + type + "'");
+                    continue;
+            }
+            
+            if (frames.length == 0) {
+                plugin.getLogger().warning("Skipping animation '" + name + "' as it has no frames");
+                continue;
+            }
+            
+            animations.put(name, new HologramAnimation(name, period, frames));
+        }
+    }
+
+    /**
+     * Translates the color codes of a line, sharing one compiled string for identical lines
+     * 
+     * @param raw The line with & color codes
+     * @return The translated line
+     */
+    String compileLine(String raw) {
+        return compiledLines.computeIfAbsent(raw, line -> ChatColor.translateAlternateColorCodes('&', line));
+    }
+
+    /**
+     * Gets a template by its name
+     * 
+     * @param name The template name
+     * @return The template, or null if not found
+     */
+    public HologramTemplate getTemplate(String name) {
+        return templates.get(name);
+    }
+
+    /**
+     * Gets all templates
+     * 
+     * @return Map of template names to templates
+     */
+    public Map<String, HologramTemplate> getAllTemplates() {
+        return new HashMap<>(templates);
+    }
+
+    /**
+     * Creates a new template
+     * 
+     * @param name  Name of the template
+     * @param lines Lines of the template
+     * @return The created template, or null if one with the name already exists
+     */
+    public HologramTemplate createTemplate(String name, List<String> lines) {
+        if (templates.containsKey(name)) {
+            return null;
+        }
+        
+        HologramTemplate template = new HologramTemplate(name, lines);
+        templates.put(name, template);
+        saveTemplate(template);
+        saveConfig();
+        return template;
+    }
+
+    /**
+     * Replaces the lines of a template and updates every hologram using it
+     * 
+     * @param template The template to edit
+     * @param lines    The new lines
+     * @return Number of holograms whose displayed content changed
+     */
+    public int updateTemplate(HologramTemplate template, List<String> lines) {
+        int previousCount = template.getLineCount();
+        int changed = template.setLines(lines);
+        
+        // Instances only reference the template, unless they lost overrides or click actions of removed lines
+        if (template.getLineCount() < previousCount) {
+            for (Hologram instance : template.getInstances()) {
+                writeHologram(instance);
+            }
+        }
+        saveTemplate(template);
+        saveConfig();
+        return changed;
+    }
+
+    /**
+     * Removes a template. Holograms using it keep their current lines as their own.
+     * 
+     * @param name The template name
+     * @return True if removed, false if not found
+     */
+    public boolean removeTemplate(String name) {
+        HologramTemplate template = templates.remove(name);
+        if (template == null) {
+            return false;
+        }
+        
+        for (Hologram instance : new ArrayList<>(template.getInstances())) {
+            instance.detachTemplate();
+            writeHologram(instance);
+        }
+        hologramsConfig.set("templates." + name, null);
+        saveConfig();
+        return true;
+    }
+
+    /**
+     * Links a hologram to a template, or unlinks it when the template is null
+     * 
+     * @param hologram  The hologram
+     * @param template  The template to use, or null to keep the current lines as its own
+     * @param overrides Lines replaced by the hologram (index to text), may be null
+     */
+    public void applyTemplate(Hologram hologram, HologramTemplate template, Map<Integer, String> overrides) {
+        if (template == null) {
+            hologram.detachTemplate();
+        } else {
+            hologram.setTemplate(template, overrides);
+        }
+        saveHologram(hologram);
+    }
+
+    /**
+     * Loads and compiles templates from the config file
+     */
+    private void loadTemplates() {
+        templates.clear();
+        ConfigurationSection section = hologramsConfig.getConfigurationSection("templates");
+        if (section == null) {
+            return;
+        }
+        
+        for (String name : section.getKeys(false)) {
+            templates.put(name, new HologramTemplate(name, section.getStringList(name + ".lines")));
+        }
+    }
+
+    /**
+     * Writes a template to the config without saving the file
+     * 
+     * @param template The template to write
+     */
+    private void saveTemplate(HologramTemplate template) {
+        hologramsConfig.set("templates." + template.getName() + ".lines", new ArrayList<>(template.getLines()));
+    }
+
     /**
      * Loads holograms from the config file
      */
     private void loadHolograms() {
+        registryVersion++;
         ConfigurationSection section = hologramsConfig.getConfigurationSection("holograms");
         if (section == null) {
             return;
@@ -177,27 +820,203 @@ public class HologramManager {
             List<String> lines = hologramSection.getStringList("lines");
             
             // Create the hologram
-            Hologram hologram = new Hologram(plugin, id, location, lines);
+            Hologram hologram = new Hologram(this, id, location, lines);
             holograms.put(id, hologram);
+            
+            // Link the hologram to its template, if any
+            String templateName = hologramSection.getString("template");
+            if (templateName != null) {
+                HologramTemplate template = templates.get(templateName);
+                if (template != null) {
+                    hologram.setTemplate(template, loadOverrides(hologramSection.getConfigurationSection("overrides")));
+                } else {
+                    plugin.getLogger().warning("Hologram '" + id + "' uses unknown template '" + templateName + "', using its own lines");
+                }
+            }
+            
+            // Load the optional level of detail, schedule, click actions, priority and visibility
+            for (String problem : readSettings(hologram, hologramSection)) {
+                plugin.getLogger().warning("Ignoring " + problem + " of hologram '" + id + "'");
+            }
+            trackSettings(hologram, false, false);
+            
+            spatialIndex.update(hologram);
+            densityBudget.update(hologram);
         }
     }
 
+    /**
+     * Reads the settings of a hologram besides its position, lines and template, replacing
+     * the current ones. Invalid settings are skipped and reported.
+     * 
+     * @param hologram The hologram
+     * @param section  The hologram's section, as written by {@link #writeDefinition}
+     * @return Description of every skipped setting, empty if all were valid
+     */
+    List<String> readSettings(Hologram hologram, ConfigurationSection section) {
+        List<String> problems = new ArrayList<>();
+        
+        // Level of detail
+        hologram.setLod(section.getDouble("lod-distance", 0), section.getString("lod-summary"));
+        
+        // Schedule
+        hologram.setSchedule(null);
+        if (section.contains("show-from") || section.contains("show-until") || section.contains("recurrence")) {
+            try {
+                hologram.setSchedule(new HologramSchedule(
+                        section.getString("show-from"),
+                        section.getString("show-until"),
+                        section.getString("recurrence"),
+                        section.getString("duration"),
+                        getScheduleZone()));
+            } catch (IllegalArgumentException e) {
+                problems.add("schedule (" + e.getMessage() + ")");
+            }
+        }
+        
+        // Click actions, stored per 1-based line number
+        for (Integer line : new ArrayList<>(hologram.getClickActions().keySet())) {
+            hologram.setClickAction(line, null);
+        }
+        ConfigurationSection clickSection = section.getConfigurationSection("click-actions");
+        if (clickSection != null) {
+            for (String key : clickSection.getKeys(false)) {
+                try {
+                    hologram.setClickAction(Integer.parseInt(key) - 1, HologramClickAction.parse(clickSection.getString(key, "")));
+                } catch (IllegalArgumentException e) {
+                    problems.add("click action '" + key + "' (" + e.getMessage() + ")");
+                }
+            }
+        }
+        
+        // Priority used when the chunk is over its entity budget
+        hologram.setPriority(section.getInt("priority", 0));
+        
+        // Visibility conditions
+        ConfigurationSection visibilitySection = section.getConfigurationSection("visibility");
+        hologram.setVisibility(visibilitySection == null ? null : new HologramVisibility(
+                visibilitySection.getString("permission"),
+                visibilitySection.getStringList("worlds"),
+                visibilitySection.getStringList("conditions")));
+        return problems;
+    }
+
+    /**
+     * Hands the settings read by {@link #readSettings} to the trackers that need them
+     * 
+     * @param hologram    The hologram
+     * @param hadLod      True if the hologram had a level of detail before
+     * @param hadSchedule True if the hologram had a schedule before
+     */
+    void trackSettings(Hologram hologram, boolean hadLod, boolean hadSchedule) {
+        if (hologram.hasLod() || hadLod) {
+            viewTracker.update(hologram);
+        }
+        if (hologram.getSchedule() != null || hadSchedule) {
+            scheduler.update(hologram);
+        }
+        visibilityIndex.update(hologram);
+    }
+
+    /**
+     * Reads template overrides, stored as 1-based line number to text
+     * 
+     * @param section The overrides section, may be null
+     * @return Map of 0-based line index to text
+     */
+    private Map<Integer, String> loadOverrides(ConfigurationSection section) {
+        Map<Integer, String> overrides = new TreeMap<>();
+        if (section == null) {
+            return overrides;
+        }
+        
+        for (String key : section.getKeys(false)) {
+            try {
+                overrides.put(Integer.parseInt(key) - 1, section.getString(key));
+            } catch (NumberFormatException e) {
+                plugin.getLogger().warning("Ignoring template override '" + key + "' in " + section.getCurrentPath());
+            }
+        }
+        return overrides;
+    }
+
     /**
      * Saves a hologram to the config
      * 
      * @param hologram The hologram to save
      */
     private void saveHologram(Hologram hologram) {
-        String id = hologram.getId();
-        Location location = hologram.getLocation();
+        writeHologram(hologram);
+        saveConfig();
+    }
+
+    /**
+     * Writes a hologram to the config without saving the file
+     * 
+     * @param hologram The hologram to write
+     */
+    private void writeHologram(Hologram hologram) {
+        writeDefinition(hologramsConfig, "holograms." + hologram.getId(), hologram);
+    }
+
+    /**
+     * Writes the full definition of a hologram, used for holograms.yml and exports
+     * 
+     * @param config   The configuration to write to
+     * @param path     Path of the hologram's section
+     * @param hologram The hologram to write
+     */
+    static void writeDefinition(ConfigurationSection config, String path, Hologram hologram) {
+        // A hologram whose world was unloaded keeps the world name already written
+        World world = hologram.getWorld();
+        if (world != null) {
+            config.set(path + ".world", world.getName());
+        }
+        config.set(path + ".x", hologram.getX());
+        config.set(path + ".y", hologram.getY());
+        config.set(path + ".z", hologram.getZ());
+        
+        // Templated holograms only store the template name and their overrides, other
+        // holograms a copy of their lines so the config does not alias the live ones
+        HologramTemplate template = hologram.getTemplate();
+        config.set(path + ".lines", template == null ? new ArrayList<>(hologram.getLines()) : null);
+        config.set(path + ".template", template != null ? template.getName() : null);
+        config.set(path + ".overrides", null);
+        if (template != null) {
+            for (Map.Entry<Integer, String> override : hologram.getOverrides().entrySet()) {
+                config.set(path + ".overrides." + (override.getKey() + 1), override.getValue());
+            }
+        }
         
-        hologramsConfig.set("holograms." + id + ".world", location.getWorld().getName());
-        hologramsConfig.set("holograms." + id + ".x", location.getX());
-        hologramsConfig.set("holograms." + id + ".y", location.getY());
-        hologramsConfig.set("holograms." + id + ".z", location.getZ());
-        hologramsConfig.set("holograms." + id + ".lines", hologram.getLines());
+        // Level of detail is only written when enabled
+        config.set(path + ".lod-distance", hologram.hasLod() ? hologram.getLodDistance() : null);
+        config.set(path + ".lod-summary", hologram.hasLod() ? hologram.getLodSummary() : null);
         
-        saveConfig();
+        // Schedule fields are only written when set
+        HologramSchedule schedule = hologram.getSchedule();
+        config.set(path + ".show-from", schedule != null ? schedule.getShowFrom() : null);
+        config.set(path + ".show-until", schedule != null ? schedule.getShowUntil() : null);
+        config.set(path + ".recurrence", schedule != null ? schedule.getRecurrence() : null);
+        config.set(path + ".duration", schedule != null ? schedule.getDuration() : null);
+        
+        config.set(path + ".priority", hologram.getPriority() != 0 ? hologram.getPriority() : null);
+        
+        // Visibility conditions are only written when set
+        HologramVisibility visibility = hologram.getVisibility();
+        config.set(path + ".visibility", null);
+        if (visibility != null) {
+            config.set(path + ".visibility.permission", visibility.getPermission());
+            config.set(path + ".visibility.worlds", 
+                    visibility.getWorlds() != null ? new ArrayList<>(visibility.getWorlds()) : null);
+            config.set(path + ".visibility.conditions", 
+                    !visibility.getConditions().isEmpty() ? visibility.getConditions() : null);
+        }
+        
+        // Click actions are stored per 1-based line number
+        config.set(path + ".click-actions", null);
+        for (Map.Entry<Integer, HologramClickAction> action : hologram.getClickActions().entrySet()) {
+            config.set(path + ".click-actions." + (action.getKey() + 1), action.getValue().toString());
+        }
     }
 
     /**
@@ -207,20 +1026,29 @@ public class HologramManager {
         // Clear the current section
         hologramsConfig.set("holograms", null);
         
-        // Save each hologram
+        // Write each hologram, the file is saved once below
         for (Hologram hologram : holograms.values()) {
-            saveHologram(hologram);
+            writeHologram(hologram);
         }
+        
+        // Save templates alongside the holograms using them
+        for (HologramTemplate template : templates.values()) {
+            saveTemplate(template);
+        }
+        saveConfig();
     }
 
     /**
      * Saves the holograms config to disk
      */
     private void saveConfig() {
+        long start = System.nanoTime();
         try {
             hologramsConfig.save(hologramsFile);
         } catch (IOException e) {
+            saveFailures.increment();
             plugin.getLogger().severe("Could not save holograms.yml: " + e.getMessage());
         }
+        saveTime.recordSince(start);
     }
 }
@@ -0,0 +1,330 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.metrics.LatencyHistogram;
+import com.yourusername.frostgui.metrics.QosGovernor;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of per-viewer placeholders such as {player} or {rank} and the refresh loop
+ * of the holograms using them.
+ * <p>
+ * Other plugins register their own placeholders through {@link #register(String, PlaceholderResolver)}.
+ * Holograms with placeholder lines are re-resolved on a fixed interval for every viewer
+ * within the view distance; viewers are only moved to another render group when their
+ * resolved text changed.
+ * Each hologram is updated on the thread owning its region.
+ */
+public class HologramPlaceholders {
+
+    /**
+     * A color-translated line split around its placeholders
+     */
+    public static final class PlaceholderLine {
+        private final String[] literals;
+        private final PlaceholderResolver[] resolvers;
+
+        private PlaceholderLine(String[] literals, PlaceholderResolver[] resolvers) {
+            this.literals = literals;
+            this.resolvers = resolvers;
+        }
+
+        /**
+         * Renders the line for a viewer
+         *
+         * @param player The viewing player
+         * @return The line with every placeholder replaced
+         */
+        public String render(Player player) {
+            StringBuilder builder = new StringBuilder(literals[0]);
+            for (int i = 0; i < resolvers.length; i++) {
+                String value = resolvers[i].resolve(player);
+                if (value != null) {
+                    builder.append(value);
+                }
+                builder.append(literals[i + 1]);
+            }
+            return builder.toString();
+        }
+    }
+
+    private final HologramManager manager;
+    private final JavaPlugin plugin;
+    private final Map<String, PlaceholderResolver> resolvers;
+    private final Map<Hologram, PersonalizedLines> tracked;
+    private final QosGovernor governor;
+    private final LatencyHistogram refreshTime;
+    private TaskHandle refreshTask;
+    private long refreshRuns;
+
+    /**
+     * Creates a new HologramPlaceholders registry with the built-in placeholders
+     *
+     * @param manager The owning hologram manager
+     */
+    public HologramPlaceholders(HologramManager manager) {
+        this.manager = manager;
+        this.plugin = manager.getPlugin();
+        this.resolvers = new HashMap<>();
+        // Holograms are tracked from their region's thread, players handled from their own
+        this.tracked = new ConcurrentHashMap<>();
+        this.governor = manager.getMetrics().getGovernor();
+        this.refreshTime = manager.getMetrics().histogram("frostgui_placeholder_refresh_seconds", 
+                "Time spent re-resolving placeholder lines");
+
+        resolvers.put("player", Player::getName);
+        resolvers.put("displayname", Player::getDisplayName);
+        resolvers.put("world", player -> player.getWorld().getName());
+    }
+
+    /**
+     * Registers a placeholder. Shown holograms using it are respawned to pick it up.
+     *
+     * @param key      Placeholder name without braces, e.g. "rank" for {rank}
+     * @param resolver Resolves the value for a viewer
+     */
+    public void register(String key, PlaceholderResolver resolver) {
+        String normalized = key.toLowerCase(Locale.ROOT);
+        resolvers.put(normalized, resolver);
+        refreshUsing(normalized);
+    }
+
+    /**
+     * Removes a placeholder. Lines using it show the placeholder text again.
+     *
+     * @param key Placeholder name without braces
+     * @return True if removed, false if not registered
+     */
+    public boolean unregister(String key) {
+        String normalized = key.toLowerCase(Locale.ROOT);
+        if (resolvers.remove(normalized) == null) {
+            return false;
+        }
+        refreshUsing(normalized);
+        return true;
+    }
+
+    /**
+     * @return Names of all registered placeholders
+     */
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(resolvers.keySet());
+    }
+
+    /**
+     * Splits a line around its registered placeholders
+     *
+     * @param line The color-translated line
+     * @return The split line, or null if the line has no registered placeholders
+     */
+    public PlaceholderLine compile(String line) {
+        if (line.indexOf('{') < 0) {
+            return null;
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<PlaceholderResolver> lineResolvers = new ArrayList<>();
+        int literalStart = 0;
+        int open = line.indexOf('{');
+        while (open >= 0) {
+            int close = line.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            PlaceholderResolver resolver = resolvers.get(line.substring(open + 1, close).toLowerCase(Locale.ROOT));
+            if (resolver != null) {
+                literals.add(line.substring(literalStart, open));
+                lineResolvers.add(resolver);
+                literalStart = close + 1;
+                open = line.indexOf('{', literalStart);
+            } else {
+                // Unknown placeholders are kept as plain text
+                open = line.indexOf('{', open + 1);
+            }
+        }
+
+        if (lineResolvers.isEmpty()) {
+            return null;
+        }
+        literals.add(line.substring(literalStart));
+        return new PlaceholderLine(literals.toArray(new String[0]), lineResolvers.toArray(new PlaceholderResolver[0]));
+    }
+
+    /**
+     * Starts refreshing the placeholder lines of a shown hologram
+     *
+     * @param hologram The hologram
+     * @param lines    Its personalized lines
+     */
+    synchronized void track(Hologram hologram, PersonalizedLines lines) {
+        tracked.put(hologram, lines);
+        lines.updateViewers(getViewDistance());
+        startRefreshTask();
+    }
+
+    /**
+     * Stops refreshing a hologram, for example after it was hidden
+     *
+     * @param hologram The hologram
+     */
+    synchronized void untrack(Hologram hologram) {
+        if (tracked.remove(hologram) != null && tracked.isEmpty()) {
+            stopRefreshTask();
+        }
+    }
+
+    /**
+     * Resolves the placeholder lines for a player that just joined
+     *
+     * @param player The player
+     */
+    public void handleJoin(Player player) {
+        for (Map.Entry<Hologram, PersonalizedLines> entry : tracked.entrySet()) {
+            if (entry.getValue().getWorld() == player.getWorld()) {
+                updateOnRegion(entry.getKey(), entry.getValue(), player);
+            }
+        }
+    }
+
+    /**
+     * Moves a player between the render groups of the worlds they left and entered
+     *
+     * @param player The player
+     */
+    public void handleWorldChange(Player player) {
+        for (Map.Entry<Hologram, PersonalizedLines> entry : tracked.entrySet()) {
+            PersonalizedLines lines = entry.getValue();
+            if (lines.getWorld() == player.getWorld()) {
+                updateOnRegion(entry.getKey(), lines, player);
+            } else {
+                forgetOnRegion(entry.getKey(), lines, player);
+            }
+        }
+    }
+
+    /**
+     * Removes a player from every render group, for example when they quit
+     *
+     * @param player The player
+     */
+    public void forgetPlayer(Player player) {
+        for (Map.Entry<Hologram, PersonalizedLines> entry : tracked.entrySet()) {
+            forgetOnRegion(entry.getKey(), entry.getValue(), player);
+        }
+    }
+
+    /**
+     * @return Number of holograms with placeholder lines currently shown
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    /**
+     * @return Total number of distinct renderings across all shown holograms
+     */
+    public int getRenderGroupCount() {
+        int count = 0;
+        for (PersonalizedLines lines : tracked.values()) {
+            count += lines.getGroupCount();
+        }
+        return count;
+    }
+
+    private void refreshUsing(String key) {
+        String token = "{" + key + "}";
+        for (Hologram hologram : manager.getAllHolograms().values()) {
+            if (!hologram.isVisible()) {
+                continue;
+            }
+            for (String line : hologram.getLines()) {
+                if (line.toLowerCase(Locale.ROOT).contains(token)) {
+                    hologram.refresh();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the lines of a hologram on the thread owning its region. The lines are
+     * skipped if the hologram was hidden or respawned before the task could run.
+     *
+     * @param hologram The hologram
+     * @param lines    Its personalized lines
+     * @param player   The viewer to update, or null for every player in the world
+     */
+    private void updateOnRegion(Hologram hologram, PersonalizedLines lines, Player player) {
+        manager.getTaskScheduler().executeAt(lines.getLocation(), () -> {
+            if (tracked.get(hologram) != lines) {
+                return;
+            }
+            double viewDistance = getViewDistance();
+            if (player == null) {
+                lines.updateViewers(viewDistance);
+            } else if (lines.isInRange(player, viewDistance)) {
+                lines.updateViewer(player);
+            }
+        });
+    }
+
+    /**
+     * @return Distance within which viewers are resolved, shrinking while the governor sheds work
+     */
+    private double getViewDistance() {
+        return plugin.getConfig().getDouble("holograms.placeholders.view-distance", 64) * governor.getViewDistanceScale();
+    }
+
+    /**
+     * Removes a viewer from the render groups of a hologram on the thread owning its region,
+     * which may remove the stands nobody renders anymore
+     */
+    private void forgetOnRegion(Hologram hologram, PersonalizedLines lines, Player player) {
+        manager.getTaskScheduler().executeAt(lines.getLocation(), () -> {
+            if (tracked.get(hologram) == lines) {
+                lines.forgetViewer(player);
+            }
+        });
+    }
+
+    private void refresh() {
+        // Under tick pressure placeholders are re-resolved less often
+        if (!governor.shouldRefresh(refreshRuns++)) {
+            return;
+        }
+        long start = System.nanoTime();
+        
+        // Copy, a resolver may cause a hologram to be shown or hidden
+        for (Map.Entry<Hologram, PersonalizedLines> entry : new ArrayList<>(tracked.entrySet())) {
+            updateOnRegion(entry.getKey(), entry.getValue(), null);
+        }
+        refreshTime.recordSince(start);
+    }
+
+    private void startRefreshTask() {
+        if (refreshTask != null) {
+            return;
+        }
+
+        long interval = Math.max(1, plugin.getConfig().getLong("holograms.placeholders.refresh-interval", 20));
+        refreshTask = manager.getTaskScheduler().runGlobalTimer(this::refresh, interval, interval);
+    }
+
+    private void stopRefreshTask() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.yourusername.frostgui.hologram;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Time window in which a hologram is shown, persisted with the hologram as
+ * show-from, show-until, recurrence and duration.
+ * <p>
+ * show-from and show-until bound the whole schedule. A recurrence is a cron expression
+ * marking when the hologram appears, and duration how long it then stays visible
+ * (for example "0 18 * * FRI" with "48h" for a weekend event).
+ */
+public class HologramSchedule {
+    /** Format used for show-from and show-until */
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /** Returned when a schedule never changes state again */
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private final String showFrom;
+    private final String showUntil;
+    private final String recurrence;
+    private final String duration;
+    private final ZoneId zone;
+    private final long fromSecond;
+    private final long untilSecond;
+    private final CronExpression cron;
+    private final long durationSeconds;
+
+    /**
+     * Creates a new schedule, any part of which may be null
+     *
+     * @param showFrom   Start of the schedule ("yyyy-MM-dd HH:mm")
+     * @param showUntil  End of the schedule ("yyyy-MM-dd HH:mm")
+     * @param recurrence Cron expression for recurring windows
+     * @param duration   Length of each recurring window, such as "90m", "2h" or "1d"
+     * @param zone       Time zone the dates and recurrence are evaluated in
+     * @throws IllegalArgumentException If any part cannot be parsed
+     */
+    public HologramSchedule(String showFrom, String showUntil, String recurrence, String duration, ZoneId zone) {
+        this.showFrom = showFrom;
+        this.showUntil = showUntil;
+        this.recurrence = recurrence;
+        this.duration = duration;
+        this.zone = zone;
+        this.fromSecond = showFrom != null ? parseDate(showFrom, zone) : Long.MIN_VALUE;
+        this.untilSecond = showUntil != null ? parseDate(showUntil, zone) : Long.MAX_VALUE;
+        this.cron = recurrence != null ? new CronExpression(recurrence) : null;
+        this.durationSeconds = parseDuration(duration != null ? duration : "1h");
+
+        if (fromSecond >= untilSecond) {
+            throw new IllegalArgumentException("show-from must be before show-until");
+        }
+    }
+
+    /**
+     * Checks whether the hologram should be visible at the given time
+     *
+     * @param epochSecond Time in epoch seconds
+     * @return True if the hologram should be shown
+     */
+    public boolean isOpenAt(long epochSecond) {
+        if (epochSecond < fromSecond || epochSecond >= untilSecond) {
+            return false;
+        }
+        if (cron == null) {
+            return true;
+        }
+        return cron.next(epochSecond - durationSeconds, zone) <= epochSecond;
+    }
+
+    /**
+     * Finds the next time the visibility of the hologram changes
+     *
+     * @param epochSecond Current time in epoch seconds
+     * @return Epoch second of the next transition, or {@link #NEVER}
+     */
+    public long nextTransition(long epochSecond) {
+        if (epochSecond < fromSecond) {
+            return fromSecond;
+        }
+        if (epochSecond >= untilSecond) {
+            return NEVER;
+        }
+        if (cron == null) {
+            return untilSecond;
+        }
+
+        long next;
+        long windowStart = cron.next(epochSecond - durationSeconds, zone);
+        if (windowStart <= epochSecond) {
+            // Currently inside a window, it closes once its duration has passed
+            next = windowStart + durationSeconds;
+        } else {
+            next = windowStart;
+        }
+        return Math.min(next, untilSecond);
+    }
+
+    // Getters
+    public String getShowFrom() {
+        return showFrom;
+    }
+
+    public String getShowUntil() {
+        return showUntil;
+    }
+
+    public String getRecurrence() {
+        return recurrence;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return True if no part of the schedule is set
+     */
+    public boolean isEmpty() {
+        return showFrom == null && showUntil == null && recurrence == null;
+    }
+
+    private static long parseDate(String value, ZoneId zone) {
+        try {
+            return LocalDateTime.parse(value.trim(), DATE_FORMAT).atZone(zone).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + value + "', expected yyyy-MM-dd HH:mm");
+        }
+    }
+
+    /**
+     * Parses a duration such as "45m", "2h" or "1d" (plain numbers are minutes)
+     *
+     * @param value The duration text
+     * @return Duration in seconds
+     */
+    static long parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 60;
+        if (trimmed.endsWith("m")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        } else if (trimmed.endsWith("h")) {
+            multiplier = 3600;
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        } else if (trimmed.endsWith("d")) {
+            multiplier = 86400;
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+
+        try {
+            long amount = Long.parseLong(trimmed);
+            if (amount <= 0) {
+                throw new IllegalArgumentException("Duration must be positive");
+            }
+            return amount * multiplier;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration '" + value + "', expected e.g. 90m, 2h or 1d");
+        }
+    }
+}
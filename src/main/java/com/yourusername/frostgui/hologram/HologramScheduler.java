@@ -0,0 +1,161 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.scheduler.TaskHandle;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Fires the show and hide transitions of scheduled holograms.
+ * <p>
+ * Each scheduled hologram has exactly one pending transition on a
+ * {@link HierarchicalTimingWheel} with one-second resolution, so the shared ticker
+ * does O(1) work per second no matter how many holograms are scheduled. The next
+ * transition is only computed when the previous one fires. The ticker runs on the
+ * global thread; holograms spawn and despawn on the thread owning their region.
+ */
+public class HologramScheduler {
+
+    /**
+     * Pending transition of a single hologram
+     */
+    private static final class Transition extends HierarchicalTimingWheel.Node {
+        private final Hologram hologram;
+
+        private Transition(Hologram hologram) {
+            this.hologram = hologram;
+        }
+    }
+
+    private final HologramManager manager;
+    private final HierarchicalTimingWheel<Transition> wheel;
+    private final HierarchicalTimingWheel.FireHandler<Transition> fireHandler;
+    private final Map<Hologram, Transition> transitions;
+    private TaskHandle tickTask;
+
+    /**
+     * Creates a new HologramScheduler
+     *
+     * @param manager The owning hologram manager
+     */
+    public HologramScheduler(HologramManager manager) {
+        this.manager = manager;
+        this.wheel = new HierarchicalTimingWheel<>(currentSecond());
+        this.fireHandler = this::fire;
+        this.transitions = new IdentityHashMap<>();
+    }
+
+    /**
+     * Applies the current schedule of a hologram and queues its next transition.
+     * Call this whenever the schedule of a hologram is set or changed.
+     *
+     * @param hologram The hologram to (re)schedule
+     */
+    void update(Hologram hologram) {
+        Transition transition = transitions.remove(hologram);
+        if (transition != null) {
+            wheel.cancel(transition);
+        }
+
+        HologramSchedule schedule = hologram.getSchedule();
+        if (schedule == null) {
+            applyOpen(hologram, true);
+            stopIfIdle();
+            return;
+        }
+
+        // Bring the wheel up to date in case the ticker was idle
+        wheel.advanceTo(currentSecond(), fireHandler);
+
+        transition = new Transition(hologram);
+        transitions.put(hologram, transition);
+        evaluate(transition, wheel.getCurrentTime());
+        startTicker();
+    }
+
+    /**
+     * Forgets a hologram, for example after it has been removed
+     *
+     * @param hologram The hologram to unschedule
+     */
+    void unschedule(Hologram hologram) {
+        Transition transition = transitions.remove(hologram);
+        if (transition != null) {
+            wheel.cancel(transition);
+            stopIfIdle();
+        }
+    }
+
+    /**
+     * Stops the ticker and forgets every scheduled hologram
+     */
+    public void shutdown() {
+        for (Transition transition : transitions.values()) {
+            wheel.cancel(transition);
+        }
+        transitions.clear();
+        stopTicker();
+    }
+
+    /**
+     * @return The number of holograms with a schedule
+     */
+    public int getScheduledCount() {
+        return transitions.size();
+    }
+
+    private void fire(Transition transition) {
+        evaluate(transition, wheel.getCurrentTime());
+    }
+
+    /**
+     * Shows or hides the hologram for the given time and queues its next transition
+     */
+    private void evaluate(Transition transition, long now) {
+        HologramSchedule schedule = transition.hologram.getSchedule();
+        applyOpen(transition.hologram, schedule.isOpenAt(now));
+
+        long next = schedule.nextTransition(now);
+        if (next != HologramSchedule.NEVER) {
+            wheel.schedule(transition, next);
+        }
+    }
+
+    private void applyOpen(Hologram hologram, boolean open) {
+        hologram.setScheduleOpen(open);
+        if (!open) {
+            hologram.remove();
+        } else if (manager.isShowingHolograms()) {
+            hologram.show();
+        }
+    }
+
+    private void tick() {
+        wheel.advanceTo(currentSecond(), fireHandler);
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    private void startTicker() {
+        if (tickTask != null) {
+            return;
+        }
+
+        tickTask = manager.getTaskScheduler().runGlobalTimer(this::tick, 20, 20);
+    }
+
+    private void stopIfIdle() {
+        if (transitions.isEmpty()) {
+            stopTicker();
+        }
+    }
+
+    private void stopTicker() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+}
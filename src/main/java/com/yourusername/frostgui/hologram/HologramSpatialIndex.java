@@ -0,0 +1,524 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Per-chunk index of holograms and the bounding boxes of their clickable lines.
+ * <p>
+ * Every hologram is bucketed by the chunk of its anchor location. Each bucket lazily
+ * builds a flat array of line boxes plus a small grid over the chunk (padded by the
+ * widest allowed box), so a click ray only tests the boxes in the few grid cells it
+ * actually crosses instead of every hologram in the chunk.
+ * <p>
+ * Holograms are indexed from the global and region threads while players ray-cast and
+ * search from their own, and even a ray-cast rebuilds buckets, so every access holds the
+ * lock of the index.
+ */
+public class HologramSpatialIndex {
+    /** Widest half-width of a line box, also used to pad chunk lookups */
+    static final double MAX_HALF_WIDTH = 4.0;
+    /** Nameplates render slightly above the marker armor stand */
+    private static final double NAMEPLATE_OFFSET = 0.25;
+    private static final double LINE_HALF_HEIGHT = 0.125;
+    /** Approximate half-width of one nameplate character in blocks */
+    private static final double CHAR_HALF_WIDTH = 0.075;
+    private static final int GRID = 8;
+    private static final double CELL_SIZE = (16 + 2 * MAX_HALF_WIDTH) / GRID;
+    private static final int[] EMPTY_CELL = new int[0];
+
+    /**
+     * Result of a successful ray cast
+     */
+    public static final class Hit {
+        private final Hologram hologram;
+        private final int line;
+        private final double distance;
+
+        private Hit(Hologram hologram, int line, double distance) {
+            this.hologram = hologram;
+            this.line = line;
+            this.distance = distance;
+        }
+
+        public Hologram getHologram() {
+            return hologram;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+    }
+
+    /**
+     * Holograms anchored in one chunk plus their compiled line boxes
+     */
+    private static final class ChunkBucket {
+        private final UUID worldId;
+        private final long key;
+        private final double originX;
+        private final double originZ;
+        private final List<Hologram> holograms = new ArrayList<>();
+        private boolean dirty;
+        private int boxCount;
+        private double[] boxes = new double[0];
+        private Hologram[] owners = new Hologram[0];
+        private int[] lines = new int[0];
+        private int[] stamps = new int[0];
+        private final int[][] cells = new int[GRID * GRID][];
+
+        private ChunkBucket(UUID worldId, long key, int chunkX, int chunkZ) {
+            this.worldId = worldId;
+            this.key = key;
+            this.originX = chunkX * 16 - MAX_HALF_WIDTH;
+            this.originZ = chunkZ * 16 - MAX_HALF_WIDTH;
+            Arrays.fill(cells, EMPTY_CELL);
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final Map<UUID, Map<Long, ChunkBucket>> worlds;
+    private final Map<Hologram, ChunkBucket> bucketOf;
+    private int clickableCount;
+    private int dirtyCount;
+    private int queryStamp;
+
+    /**
+     * Creates a new HologramSpatialIndex
+     *
+     * @param plugin The JavaPlugin instance
+     */
+    public HologramSpatialIndex(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.worlds = new HashMap<>();
+        this.bucketOf = new IdentityHashMap<>();
+    }
+
+    /**
+     * Packs chunk coordinates into a single key
+     *
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @return The chunk key
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Adds a hologram or re-indexes it after it moved or its lines changed
+     *
+     * @param hologram The hologram
+     */
+    public synchronized void update(Hologram hologram) {
+        World world = hologram.getWorld();
+        if (world == null) {
+            remove(hologram);
+            return;
+        }
+
+        int chunkX = (int) Math.floor(hologram.getX()) >> 4;
+        int chunkZ = (int) Math.floor(hologram.getZ()) >> 4;
+        long key = chunkKey(chunkX, chunkZ);
+        UUID worldId = world.getUID();
+
+        ChunkBucket current = bucketOf.get(hologram);
+        if (current != null && current.key == key && current.worldId.equals(worldId)) {
+            // Same chunk, only the boxes need rebuilding
+            markDirty(current);
+            return;
+        }
+
+        remove(hologram);
+        ChunkBucket bucket = worlds.computeIfAbsent(worldId, id -> new HashMap<>())
+                .computeIfAbsent(key, k -> new ChunkBucket(worldId, k, chunkX, chunkZ));
+        bucket.holograms.add(hologram);
+        markDirty(bucket);
+        bucketOf.put(hologram, bucket);
+    }
+
+    /**
+     * Marks a bucket for a rebuild on the next ray-cast through it. Dirty buckets are
+     * counted so the early exit in {@link #raycast} never skips boxes not built yet.
+     */
+    private void markDirty(ChunkBucket bucket) {
+        if (!bucket.dirty) {
+            bucket.dirty = true;
+            dirtyCount++;
+        }
+    }
+
+    /**
+     * Removes a hologram from the index
+     *
+     * @param hologram The hologram
+     */
+    public synchronized void remove(Hologram hologram) {
+        ChunkBucket bucket = bucketOf.remove(hologram);
+        if (bucket == null) {
+            return;
+        }
+
+        bucket.holograms.remove(hologram);
+        markDirty(bucket);
+        if (bucket.holograms.isEmpty()) {
+            clickableCount -= bucket.boxCount;
+            bucket.boxCount = 0;
+            bucket.dirty = false;
+            dirtyCount--;
+            Map<Long, ChunkBucket> chunks = worlds.get(bucket.worldId);
+            chunks.remove(bucket.key);
+            if (chunks.isEmpty()) {
+                worlds.remove(bucket.worldId);
+            }
+        }
+    }
+
+    /**
+     * Gets the holograms anchored in a chunk
+     *
+     * @param world  The world
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @return New list of holograms, empty if there are none
+     */
+    public synchronized List<Hologram> getHologramsInChunk(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkBucket> chunks = worlds.get(world.getUID());
+        ChunkBucket bucket = chunks != null ? chunks.get(chunkKey(chunkX, chunkZ)) : null;
+        return bucket != null ? new ArrayList<>(bucket.holograms) : new ArrayList<>();
+    }
+
+    /**
+     * Gets the holograms anchored within a radius, only visiting the chunks the radius overlaps
+     *
+     * @param center Center of the search
+     * @param radius Radius in blocks
+     * @return New list of holograms, empty if there are none
+     */
+    public synchronized List<Hologram> getHologramsInRadius(Location center, double radius) {
+        World world = center.getWorld();
+        Map<Long, ChunkBucket> chunks = world != null ? worlds.get(world.getUID()) : null;
+        List<Hologram> result = new ArrayList<>();
+        if (chunks == null) {
+            return result;
+        }
+
+        int minX = (int) Math.floor(center.getX() - radius) >> 4;
+        int maxX = (int) Math.floor(center.getX() + radius) >> 4;
+        int minZ = (int) Math.floor(center.getZ() - radius) >> 4;
+        int maxZ = (int) Math.floor(center.getZ() + radius) >> 4;
+        double radiusSquared = radius * radius;
+        
+        // A huge radius in a sparse world is cheaper to answer from the occupied chunks
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > chunks.size()) {
+            for (ChunkBucket bucket : chunks.values()) {
+                addInRadius(bucket, center, radiusSquared, result);
+            }
+            return result;
+        }
+        for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                ChunkBucket bucket = chunks.get(chunkKey(chunkX, chunkZ));
+                if (bucket != null) {
+                    addInRadius(bucket, center, radiusSquared, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addInRadius(ChunkBucket bucket, Location center, double radiusSquared, List<Hologram> result) {
+        for (Hologram hologram : bucket.holograms) {
+            double dx = hologram.getX() - center.getX();
+            double dy = hologram.getY() - center.getY();
+            double dz = hologram.getZ() - center.getZ();
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                result.add(hologram);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any clickable hologram line may be within a distance along X and Z,
+     * only looking at the chunks that distance overlaps
+     *
+     * @param world    The world
+     * @param x        X coordinate of the center
+     * @param z        Z coordinate of the center
+     * @param distance Distance in blocks
+     * @return True if a ray cast from the center could hit a line
+     */
+    public synchronized boolean hasClickableNear(World world, double x, double z, double distance) {
+        if (clickableCount == 0 && dirtyCount == 0) {
+            return false;
+        }
+        Map<Long, ChunkBucket> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return false;
+        }
+
+        int minChunkX = (int) Math.floor(x - distance - MAX_HALF_WIDTH) >> 4;
+        int maxChunkX = (int) Math.floor(x + distance + MAX_HALF_WIDTH) >> 4;
+        int minChunkZ = (int) Math.floor(z - distance - MAX_HALF_WIDTH) >> 4;
+        int maxChunkZ = (int) Math.floor(z + distance + MAX_HALF_WIDTH) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                ChunkBucket bucket = chunks.get(chunkKey(chunkX, chunkZ));
+                // A dirty bucket may gain boxes on its rebuild
+                if (bucket != null && (bucket.dirty || bucket.boxCount > 0)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the closest clickable hologram line hit by a ray, for any viewer
+     *
+     * @param world      The world the ray is cast in
+     * @param originX    Ray origin X (usually the eye location)
+     * @param originY    Ray origin Y
+     * @param originZ    Ray origin Z
+     * @param directionX Normalized ray direction X
+     * @param directionY Normalized ray direction Y
+     * @param directionZ Normalized ray direction Z
+     * @param reach      Maximum distance along the ray
+     * @return The closest hit, or null if no clickable line was hit
+     */
+    public Hit raycast(World world, double originX, double originY, double originZ,
+                       double directionX, double directionY, double directionZ, double reach) {
+        return raycast(world, originX, originY, originZ, directionX, directionY, directionZ, reach, null);
+    }
+
+    /**
+     * Finds the closest clickable hologram line hit by a ray. Lines of holograms rejected
+     * by the filter are passed through, so they do not hide the lines behind them.
+     *
+     * @param world      The world the ray is cast in
+     * @param originX    Ray origin X (usually the eye location)
+     * @param originY    Ray origin Y
+     * @param originZ    Ray origin Z
+     * @param directionX Normalized ray direction X
+     * @param directionY Normalized ray direction Y
+     * @param directionZ Normalized ray direction Z
+     * @param reach      Maximum distance along the ray
+     * @param filter     Holograms that can be hit, e.g. those visible to the clicking
+     *                   player, or null for all
+     * @return The closest hit, or null if no clickable line was hit
+     */
+    public synchronized Hit raycast(World world, double originX, double originY, double originZ,
+                       double directionX, double directionY, double directionZ, double reach,
+                       Predicate<Hologram> filter) {
+        // Nothing clickable and nothing waiting for a rebuild that could add boxes
+        if (clickableCount == 0 && dirtyCount == 0) {
+            return null;
+        }
+        Map<Long, ChunkBucket> chunks = worlds.get(world.getUID());
+        if (chunks == null) {
+            return null;
+        }
+
+        double endX = originX + directionX * reach;
+        double endZ = originZ + directionZ * reach;
+        double minX = Math.min(originX, endX);
+        double maxX = Math.max(originX, endX);
+        double minZ = Math.min(originZ, endZ);
+        double maxZ = Math.max(originZ, endZ);
+
+        double inverseX = 1.0 / directionX;
+        double inverseY = 1.0 / directionY;
+        double inverseZ = 1.0 / directionZ;
+
+        // Boxes may stick out of their chunk by up to MAX_HALF_WIDTH
+        int minChunkX = (int) Math.floor(minX - MAX_HALF_WIDTH) >> 4;
+        int maxChunkX = (int) Math.floor(maxX + MAX_HALF_WIDTH) >> 4;
+        int minChunkZ = (int) Math.floor(minZ - MAX_HALF_WIDTH) >> 4;
+        int maxChunkZ = (int) Math.floor(maxZ + MAX_HALF_WIDTH) >> 4;
+
+        Hologram bestHologram = null;
+        int bestLine = -1;
+        double bestDistance = reach;
+        int stamp = ++queryStamp;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                ChunkBucket bucket = chunks.get(chunkKey(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+                if (bucket.dirty) {
+                    rebuild(bucket);
+                }
+                if (bucket.boxCount == 0) {
+                    continue;
+                }
+
+                int cellMinX = cell(minX - bucket.originX);
+                int cellMaxX = cell(maxX - bucket.originX);
+                int cellMinZ = cell(minZ - bucket.originZ);
+                int cellMaxZ = cell(maxZ - bucket.originZ);
+                double[] boxes = bucket.boxes;
+
+                for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+                    for (int cellZ = cellMinZ; cellZ <= cellMaxZ; cellZ++) {
+                        int[] cell = bucket.cells[cellX * GRID + cellZ];
+                        for (int i = 0; i < cell.length; i++) {
+                            int box = cell[i];
+                            if (bucket.stamps[box] == stamp) {
+                                continue;
+                            }
+                            bucket.stamps[box] = stamp;
+
+                            double distance = intersect(boxes, box * 6, originX, originY, originZ,
+                                    inverseX, inverseY, inverseZ, bestDistance);
+                            if (distance >= 0) {
+                                Hologram owner = bucket.owners[box];
+                                if (owner.isVisible() && (filter == null || filter.test(owner))) {
+                                    bestDistance = distance;
+                                    bestHologram = owner;
+                                    bestLine = bucket.lines[box];
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return bestHologram != null ? new Hit(bestHologram, bestLine, bestDistance) : null;
+    }
+
+    /**
+     * Slab test of a ray against one box
+     *
+     * @return Distance to the box entry point, or -1 if the box is missed within maxDistance
+     */
+    private static double intersect(double[] boxes, int offset, double originX, double originY, double originZ,
+                                     double inverseX, double inverseY, double inverseZ, double maxDistance) {
+        double near = 0;
+        double far = maxDistance;
+
+        double t1 = (boxes[offset] - originX) * inverseX;
+        double t2 = (boxes[offset + 3] - originX) * inverseX;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+
+        t1 = (boxes[offset + 1] - originY) * inverseY;
+        t2 = (boxes[offset + 4] - originY) * inverseY;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+
+        t1 = (boxes[offset + 2] - originZ) * inverseZ;
+        t2 = (boxes[offset + 5] - originZ) * inverseZ;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+
+        // NaN (ray parallel to and outside a slab) fails this comparison as well
+        return near <= far ? near : -1;
+    }
+
+    private static int cell(double offset) {
+        int cell = (int) Math.floor(offset / CELL_SIZE);
+        return cell < 0 ? 0 : Math.min(cell, GRID - 1);
+    }
+
+    /**
+     * Rebuilds the line boxes and grid cells of a bucket
+     */
+    private void rebuild(ChunkBucket bucket) {
+        clickableCount -= bucket.boxCount;
+        double lineSpacing = plugin.getConfig().getDouble("holograms.line-spacing", 0.25);
+
+        List<double[]> boxList = new ArrayList<>();
+        List<Hologram> ownerList = new ArrayList<>();
+        List<Integer> lineList = new ArrayList<>();
+
+        for (Hologram hologram : bucket.holograms) {
+            // Collapsed holograms do not show the lines that would be clicked
+            if (!hologram.hasClickActions() || hologram.isCollapsed()) {
+                continue;
+            }
+
+            double x = hologram.getX();
+            double z = hologram.getZ();
+            int lineCount = hologram.getLineCount();
+            for (int line = 0; line < lineCount; line++) {
+                if (hologram.getClickAction(line) == null) {
+                    continue;
+                }
+
+                String plain = ChatColor.stripColor(hologram.getCompiledLine(line));
+                double halfWidth = Math.min(MAX_HALF_WIDTH, Math.max(0.25, plain.length() * CHAR_HALF_WIDTH));
+                double centerY = hologram.getY() - line * lineSpacing + NAMEPLATE_OFFSET;
+
+                boxList.add(new double[] {
+                        x - halfWidth, centerY - LINE_HALF_HEIGHT, z - halfWidth,
+                        x + halfWidth, centerY + LINE_HALF_HEIGHT, z + halfWidth
+                });
+                ownerList.add(hologram);
+                lineList.add(line);
+            }
+        }
+
+        int count = boxList.size();
+        bucket.boxes = new double[count * 6];
+        bucket.owners = ownerList.toArray(new Hologram[0]);
+        bucket.lines = new int[count];
+        bucket.stamps = new int[count];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(boxList.get(i), 0, bucket.boxes, i * 6, 6);
+            bucket.lines[i] = lineList.get(i);
+        }
+
+        // Register every box in each grid cell its horizontal extent overlaps
+        List<List<Integer>> cellLists = new ArrayList<>(GRID * GRID);
+        for (int i = 0; i < GRID * GRID; i++) {
+            cellLists.add(null);
+        }
+        for (int i = 0; i < count; i++) {
+            int offset = i * 6;
+            for (int cellX = cell(bucket.boxes[offset] - bucket.originX); cellX <= cell(bucket.boxes[offset + 3] - bucket.originX); cellX++) {
+                for (int cellZ = cell(bucket.boxes[offset + 2] - bucket.originZ); cellZ <= cell(bucket.boxes[offset + 5] - bucket.originZ); cellZ++) {
+                    int index = cellX * GRID + cellZ;
+                    if (cellLists.get(index) == null) {
+                        cellLists.set(index, new ArrayList<>());
+                    }
+                    cellLists.get(index).add(i);
+                }
+            }
+        }
+        for (int i = 0; i < GRID * GRID; i++) {
+            List<Integer> cellList = cellLists.get(i);
+            if (cellList == null) {
+                bucket.cells[i] = EMPTY_CELL;
+                continue;
+            }
+            int[] cell = new int[cellList.size()];
+            for (int j = 0; j < cell.length; j++) {
+                cell[j] = cellList.get(j);
+            }
+            bucket.cells[i] = cell;
+        }
+
+        bucket.boxCount = count;
+        bucket.dirty = false;
+        dirtyCount--;
+        clickableCount += count;
+    }
+}
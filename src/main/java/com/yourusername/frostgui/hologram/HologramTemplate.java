@@ -0,0 +1,130 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Named set of lines shared by many holograms, defined in the templates section of holograms.yml.
+ * <p>
+ * The compiled (color-translated) lines live here once and every instance reads them
+ * from the template instead of keeping its own copy. Instances only store the lines
+ * they override. Editing a template diffs the old and new lines and pushes the changed
+ * lines to the instances that actually display them.
+ */
+public class HologramTemplate {
+    private final String name;
+    private String[] rawLines;
+    private String[] compiledLines;
+    private final List<Hologram> instances;
+
+    /**
+     * Creates a new template
+     *
+     * @param name  Name used to reference the template
+     * @param lines Lines of text (supports color codes with &)
+     */
+    public HologramTemplate(String name, List<String> lines) {
+        this.name = name;
+        this.instances = new ArrayList<>();
+        compile(lines);
+    }
+
+    private void compile(List<String> lines) {
+        rawLines = lines.toArray(new String[0]);
+        compiledLines = new String[rawLines.length];
+        for (int i = 0; i < rawLines.length; i++) {
+            compiledLines[i] = ChatColor.translateAlternateColorCodes('&', rawLines[i]);
+        }
+    }
+
+    /**
+     * Replaces the lines of the template and updates every instance.
+     * Only lines that actually changed are pushed to the instances displaying them;
+     * instances are only respawned when the number of lines changes, and lose the
+     * overrides and click actions of lines past the new count when it shrinks.
+     *
+     * @param lines The new lines
+     * @return Number of instances whose displayed content changed
+     */
+    int setLines(List<String> lines) {
+        String[] oldRaw = rawLines;
+        compile(lines);
+
+        if (oldRaw.length != rawLines.length) {
+            for (Hologram instance : instances) {
+                if (rawLines.length < oldRaw.length) {
+                    instance.pruneLines(rawLines.length);
+                }
+                instance.refresh();
+                instance.changed();
+            }
+            return instances.size();
+        }
+
+        // Collect the indices that changed
+        int[] changed = new int[rawLines.length];
+        int changedCount = 0;
+        for (int i = 0; i < rawLines.length; i++) {
+            if (!Objects.equals(oldRaw[i], rawLines[i])) {
+                changed[changedCount++] = i;
+            }
+        }
+        if (changedCount == 0) {
+            return 0;
+        }
+
+        int affected = 0;
+        for (Hologram instance : instances) {
+            boolean instanceChanged = false;
+            for (int i = 0; i < changedCount; i++) {
+                if (!instance.isLineOverridden(changed[i])) {
+                    instance.updateLineEntity(changed[i], oldRaw[changed[i]]);
+                    instanceChanged = true;
+                }
+            }
+            if (instanceChanged) {
+                instance.changed();
+                affected++;
+            }
+        }
+        return affected;
+    }
+
+    void addInstance(Hologram hologram) {
+        instances.add(hologram);
+    }
+
+    void removeInstance(Hologram hologram) {
+        instances.remove(hologram);
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getLineCount() {
+        return rawLines.length;
+    }
+
+    public String getRawLine(int index) {
+        return rawLines[index];
+    }
+
+    public String getCompiledLine(int index) {
+        return compiledLines[index];
+    }
+
+    public List<String> getLines() {
+        return Collections.unmodifiableList(Arrays.asList(rawLines));
+    }
+
+    public List<Hologram> getInstances() {
+        return Collections.unmodifiableList(instances);
+    }
+}
@@ -0,0 +1,271 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reads and writes sets of holograms for bulk import and export.
+ * <p>
+ * Both formats use the layout of holograms.yml: the full definition of every hologram
+ * (position, lines or template and overrides, level of detail, schedule, click actions,
+ * priority and visibility) under holograms, and the templates they use under templates.
+ * JSON files are read by the YAML parser, since every JSON document is also valid YAML.
+ * Importing keeps template links and creates templates the server does not have yet;
+ * templates that already exist are not overwritten.
+ */
+public final class HologramTransfer {
+
+    private HologramTransfer() {
+    }
+
+    /**
+     * Converts a filter with * wildcards into a pattern matching hologram IDs
+     *
+     * @param filter The filter, or null to match everything
+     * @return The compiled pattern
+     */
+    public static Pattern compileFilter(String filter) {
+        if (filter == null || filter.isEmpty()) {
+            return Pattern.compile(".*");
+        }
+        StringBuilder regex = new StringBuilder();
+        for (String part : filter.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * Writes holograms as YAML
+     *
+     * @param holograms The holograms to export
+     * @return The YAML document
+     */
+    public static String toYaml(Collection<Hologram> holograms) {
+        return toConfig(holograms).saveToString();
+    }
+
+    /**
+     * Writes holograms as JSON
+     *
+     * @param holograms The holograms to export
+     * @return The JSON document
+     */
+    public static String toJson(Collection<Hologram> holograms) {
+        YamlConfiguration config = toConfig(holograms);
+        StringBuilder out = new StringBuilder("{");
+        boolean firstSection = true;
+        for (String section : config.getKeys(false)) {
+            out.append(firstSection ? "\n" : ",\n");
+            firstSection = false;
+            out.append("  ").append(quote(section)).append(": {");
+            // One entry per line, so exports diff well
+            ConfigurationSection entries = config.getConfigurationSection(section);
+            boolean first = true;
+            for (String key : entries.getKeys(false)) {
+                out.append(first ? "\n" : ",\n");
+                first = false;
+                out.append("    ").append(quote(key)).append(": ");
+                appendJson(out, entries.get(key));
+            }
+            out.append(first ? "}" : "\n  }");
+        }
+        out.append(firstSection ? "}\n" : "\n}\n");
+        return out.toString();
+    }
+
+    /**
+     * Writes holograms with the same keys as holograms.yml, plus the templates they use
+     */
+    private static YamlConfiguration toConfig(Collection<Hologram> holograms) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.createSection("holograms");
+        Map<String, HologramTemplate> templates = new TreeMap<>();
+        for (Hologram hologram : holograms) {
+            HologramManager.writeDefinition(config, "holograms." + hologram.getId(), hologram);
+            if (hologram.getTemplate() != null) {
+                templates.put(hologram.getTemplate().getName(), hologram.getTemplate());
+            }
+        }
+        for (HologramTemplate template : templates.values()) {
+            config.set("templates." + template.getName() + ".lines", new ArrayList<>(template.getLines()));
+        }
+        return config;
+    }
+
+    private static void appendJson(StringBuilder out, Object value) {
+        if (value instanceof ConfigurationSection) {
+            ConfigurationSection section = (ConfigurationSection) value;
+            out.append('{');
+            boolean first = true;
+            for (String key : section.getKeys(false)) {
+                out.append(first ? "" : ", ");
+                first = false;
+                out.append(quote(key)).append(": ");
+                appendJson(out, section.get(key));
+            }
+            out.append('}');
+        } else if (value instanceof List) {
+            out.append('[');
+            List<?> list = (List<?>) value;
+            for (int i = 0; i < list.size(); i++) {
+                out.append(i > 0 ? ", " : "");
+                appendJson(out, list.get(i));
+            }
+            out.append(']');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value == null) {
+            out.append("null");
+        } else {
+            out.append(quote(value.toString()));
+        }
+    }
+
+    /**
+     * Stages every hologram of an exported document: existing IDs are given the exported
+     * definition, other IDs are created. Holograms missing from the document are kept.
+     *
+     * @param batch  The batch to stage the changes on
+     * @param text   Contents of a YAML or JSON export
+     * @param server Server resolving the world names
+     * @return Number of holograms in the document
+     * @throws IllegalArgumentException If the document cannot be parsed or any entry is invalid,
+     *                                  listing every invalid entry
+     */
+    public static int stage(HologramBatch batch, String text, Server server) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        try {
+            yaml.loadFromString(text);
+        } catch (InvalidConfigurationException e) {
+            throw new IllegalArgumentException("Invalid file: " + e.getMessage());
+        }
+        ConfigurationSection section = yaml.getConfigurationSection("holograms");
+        if (section == null) {
+            throw new IllegalArgumentException("The file has no holograms section");
+        }
+
+        // Validate everything first so the error lists every bad entry, not just the first one
+        List<String> errors = new ArrayList<>();
+        ConfigurationSection templateSection = yaml.getConfigurationSection("templates");
+        if (templateSection != null) {
+            for (String name : templateSection.getKeys(false)) {
+                List<String> lines = templateSection.getStringList(name + ".lines");
+                try {
+                    // Templates the server already has are kept as they are
+                    if (batch.getTemplateLines(name) == null) {
+                        batch.createTemplate(name, lines);
+                    }
+                } catch (IllegalArgumentException e) {
+                    errors.add("template " + name + ": " + e.getMessage());
+                }
+            }
+        }
+        for (String id : section.getKeys(false)) {
+            ConfigurationSection entry = section.getConfigurationSection(id);
+            String worldName = entry != null ? entry.getString("world") : null;
+            World world = worldName != null ? server.getWorld(worldName) : null;
+            String template = entry != null ? entry.getString("template") : null;
+            List<String> templateLines = template != null ? batch.getTemplateLines(template) : null;
+            if (entry == null || (template == null && (!entry.isList("lines") || entry.getStringList("lines").isEmpty()))) {
+                errors.add(id + ": needs at least one line");
+            } else if (template != null && templateLines == null) {
+                errors.add(id + ": uses unknown template '" + template + "'");
+            } else if (world == null) {
+                errors.add(id + ": world '" + worldName + "' is not loaded");
+            } else if (!isNumber(entry, "x") || !isNumber(entry, "y") || !isNumber(entry, "z")) {
+                errors.add(id + ": needs numeric x, y and z");
+            } else {
+                Location location = new Location(world, entry.getDouble("x"), entry.getDouble("y"), entry.getDouble("z"));
+                List<String> lines = template != null ? templateLines : entry.getStringList("lines");
+                try {
+                    if (batch.exists(id)) {
+                        batch.move(id, location);
+                        if (template == null) {
+                            batch.setLines(id, lines);
+                        }
+                    } else {
+                        batch.create(id, location, lines);
+                    }
+                    batch.setTemplate(id, template, template != null ? readOverrides(entry) : null);
+                    batch.setSettings(id, entry);
+                } catch (IllegalArgumentException e) {
+                    errors.add(id + ": " + e.getMessage());
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors));
+        }
+        return section.getKeys(false).size();
+    }
+
+    /**
+     * Reads template overrides, stored as 1-based line number to text
+     */
+    private static Map<Integer, String> readOverrides(ConfigurationSection entry) {
+        Map<Integer, String> overrides = new TreeMap<>();
+        ConfigurationSection section = entry.getConfigurationSection("overrides");
+        if (section == null) {
+            return overrides;
+        }
+        for (String key : section.getKeys(false)) {
+            try {
+                overrides.put(Integer.parseInt(key) - 1, section.getString(key));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("override '" + key + "' is not a line number");
+            }
+        }
+        return overrides;
+    }
+
+    private static boolean isNumber(ConfigurationSection section, String path) {
+        return section.get(path) instanceof Number;
+    }
+
+    private static String quote(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString();
+    }
+}
@@ -0,0 +1,283 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.metrics.QosGovernor;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks which level of detail each player sees for holograms with LOD enabled.
+ * <p>
+ * Viewers are only re-evaluated once they have moved a few blocks since their last
+ * evaluation, and switching tiers uses a hysteresis band around the LOD distance so
+ * that a player standing right on the border does not flap between the two tiers.
+ * The LOD distance shrinks while the {@link QosGovernor} sheds work. Players are always
+ * evaluated on the thread owning them.
+ * <p>
+ * A move only evaluates the holograms the {@link HologramSpatialIndex} finds within the
+ * largest LOD distance plus the hysteresis band. Anything further away is past every
+ * band and therefore far, so each viewer remembers the holograms it sees in full detail
+ * and only those are switched to the summary once they drop out of the radius. Joins,
+ * world changes and new QoS levels still evaluate every LOD hologram.
+ */
+public class HologramViewTracker {
+
+    /**
+     * Position at which a player was last evaluated
+     */
+    private static final class LastEvaluation {
+        private World world;
+        private double x;
+        private double y;
+        private double z;
+        /** LOD holograms in this world the player sees in full detail */
+        private final Set<Hologram> near = new HashSet<>();
+    }
+
+    private final JavaPlugin plugin;
+    private final QosGovernor governor;
+    private final FrostScheduler scheduler;
+    private final HologramSpatialIndex spatialIndex;
+    private final List<Hologram> lodHolograms;
+    private final Map<UUID, LastEvaluation> lastEvaluations;
+    private volatile double maxLodDistance;
+
+    /**
+     * Creates a new HologramViewTracker
+     *
+     * @param plugin       The JavaPlugin instance
+     * @param governor     Governor whose level scales the LOD distances
+     * @param scheduler    Scheduler running the evaluations on each player's thread
+     * @param spatialIndex Index finding the holograms around a viewer
+     */
+    public HologramViewTracker(JavaPlugin plugin, QosGovernor governor, FrostScheduler scheduler,
+                               HologramSpatialIndex spatialIndex) {
+        this.plugin = plugin;
+        this.governor = governor;
+        this.scheduler = scheduler;
+        this.spatialIndex = spatialIndex;
+        // Written on the global thread, read by every player's thread
+        this.lodHolograms = new CopyOnWriteArrayList<>();
+        this.lastEvaluations = new ConcurrentHashMap<>();
+        
+        // A new level changes every LOD distance at once
+        governor.addListener(level -> evaluateAll());
+    }
+
+    /**
+     * Decides the level of detail for a viewer at a given distance
+     *
+     * @param wasFar          True if the viewer currently sees the summary
+     * @param distanceSquared Squared distance between viewer and hologram
+     * @param lodDistance     Distance beyond which the summary is shown
+     * @param hysteresis      Width of the band around the LOD distance in which the tier is kept
+     * @return True if the viewer should see the summary
+     */
+    public static boolean resolveFar(boolean wasFar, double distanceSquared, double lodDistance, double hysteresis) {
+        double threshold = wasFar ? Math.max(0, lodDistance - hysteresis) : lodDistance + hysteresis;
+        return distanceSquared > threshold * threshold;
+    }
+
+    /**
+     * Starts or stops tracking a hologram after its LOD settings changed
+     *
+     * @param hologram The hologram
+     */
+    void update(Hologram hologram) {
+        lodHolograms.remove(hologram);
+        if (hologram.hasLod()) {
+            lodHolograms.add(hologram);
+        }
+        updateMaxLodDistance();
+
+        if (hologram.hasLod()) {
+            // Place every online player in the right tier straight away
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                scheduler.executeForEntity(player, () -> evaluate(player, hologram));
+            }
+        } else {
+            for (Player player : plugin.getServer().getOnlinePlayers()) {
+                scheduler.executeForEntity(player, () -> {
+                    LastEvaluation last = lastEvaluations.get(player.getUniqueId());
+                    if (last != null) {
+                        last.near.remove(hologram);
+                    }
+                    hologram.setViewerFar(player, false);
+                });
+            }
+        }
+    }
+
+    /**
+     * Stops tracking a hologram, for example after it has been removed
+     *
+     * @param hologram The hologram
+     */
+    void forget(Hologram hologram) {
+        lodHolograms.remove(hologram);
+        updateMaxLodDistance();
+    }
+
+    private void updateMaxLodDistance() {
+        double max = 0;
+        for (Hologram hologram : lodHolograms) {
+            max = Math.max(max, hologram.getLodDistance());
+        }
+        maxLodDistance = max;
+    }
+
+    /**
+     * Re-evaluates a player if they moved far enough since the last evaluation
+     *
+     * @param player The moving player
+     * @param to     The new location of the player
+     */
+    public void handleMove(Player player, Location to) {
+        if (lodHolograms.isEmpty()) {
+            return;
+        }
+
+        LastEvaluation last = lastEvaluations.get(player.getUniqueId());
+        if (last != null && last.world == to.getWorld()) {
+            double threshold = plugin.getConfig().getDouble("holograms.lod.move-threshold", 2.0);
+            double dx = to.getX() - last.x;
+            double dy = to.getY() - last.y;
+            double dz = to.getZ() - last.z;
+            if (dx * dx + dy * dy + dz * dz < threshold * threshold) {
+                return;
+            }
+        }
+
+        if (last == null || last.world != to.getWorld()) {
+            evaluate(player, to);
+        } else {
+            evaluateNearby(player, to, last, false);
+        }
+    }
+
+    /**
+     * Evaluates every LOD hologram for a player at the given location
+     *
+     * @param player   The player
+     * @param location The location of the player
+     */
+    public void evaluate(Player player, Location location) {
+        LastEvaluation last = lastEvaluations.computeIfAbsent(player.getUniqueId(), uuid -> new LastEvaluation());
+        last.world = location.getWorld();
+        last.near.clear();
+        evaluateNearby(player, location, last, true);
+    }
+
+    /**
+     * Evaluates the holograms a player could be near to, or every LOD hologram if full is set
+     */
+    private void evaluateNearby(Player player, Location location, LastEvaluation last, boolean full) {
+        last.x = location.getX();
+        last.y = location.getY();
+        last.z = location.getZ();
+
+        double hysteresis = plugin.getConfig().getDouble("holograms.lod.hysteresis", 4.0);
+        if (full) {
+            for (Hologram hologram : lodHolograms) {
+                evaluate(player, location, hologram, hysteresis, last);
+            }
+            return;
+        }
+
+        double radius = maxLodDistance * governor.getViewDistanceScale() + hysteresis;
+        for (Hologram hologram : spatialIndex.getHologramsInRadius(location, radius)) {
+            if (hologram.hasLod()) {
+                evaluate(player, location, hologram, hysteresis, last);
+            }
+        }
+
+        // Holograms that dropped out of the radius are past their band, whatever tier they were in
+        double radiusSquared = radius * radius;
+        Iterator<Hologram> near = last.near.iterator();
+        while (near.hasNext()) {
+            Hologram hologram = near.next();
+            double dx = hologram.getX() - location.getX();
+            double dy = hologram.getY() - location.getY();
+            double dz = hologram.getZ() - location.getZ();
+            if (hologram.getWorld() != location.getWorld() || dx * dx + dy * dy + dz * dz > radiusSquared) {
+                near.remove();
+                hologram.setViewerFar(player, true);
+            }
+        }
+    }
+
+    /**
+     * Evaluates every LOD hologram for every online player
+     */
+    public void evaluateAll() {
+        if (lodHolograms.isEmpty()) {
+            return;
+        }
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            scheduler.executeForEntity(player, () -> evaluate(player, player.getLocation()));
+        }
+    }
+
+    /**
+     * Forgets all state of a player, for example when they quit
+     *
+     * @param player The player
+     */
+    public void forgetPlayer(Player player) {
+        lastEvaluations.remove(player.getUniqueId());
+        for (Hologram hologram : lodHolograms) {
+            hologram.forgetViewer(player.getUniqueId());
+        }
+    }
+
+    /**
+     * @return Number of holograms with LOD enabled
+     */
+    public int getTrackedCount() {
+        return lodHolograms.size();
+    }
+
+    private void evaluate(Player player, Hologram hologram) {
+        LastEvaluation last = lastEvaluations.get(player.getUniqueId());
+        if (last == null) {
+            // Not placed in any tier yet, which takes a full evaluation
+            evaluate(player, player.getLocation());
+            return;
+        }
+        double hysteresis = plugin.getConfig().getDouble("holograms.lod.hysteresis", 4.0);
+        evaluate(player, player.getLocation(), hologram, hysteresis, last);
+    }
+
+    private void evaluate(Player player, Location location, Hologram hologram, double hysteresis, LastEvaluation last) {
+        if (hologram.getWorld() != location.getWorld()) {
+            // Players in other worlds cannot see the hologram anyway
+            return;
+        }
+
+        double dx = hologram.getX() - location.getX();
+        double dy = hologram.getY() - location.getY();
+        double dz = hologram.getZ() - location.getZ();
+        boolean wasFar = hologram.isViewerFar(player.getUniqueId());
+        double lodDistance = hologram.getLodDistance() * governor.getViewDistanceScale();
+        boolean far = resolveFar(wasFar, dx * dx + dy * dy + dz * dz, lodDistance, hysteresis);
+        if (far) {
+            last.near.remove(hologram);
+        } else {
+            last.near.add(hologram);
+        }
+        if (far != wasFar) {
+            hologram.setViewerFar(player, far);
+        }
+    }
+}
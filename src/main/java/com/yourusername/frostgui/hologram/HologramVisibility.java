@@ -0,0 +1,127 @@
+package com.yourusername.frostgui.hologram;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Conditions a player has to meet to see a hologram, persisted with the hologram in its
+ * visibility section. Every part is optional; a player must pass all parts that are set.
+ * <ul>
+ *     <li>permission - a permission node</li>
+ *     <li>worlds - the world group the player has to be in</li>
+ *     <li>conditions - custom {@link VisibilityCondition}s as "name" or "name:argument"</li>
+ * </ul>
+ */
+public class HologramVisibility {
+    private final String permission;
+    private final Set<String> worlds;
+    private final List<String> conditions;
+
+    /**
+     * Creates new visibility conditions, any part of which may be null
+     *
+     * @param permission Permission node the player needs
+     * @param worlds     Names of the worlds the player has to be in
+     * @param conditions Custom conditions as "name" or "name:argument"
+     */
+    public HologramVisibility(String permission, Collection<String> worlds, Collection<String> conditions) {
+        this.permission = permission != null && !permission.isEmpty() ? permission : null;
+        this.worlds = worlds != null && !worlds.isEmpty()
+                ? Collections.unmodifiableSet(new LinkedHashSet<>(worlds)) : null;
+        this.conditions = conditions != null
+                ? Collections.unmodifiableList(new ArrayList<>(conditions)) : Collections.emptyList();
+    }
+
+    /**
+     * @return Permission node the player needs, or null
+     */
+    public String getPermission() {
+        return permission;
+    }
+
+    /**
+     * @return World group the player has to be in, or null for any world
+     */
+    public Set<String> getWorlds() {
+        return worlds;
+    }
+
+    /**
+     * @return Custom conditions as "name" or "name:argument"
+     */
+    public List<String> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * @return True if nothing is restricted, so everyone sees the hologram
+     */
+    public boolean isEmpty() {
+        return permission == null && worlds == null && conditions.isEmpty();
+    }
+
+    /**
+     * @param newPermission The permission node, or null to clear it
+     * @return A copy with another permission
+     */
+    public HologramVisibility withPermission(String newPermission) {
+        return new HologramVisibility(newPermission, worlds, conditions);
+    }
+
+    /**
+     * @param newWorlds The world group, or null to allow every world
+     * @return A copy with another world group
+     */
+    public HologramVisibility withWorlds(Collection<String> newWorlds) {
+        return new HologramVisibility(permission, newWorlds, conditions);
+    }
+
+    /**
+     * @param newConditions The custom conditions, or null to clear them
+     * @return A copy with other custom conditions
+     */
+    public HologramVisibility withConditions(Collection<String> newConditions) {
+        return new HologramVisibility(permission, worlds, newConditions);
+    }
+
+    /**
+     * Gets the name of a custom condition
+     *
+     * @param condition The condition as "name" or "name:argument"
+     * @return The name
+     */
+    static String conditionName(String condition) {
+        int split = condition.indexOf(':');
+        return split >= 0 ? condition.substring(0, split) : condition;
+    }
+
+    /**
+     * Gets the argument of a custom condition
+     *
+     * @param condition The condition as "name" or "name:argument"
+     * @return The argument, or null if there is none
+     */
+    static String conditionArgument(String condition) {
+        int split = condition.indexOf(':');
+        return split >= 0 ? condition.substring(split + 1) : null;
+    }
+
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        if (permission != null) {
+            parts.add("permission " + permission);
+        }
+        if (worlds != null) {
+            parts.add("worlds " + String.join(", ", worlds));
+        }
+        if (!conditions.isEmpty()) {
+            parts.add("conditions " + String.join(", ", conditions));
+        }
+        return parts.isEmpty() ? "everyone" : String.join("; ", parts);
+    }
+}
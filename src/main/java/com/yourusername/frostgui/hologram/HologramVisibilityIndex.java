@@ -0,0 +1,472 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which players see the holograms that have visibility conditions.
+ * <p>
+ * Every conditional hologram gets a dense index and every online player a bitset of the
+ * indices they may see. A player's bitset is only recomputed when one of their inputs
+ * changes: joining, changing worlds, a permission change (found by polling only the
+ * distinct permission nodes in use) or {@link #refresh(Player)} for custom conditions.
+ * Recomputing costs one check per distinct permission, world group and condition rather
+ * than one per hologram, and only holograms whose bit flipped are shown or hidden.
+ * Holograms without conditions have no index and stay visible to everyone.
+ * <p>
+ * Holograms are indexed on the global thread while players are recomputed on their own
+ * threads. Indexing changes private maps and then publishes an immutable {@link Snapshot}
+ * of them, which is all the player threads ever read. A player's bitset is replaced as a
+ * whole under the lock of its state, never modified in place.
+ */
+public class HologramVisibilityIndex {
+
+    /**
+     * Visibility of the conditional holograms for one player
+     */
+    private static final class PlayerState {
+        /** Replaced on every recomputation, so readers on other threads see a whole set */
+        private volatile BitSet visible = new BitSet();
+        /** Permission nodes in use that the player had at the last recomputation */
+        private Set<String> granted = Collections.emptySet();
+    }
+
+    /**
+     * The inputs as of the last indexing change, never modified after it is published
+     */
+    private static final class Snapshot {
+        private final BitSet used;
+        /** Shared with the index until it grows, only ever read at indices set in used */
+        private final Hologram[] byIndex;
+        private final Map<String, BitSet> byPermission;
+        private final Map<Set<String>, BitSet> byWorlds;
+        private final Map<String, BitSet> byCondition;
+
+        private Snapshot(BitSet used, Hologram[] byIndex, Map<String, BitSet> byPermission,
+                         Map<Set<String>, BitSet> byWorlds, Map<String, BitSet> byCondition) {
+            this.used = (BitSet) used.clone();
+            this.byIndex = byIndex;
+            this.byPermission = copy(byPermission);
+            this.byWorlds = copy(byWorlds);
+            this.byCondition = copy(byCondition);
+        }
+
+        private static <K> Map<K, BitSet> copy(Map<K, BitSet> inputs) {
+            Map<K, BitSet> copy = new HashMap<>();
+            for (Map.Entry<K, BitSet> entry : inputs.entrySet()) {
+                copy.put(entry.getKey(), (BitSet) entry.getValue().clone());
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final FrostScheduler scheduler;
+    private final Map<String, VisibilityCondition> conditions;
+    // Only touched while indexing, under the lock of this index
+    private final BitSet used;
+    private Hologram[] byIndex;
+    private final Map<String, BitSet> byPermission;
+    private final Map<Set<String>, BitSet> byWorlds;
+    private final Map<String, BitSet> byCondition;
+    private volatile Snapshot snapshot;
+    private final Map<UUID, PlayerState> players;
+    private TaskHandle permissionTask;
+
+    /**
+     * Creates a new HologramVisibilityIndex
+     *
+     * @param plugin    The JavaPlugin instance
+     * @param scheduler Scheduler running the per-player work on the thread owning each player
+     */
+    public HologramVisibilityIndex(JavaPlugin plugin, FrostScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.conditions = new ConcurrentHashMap<>();
+        this.used = new BitSet();
+        this.byIndex = new Hologram[64];
+        this.byPermission = new HashMap<>();
+        this.byWorlds = new HashMap<>();
+        this.byCondition = new HashMap<>();
+        this.snapshot = new Snapshot(used, byIndex, byPermission, byWorlds, byCondition);
+        this.players = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers a custom condition that holograms can reference by name
+     *
+     * @param name      Name of the condition, without colon
+     * @param condition The check
+     * @throws IllegalArgumentException If the name contains a colon
+     */
+    public void registerCondition(String name, VisibilityCondition condition) {
+        if (name.indexOf(':') >= 0) {
+            throw new IllegalArgumentException("Condition names cannot contain ':'");
+        }
+        conditions.put(name, condition);
+        if (usesCondition(name)) {
+            refreshAll();
+        }
+    }
+
+    /**
+     * Unregisters a custom condition, hiding the holograms that use it
+     *
+     * @param name Name of the condition
+     * @return True if the condition was registered
+     */
+    public boolean unregisterCondition(String name) {
+        boolean removed = conditions.remove(name) != null;
+        if (removed && usesCondition(name)) {
+            refreshAll();
+        }
+        return removed;
+    }
+
+    /**
+     * Recomputes what a player sees, for example after the input of a custom condition
+     * such as their quest stage changed
+     *
+     * @param player The player
+     */
+    public void refresh(Player player) {
+        scheduler.executeForEntity(player, () -> recompute(player));
+    }
+
+    /**
+     * Recomputes what every online player sees
+     */
+    public void refreshAll() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            refresh(player);
+        }
+    }
+
+    /**
+     * Checks whether a player may see a conditional hologram
+     *
+     * @param playerId UUID of the player
+     * @param index    Visibility index of the hologram
+     * @return True if the player passes the hologram's conditions
+     */
+    boolean canSee(UUID playerId, int index) {
+        PlayerState state = players.get(playerId);
+        return state != null && state.visible.get(index);
+    }
+
+    /**
+     * Indexes a hologram after its conditions were set, loaded or cleared. The conditions
+     * are evaluated once per online player on that player's thread; the caller respawns
+     * the hologram afterwards.
+     *
+     * @param hologram The hologram
+     */
+    synchronized void update(Hologram hologram) {
+        HologramVisibility visibility = hologram.getVisibility();
+        int index = hologram.getVisibilityIndex();
+        if (index >= 0) {
+            clearInputs(index);
+        }
+        if (visibility == null || visibility.isEmpty()) {
+            if (index >= 0) {
+                release(hologram, index);
+            }
+            publish();
+            return;
+        }
+
+        if (index < 0) {
+            // The lowest free index keeps the bitsets dense
+            index = used.nextClearBit(0);
+            used.set(index);
+            if (index >= byIndex.length) {
+                byIndex = Arrays.copyOf(byIndex, Math.max(index + 1, byIndex.length * 2));
+            }
+            byIndex[index] = hologram;
+            hologram.setVisibilityIndex(index);
+        }
+        if (visibility.getPermission() != null) {
+            byPermission.computeIfAbsent(visibility.getPermission(), key -> new BitSet()).set(index);
+        }
+        if (visibility.getWorlds() != null) {
+            byWorlds.computeIfAbsent(visibility.getWorlds(), key -> new BitSet()).set(index);
+        }
+        for (String condition : visibility.getConditions()) {
+            byCondition.computeIfAbsent(condition, key -> new BitSet()).set(index);
+        }
+
+        publish();
+
+        int assigned = index;
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            scheduler.executeForEntity(player, () -> updateBit(player, hologram, assigned));
+        }
+    }
+
+    /**
+     * Forgets a removed hologram and frees its index
+     *
+     * @param hologram The hologram
+     */
+    synchronized void remove(Hologram hologram) {
+        int index = hologram.getVisibilityIndex();
+        if (index >= 0) {
+            clearInputs(index);
+            release(hologram, index);
+            publish();
+        }
+    }
+
+    /**
+     * Computes what a player who just joined sees
+     *
+     * @param player The player
+     */
+    public void handleJoin(Player player) {
+        refresh(player);
+    }
+
+    /**
+     * Recomputes what a player sees after they changed worlds
+     *
+     * @param player The player
+     */
+    public void handleWorldChange(Player player) {
+        refresh(player);
+    }
+
+    /**
+     * Forgets the visibility of a player who left
+     *
+     * @param player The player
+     */
+    public void forgetPlayer(Player player) {
+        players.remove(player.getUniqueId());
+    }
+
+    /**
+     * Starts polling permissions again if any hologram needs one
+     */
+    synchronized void start() {
+        updatePermissionTask();
+    }
+
+    /**
+     * Stops polling permissions
+     */
+    synchronized void shutdown() {
+        if (permissionTask != null) {
+            permissionTask.cancel();
+            permissionTask = null;
+        }
+    }
+
+    /**
+     * @return Number of holograms with visibility conditions
+     */
+    public int getIndexedCount() {
+        return snapshot.used.cardinality();
+    }
+
+    /**
+     * Recomputes a player's bitset and shows or hides only the holograms whose bit changed
+     */
+    private void recompute(Player player) {
+        scheduler.checkEntity(player, "Hologram visibility update");
+        PlayerState state = players.computeIfAbsent(player.getUniqueId(), id -> new PlayerState());
+
+        Snapshot inputs;
+        BitSet changed;
+        // Holding the lock while reading the snapshot keeps a concurrent updateBit from being lost
+        synchronized (state) {
+            inputs = snapshot;
+            BitSet next = (BitSet) inputs.used.clone();
+            Set<String> granted = new HashSet<>();
+            for (Map.Entry<String, BitSet> entry : inputs.byPermission.entrySet()) {
+                if (player.hasPermission(entry.getKey())) {
+                    granted.add(entry.getKey());
+                } else {
+                    next.andNot(entry.getValue());
+                }
+            }
+            String worldName = player.getWorld().getName();
+            for (Map.Entry<Set<String>, BitSet> entry : inputs.byWorlds.entrySet()) {
+                if (!entry.getKey().contains(worldName)) {
+                    next.andNot(entry.getValue());
+                }
+            }
+            for (Map.Entry<String, BitSet> entry : inputs.byCondition.entrySet()) {
+                if (!test(player, entry.getKey())) {
+                    next.andNot(entry.getValue());
+                }
+            }
+
+            changed = (BitSet) state.visible.clone();
+            changed.xor(next);
+            state.visible = next;
+            state.granted = granted;
+        }
+        for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+            Hologram hologram = index < inputs.byIndex.length ? inputs.byIndex[index] : null;
+            if (hologram != null) {
+                hologram.applyVisibility(player);
+            }
+        }
+    }
+
+    /**
+     * Sets the bit of a hologram that was just indexed, on the thread owning the player
+     */
+    private void updateBit(Player player, Hologram hologram, int index) {
+        HologramVisibility visibility = hologram.getVisibility();
+        // Cleared or removed again before this player's thread got to it
+        if (visibility == null || hologram.getVisibilityIndex() != index) {
+            return;
+        }
+        scheduler.checkEntity(player, "Hologram visibility update");
+        boolean visible = evaluate(player, visibility);
+        PlayerState state = players.computeIfAbsent(player.getUniqueId(), id -> new PlayerState());
+        synchronized (state) {
+            if (state.visible.get(index) == visible) {
+                return;
+            }
+            BitSet next = (BitSet) state.visible.clone();
+            next.set(index, visible);
+            state.visible = next;
+        }
+        hologram.applyVisibility(player);
+    }
+
+    /**
+     * Evaluates the conditions of a single hologram for a player
+     */
+    private boolean evaluate(Player player, HologramVisibility visibility) {
+        if (visibility.getPermission() != null && !player.hasPermission(visibility.getPermission())) {
+            return false;
+        }
+        if (visibility.getWorlds() != null && !visibility.getWorlds().contains(player.getWorld().getName())) {
+            return false;
+        }
+        for (String condition : visibility.getConditions()) {
+            if (!test(player, condition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean test(Player player, String condition) {
+        VisibilityCondition check = conditions.get(HologramVisibility.conditionName(condition));
+        if (check == null) {
+            // Unknown conditions hide the hologram until a plugin registers them
+            return false;
+        }
+        try {
+            return check.test(player, HologramVisibility.conditionArgument(condition));
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Visibility condition '" + condition + "' failed for "
+                    + player.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean usesCondition(String name) {
+        for (String condition : snapshot.byCondition.keySet()) {
+            if (HologramVisibility.conditionName(condition).equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes an index from the input sets, dropping inputs no hologram uses anymore
+     */
+    private void clearInputs(int index) {
+        clearInput(byPermission, index);
+        clearInput(byWorlds, index);
+        clearInput(byCondition, index);
+    }
+
+    private static <K> void clearInput(Map<K, BitSet> inputs, int index) {
+        Iterator<BitSet> iterator = inputs.values().iterator();
+        while (iterator.hasNext()) {
+            BitSet holograms = iterator.next();
+            holograms.clear(index);
+            if (holograms.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void release(Hologram hologram, int index) {
+        used.clear(index);
+        byIndex[index] = null;
+        hologram.setVisibilityIndex(-1);
+        for (PlayerState state : players.values()) {
+            synchronized (state) {
+                if (state.visible.get(index)) {
+                    BitSet next = (BitSet) state.visible.clone();
+                    next.clear(index);
+                    state.visible = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the current inputs to the player threads
+     */
+    private void publish() {
+        snapshot = new Snapshot(used, byIndex, byPermission, byWorlds, byCondition);
+        updatePermissionTask();
+    }
+
+    /**
+     * Polls permissions only while a hologram needs one
+     */
+    private void updatePermissionTask() {
+        if (!byPermission.isEmpty() && permissionTask == null) {
+            long interval = Math.max(1, plugin.getConfig().getLong("holograms.visibility.permission-check-ticks", 40));
+            permissionTask = scheduler.runGlobalTimer(this::checkPermissions, interval, interval);
+        } else if (byPermission.isEmpty()) {
+            shutdown();
+        }
+    }
+
+    private void checkPermissions() {
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            scheduler.executeForEntity(player, () -> checkPermissions(player));
+        }
+    }
+
+    /**
+     * Recomputes a player's bitset only if one of the permission nodes in use changed
+     */
+    private void checkPermissions(Player player) {
+        PlayerState state = players.get(player.getUniqueId());
+        if (state == null) {
+            recompute(player);
+            return;
+        }
+        for (String node : snapshot.byPermission.keySet()) {
+            if (player.hasPermission(node) != state.granted.contains(node)) {
+                recompute(player);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Numbers the worlds holograms are placed in, so a hologram stores a small index
+ * instead of a Location with its own world reference.
+ * <p>
+ * Worlds are matched by UUID: a world that is unloaded and loaded again keeps its index
+ * and holograms in it resolve to the new world object, re-bound by {@link #rebind} as the
+ * world loads or looked up again once the old one was collected. Worlds are only weakly
+ * referenced, like in a Location, so an unloaded world can still be garbage collected.
+ */
+final class HologramWorlds {
+
+    /**
+     * One known world
+     */
+    private static final class Slot {
+        private final UUID id;
+        private volatile Reference<World> world;
+
+        private Slot(World world) {
+            this.id = world.getUID();
+            this.world = new WeakReference<>(world);
+        }
+    }
+
+    /** Copied on write, lookups from any thread only read the array */
+    private static volatile Slot[] slots = new Slot[0];
+
+    private HologramWorlds() {
+    }
+
+    /**
+     * Gets the index of a world, numbering it if it was not seen before
+     *
+     * @param world The world, may be null
+     * @return The index, or -1 for a null world
+     */
+    static int indexOf(World world) {
+        if (world == null) {
+            return -1;
+        }
+        int index = find(slots, world);
+        return index >= 0 ? index : register(world);
+    }
+
+    /**
+     * Gets the world with an index
+     *
+     * @param index The index
+     * @return The world, or null if the index is -1 or the world is not loaded
+     */
+    static World get(int index) {
+        Slot[] current = slots;
+        if (index < 0 || index >= current.length) {
+            return null;
+        }
+        Slot slot = current[index];
+        World world = slot.world.get();
+        if (world == null) {
+            // Collected after an unload, it may have been loaded again since
+            world = Bukkit.getWorld(slot.id);
+            if (world != null) {
+                slot.world = new WeakReference<>(world);
+            }
+        }
+        return world;
+    }
+
+    /**
+     * Points the index of a world that was loaded again at the new world object
+     *
+     * @param world The loaded world
+     */
+    static void rebind(World world) {
+        find(slots, world);
+    }
+
+    private static synchronized int register(World world) {
+        // Another thread may have added the world since the unlocked lookup
+        int index = find(slots, world);
+        if (index >= 0) {
+            return index;
+        }
+        Slot[] grown = Arrays.copyOf(slots, slots.length + 1);
+        grown[grown.length - 1] = new Slot(world);
+        slots = grown;
+        return grown.length - 1;
+    }
+
+    private static int find(Slot[] current, World world) {
+        for (int i = 0; i < current.length; i++) {
+            Slot slot = current[i];
+            if (slot.world.get() == world) {
+                return i;
+            }
+        }
+        UUID id = world.getUID();
+        for (int i = 0; i < current.length; i++) {
+            Slot slot = current[i];
+            if (slot.id.equals(id)) {
+                // Same world loaded again
+                slot.world = new WeakReference<>(world);
+                return i;
+            }
+        }
+        return -1;
+    }
+}
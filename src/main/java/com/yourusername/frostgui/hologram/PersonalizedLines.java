@@ -0,0 +1,280 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The placeholder lines of one shown hologram and the viewers rendering them.
+ * <p>
+ * Viewers whose resolved text is identical share one render group, a set of armor
+ * stands that is hidden by default and only shown to the members of the group. Groups
+ * are found by the hash of the rendered lines, so the number of entities grows with
+ * the number of distinct renderings rather than with the number of viewers. Only players
+ * within the view distance are resolved at all. Render groups are spawned and removed on
+ * the thread owning the hologram's region.
+ */
+final class PersonalizedLines {
+
+    /**
+     * Armor stands showing one distinct rendering, and the viewers seeing it
+     */
+    private static final class RenderGroup {
+        private final String[] rendered;
+        private final int hash;
+        private final ArmorStand[] stands;
+        private final Set<UUID> viewers = new HashSet<>();
+
+        private RenderGroup(String[] rendered, int hash, ArmorStand[] stands) {
+            this.rendered = rendered;
+            this.hash = hash;
+            this.stands = stands;
+        }
+    }
+
+    private final Hologram hologram;
+    private final JavaPlugin plugin;
+    private final FrostScheduler scheduler;
+    private final HologramPlaceholders.PlaceholderLine[] lines;
+    private final Location[] locations;
+    private final Map<Integer, List<RenderGroup>> buckets;
+    private final Map<UUID, RenderGroup> viewerGroups;
+    /** Reused for viewer positions, only touched on the thread owning the region */
+    private final Location scratch;
+
+    /**
+     * Creates the personalized lines of a hologram
+     *
+     * @param hologram  The hologram owning the lines
+     * @param plugin    The plugin instance
+     * @param scheduler Scheduler owning the hologram's region
+     * @param lines     The lines with placeholders
+     * @param locations Location of each line
+     */
+    PersonalizedLines(Hologram hologram, JavaPlugin plugin, FrostScheduler scheduler, 
+                      HologramPlaceholders.PlaceholderLine[] lines, Location[] locations) {
+        this.hologram = hologram;
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.lines = lines;
+        this.locations = locations;
+        this.buckets = new HashMap<>();
+        // Changed on the region's thread, read by tier switches on each viewer's thread
+        this.viewerGroups = new ConcurrentHashMap<>();
+        this.scratch = new Location(null, 0, 0, 0);
+    }
+
+    /**
+     * Re-resolves the lines for the players within a distance of the hologram. Players
+     * who moved out of it leave their render group until they come back.
+     *
+     * @param viewDistance Distance in blocks within which players are resolved
+     */
+    void updateViewers(double viewDistance) {
+        World world = getWorld();
+        if (world == null) {
+            return;
+        }
+        for (Player player : world.getPlayers()) {
+            if (isInRange(player, viewDistance)) {
+                updateViewer(player);
+            } else if (viewerGroups.containsKey(player.getUniqueId())) {
+                forgetViewer(player);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a player is close enough to the hologram to be resolved
+     *
+     * @param player       The player
+     * @param viewDistance Distance in blocks within which players are resolved
+     * @return True if the player is in the hologram's world and within the distance
+     */
+    boolean isInRange(Player player, double viewDistance) {
+        player.getLocation(scratch);
+        return scratch.getWorld() == getWorld() && scratch.distanceSquared(locations[0]) <= viewDistance * viewDistance;
+    }
+
+    /**
+     * Re-resolves the lines for one viewer and moves them to another render group
+     * if their text changed
+     *
+     * @param player The viewer
+     */
+    void updateViewer(Player player) {
+        String[] rendered = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            rendered[i] = lines[i].render(player);
+        }
+        int hash = Arrays.hashCode(rendered);
+
+        UUID viewerId = player.getUniqueId();
+        RenderGroup current = viewerGroups.get(viewerId);
+        if (current != null && current.hash == hash && Arrays.equals(current.rendered, rendered)) {
+            return;
+        }
+        if (current != null) {
+            leave(player, current);
+        }
+
+        RenderGroup group = findGroup(hash, rendered);
+        if (group == null) {
+            group = spawnGroup(hash, rendered);
+        }
+        group.viewers.add(viewerId);
+        viewerGroups.put(viewerId, group);
+
+        // Far viewers get the stands once they come back into the full tier, players
+        // failing the visibility conditions once they pass them
+        if (!hologram.isViewerFar(viewerId) && hologram.isVisibleTo(viewerId)) {
+            for (ArmorStand stand : group.stands) {
+                player.showEntity(plugin, stand);
+            }
+        }
+    }
+
+    /**
+     * Removes a viewer from their render group
+     *
+     * @param player The viewer
+     */
+    void forgetViewer(Player player) {
+        RenderGroup group = viewerGroups.remove(player.getUniqueId());
+        if (group != null) {
+            leave(player, group);
+        }
+    }
+
+    /**
+     * Shows or hides the render group of a viewer when their level of detail changes
+     *
+     * @param viewer The viewer
+     * @param far    True if the viewer only sees the summary
+     */
+    void setViewerFar(Player viewer, boolean far) {
+        RenderGroup group = viewerGroups.get(viewer.getUniqueId());
+        if (group == null) {
+            return;
+        }
+        for (ArmorStand stand : group.stands) {
+            if (far) {
+                viewer.hideEntity(plugin, stand);
+            } else {
+                viewer.showEntity(plugin, stand);
+            }
+        }
+    }
+
+    /**
+     * Removes every render group from the world
+     */
+    void despawn() {
+        for (List<RenderGroup> bucket : buckets.values()) {
+            for (RenderGroup group : bucket) {
+                removeStands(group);
+            }
+        }
+        buckets.clear();
+        viewerGroups.clear();
+    }
+
+    World getWorld() {
+        return locations[0].getWorld();
+    }
+
+    /**
+     * @return Location of the top line, which decides the region owning the lines
+     */
+    Location getLocation() {
+        return locations[0];
+    }
+
+    /**
+     * @return Number of distinct renderings currently spawned
+     */
+    int getGroupCount() {
+        int count = 0;
+        for (List<RenderGroup> bucket : buckets.values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * @return Number of armor stands spawned across all renderings
+     */
+    int getStandCount() {
+        int count = 0;
+        for (List<RenderGroup> bucket : buckets.values()) {
+            for (RenderGroup group : bucket) {
+                count += group.stands.length;
+            }
+        }
+        return count;
+    }
+
+    private RenderGroup findGroup(int hash, String[] rendered) {
+        List<RenderGroup> bucket = buckets.get(hash);
+        if (bucket != null) {
+            for (RenderGroup group : bucket) {
+                if (Arrays.equals(group.rendered, rendered)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private RenderGroup spawnGroup(int hash, String[] rendered) {
+        scheduler.checkRegion(locations[0], "Render group spawn");
+        ArmorStand[] stands = new ArmorStand[rendered.length];
+        for (int i = 0; i < rendered.length; i++) {
+            stands[i] = Hologram.spawnLineStand(plugin, locations[i], rendered[i], hologram.getId());
+            stands[i].setVisibleByDefault(false);
+        }
+
+        RenderGroup group = new RenderGroup(rendered, hash, stands);
+        buckets.computeIfAbsent(hash, key -> new ArrayList<>(1)).add(group);
+        return group;
+    }
+
+    private void leave(Player player, RenderGroup group) {
+        group.viewers.remove(player.getUniqueId());
+        if (group.viewers.isEmpty()) {
+            // Nobody renders this text anymore
+            removeStands(group);
+            List<RenderGroup> bucket = buckets.get(group.hash);
+            bucket.remove(group);
+            if (bucket.isEmpty()) {
+                buckets.remove(group.hash);
+            }
+        } else {
+            for (ArmorStand stand : group.stands) {
+                player.hideEntity(plugin, stand);
+            }
+        }
+    }
+
+    private void removeStands(RenderGroup group) {
+        scheduler.checkRegion(locations[0], "Render group removal");
+        for (ArmorStand stand : group.stands) {
+            if (!stand.isDead()) {
+                stand.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Resolves the value of a hologram placeholder such as {rank} for one viewer
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    /**
+     * Resolves the placeholder for a viewer
+     *
+     * @param player The viewing player
+     * @return The text to display, null is shown as an empty string
+     */
+    String resolve(Player player);
+}
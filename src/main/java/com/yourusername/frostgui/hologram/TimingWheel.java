@@ -0,0 +1,177 @@
+package com.yourusername.frostgui.hologram;
+
+/**
+ * Hashed timing wheel with tick resolution.
+ * <p>
+ * Entries are linked directly into their slot, so scheduling and cancelling are O(1)
+ * and advancing the wheel only touches the entries of a single slot. Deadlines further
+ * away than one revolution simply stay in their slot until their round comes up.
+ * Not thread-safe - it is only ever driven from the main server thread.
+ *
+ * @param <T> The entry type stored in the wheel
+ */
+public class TimingWheel<T extends TimingWheel.Entry> {
+
+    /**
+     * Base class for anything that can be scheduled on a {@link TimingWheel}
+     */
+    public abstract static class Entry {
+        private Entry next;
+        private Entry previous;
+        private int slot = -1;
+        private long deadline;
+
+        /**
+         * @return True if this entry is currently scheduled on a wheel
+         */
+        public boolean isScheduled() {
+            return slot >= 0;
+        }
+
+        /**
+         * @return The tick at which this entry expires
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    /**
+     * Callback for entries that expire while the wheel advances
+     *
+     * @param <T> The entry type
+     */
+    @FunctionalInterface
+    public interface ExpiryHandler<T> {
+        void expired(T entry);
+    }
+
+    private final Entry[] slots;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates a new timing wheel
+     *
+     * @param slotCount Number of slots, rounded up to the next power of two
+     */
+    public TimingWheel(int slotCount) {
+        int capacity = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+        this.slots = new Entry[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Schedules an entry to expire after the given number of ticks
+     *
+     * @param entry The entry to schedule (must not already be scheduled)
+     * @param delay Delay in ticks, at least 1
+     */
+    public void schedule(T entry, long delay) {
+        if (entry.isScheduled()) {
+            throw new IllegalStateException("Entry is already scheduled");
+        }
+
+        long deadline = currentTick + Math.max(1, delay);
+        int slot = (int) (deadline & mask);
+
+        Entry node = entry;
+        node.deadline = deadline;
+        node.slot = slot;
+        node.previous = null;
+        node.next = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].previous = node;
+        }
+        slots[slot] = node;
+        size++;
+    }
+
+    /**
+     * Removes an entry from the wheel without firing it
+     *
+     * @param entry The entry to cancel
+     * @return True if the entry was scheduled
+     */
+    public boolean cancel(T entry) {
+        if (!entry.isScheduled()) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick and fires every entry whose deadline has been reached
+     *
+     * @param handler Callback invoked for each expired entry
+     */
+    @SuppressWarnings("unchecked")
+    public void advance(ExpiryHandler<? super T> handler) {
+        currentTick++;
+        Entry entry = slots[(int) (currentTick & mask)];
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.deadline <= currentTick) {
+                unlink(entry);
+                handler.expired((T) entry);
+            }
+            entry = next;
+        }
+    }
+
+    /**
+     * Removes every entry from the wheel, firing the handler for each of them
+     *
+     * @param handler Callback invoked for each removed entry
+     */
+    @SuppressWarnings("unchecked")
+    public void clear(ExpiryHandler<? super T> handler) {
+        for (int i = 0; i < slots.length; i++) {
+            Entry entry = slots[i];
+            while (entry != null) {
+                Entry next = entry.next;
+                unlink(entry);
+                handler.expired((T) entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            slots[entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.next = null;
+        entry.previous = null;
+        entry.slot = -1;
+        size--;
+    }
+
+    /**
+     * @return The number of ticks the wheel has advanced
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of scheduled entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if nothing is scheduled
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.entity.ArmorStand;
+
+/**
+ * A short-lived hologram that is never persisted and expires on its own,
+ * used for damage numbers, reward popups and countdowns
+ */
+public class TransientHologram extends TimingWheel.Entry {
+    private final TransientHologramManager manager;
+    private final ArmorStand[] entities;
+    private final Location cursor;
+    private final double lineSpacing;
+    private final double motionX;
+    private final double motionY;
+    private final double motionZ;
+    int movingIndex = -1;
+    /** Created once, so the ticker hands a move over without allocating */
+    final Runnable stepTask = this::step;
+    private volatile boolean alive = true;
+
+    TransientHologram(TransientHologramManager manager, ArmorStand[] entities, Location origin,
+                      double lineSpacing, double motionX, double motionY, double motionZ) {
+        this.manager = manager;
+        this.entities = entities;
+        this.cursor = origin.clone();
+        this.lineSpacing = lineSpacing;
+        this.motionX = motionX;
+        this.motionY = motionY;
+        this.motionZ = motionZ;
+    }
+
+    /**
+     * @return True if this hologram moves every tick
+     */
+    boolean isMoving() {
+        return motionX != 0 || motionY != 0 || motionZ != 0;
+    }
+
+    /**
+     * Moves every line by the per-tick motion, reusing the same cursor location
+     */
+    void step() {
+        if (!alive) {
+            return;
+        }
+        cursor.add(motionX, motionY, motionZ);
+        double baseY = cursor.getY();
+        for (int i = 0; i < entities.length; i++) {
+            manager.getScheduler().checkEntity(entities[i], "Transient hologram move");
+            cursor.setY(baseY - i * lineSpacing);
+            entities[i].teleport(cursor);
+        }
+        cursor.setY(baseY);
+    }
+
+    /**
+     * Removes the entities of this hologram from the world, each on the thread owning it
+     */
+    void despawn() {
+        alive = false;
+        for (ArmorStand stand : entities) {
+            if (stand != null && !stand.isDead()) {
+                manager.getScheduler().executeForEntity(stand, stand::remove);
+            }
+        }
+    }
+
+    /**
+     * @return The entity of the top line, whose thread moves the whole hologram
+     */
+    ArmorStand getAnchor() {
+        return entities[0];
+    }
+
+    /**
+     * Changes the text of a line without respawning it
+     *
+     * @param index       Line index
+     * @param coloredLine Already color-translated text
+     */
+    public void setLine(int index, String coloredLine) {
+        if (alive && index >= 0 && index < entities.length) {
+            manager.getScheduler().checkEntity(entities[index], "Transient hologram line update");
+            entities[index].setCustomName(coloredLine);
+        }
+    }
+
+    /**
+     * Removes this hologram before it expires
+     */
+    public void cancel() {
+        if (alive) {
+            manager.cancel(this);
+        }
+    }
+
+    /**
+     * @return True if the hologram has not expired or been cancelled yet
+     */
+    public boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * @return The current location of the top line
+     */
+    public Location getLocation() {
+        return cursor.clone();
+    }
+}
@@ -0,0 +1,203 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.scheduler.BukkitFrostScheduler;
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.util.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Manages short-lived holograms such as damage numbers and reward popups.
+ * <p>
+ * Unlike {@link HologramManager}, nothing here is persisted or registered by ID.
+ * Every transient hologram is driven by one shared ticker: expiry goes through a
+ * {@link TimingWheel} and per-tick motion through a flat array of moving holograms,
+ * so spawning a popup never schedules a task of its own.
+ * <p>
+ * The ticker runs on the global thread and hands every move and despawn to the thread
+ * owning the entity, so the wheel and the moving array are guarded by this manager.
+ */
+public class TransientHologramManager {
+    /** Tag stored in the hologram marker key of transient entities */
+    static final String TRANSIENT_TAG = "frostgui_transient";
+
+    private final JavaPlugin plugin;
+    private final FrostScheduler scheduler;
+    private final TimingWheel<TransientHologram> wheel;
+    private final TimingWheel.ExpiryHandler<TransientHologram> expiryHandler;
+    private TransientHologram[] moving;
+    private int movingCount;
+    private TaskHandle tickTask;
+
+    /**
+     * Creates a new TransientHologramManager running on the Bukkit scheduler
+     *
+     * @param plugin The JavaPlugin instance
+     */
+    public TransientHologramManager(JavaPlugin plugin) {
+        this(plugin, new BukkitFrostScheduler(plugin));
+    }
+
+    /**
+     * Creates a new TransientHologramManager
+     *
+     * @param plugin    The JavaPlugin instance
+     * @param scheduler Scheduler running entity work on the thread owning each entity
+     */
+    public TransientHologramManager(JavaPlugin plugin, FrostScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.wheel = new TimingWheel<>(512);
+        this.expiryHandler = this::expire;
+        this.moving = new TransientHologram[64];
+    }
+
+    /**
+     * Spawns a stationary transient hologram
+     *
+     * @param location      Location of the top line
+     * @param lines         Lines of text to display (supports color codes with &)
+     * @param durationTicks Number of ticks before the hologram disappears
+     * @return The spawned hologram, or null if the active limit has been reached
+     */
+    public TransientHologram spawn(Location location, List<String> lines, int durationTicks) {
+        return spawn(location, lines, durationTicks, null);
+    }
+
+    /**
+     * Spawns a transient hologram that optionally moves every tick. Must be called on the
+     * thread owning the location, for example from an event at that location.
+     *
+     * @param location      Location of the top line
+     * @param lines         Lines of text to display (supports color codes with &)
+     * @param durationTicks Number of ticks before the hologram disappears
+     * @param motion        Distance moved per tick, or null for a stationary hologram
+     * @return The spawned hologram, or null if the active limit has been reached
+     */
+    public TransientHologram spawn(Location location, List<String> lines, int durationTicks, Vector motion) {
+        int maxActive = plugin.getConfig().getInt("holograms.transient.max-active", 1000);
+        if (wheel.size() >= maxActive || lines.isEmpty()) {
+            return null;
+        }
+
+        scheduler.checkRegion(location, "Transient hologram spawn");
+        double lineSpacing = plugin.getConfig().getDouble("holograms.line-spacing", 0.25);
+
+        // Spawn one non-persistent armor stand per line
+        ArmorStand[] entities = new ArmorStand[lines.size()];
+        Location currentLocation = location.clone();
+        for (int i = 0; i < entities.length; i++) {
+            String coloredLine = ChatColor.translateAlternateColorCodes('&', lines.get(i));
+            ArmorStand stand = Hologram.spawnLineStand(plugin, currentLocation, coloredLine, TRANSIENT_TAG);
+            stand.setPersistent(false);
+            entities[i] = stand;
+            currentLocation.subtract(0, lineSpacing, 0);
+        }
+
+        TransientHologram hologram = motion == null
+                ? new TransientHologram(this, entities, location, lineSpacing, 0, 0, 0)
+                : new TransientHologram(this, entities, location, lineSpacing, motion.getX(), motion.getY(), motion.getZ());
+
+        synchronized (this) {
+            wheel.schedule(hologram, durationTicks);
+            if (hologram.isMoving()) {
+                addMoving(hologram);
+            }
+            startTicker();
+        }
+        return hologram;
+    }
+
+    /**
+     * Removes a transient hologram before it expires
+     *
+     * @param hologram The hologram to remove
+     */
+    synchronized void cancel(TransientHologram hologram) {
+        if (wheel.cancel(hologram)) {
+            expire(hologram);
+        }
+    }
+
+    /**
+     * Removes every active transient hologram and stops the ticker
+     */
+    public synchronized void removeAll() {
+        wheel.clear(expiryHandler);
+        stopTicker();
+    }
+
+    /**
+     * @return Number of transient holograms currently alive
+     */
+    public synchronized int getActiveCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Advances all transient holograms by one tick
+     */
+    private synchronized void tick() {
+        // Each move runs on the thread owning the hologram, through a task made once per hologram
+        for (int i = 0; i < movingCount; i++) {
+            TransientHologram hologram = moving[i];
+            scheduler.executeForEntity(hologram.getAnchor(), hologram.stepTask);
+        }
+
+        wheel.advance(expiryHandler);
+
+        // Nothing left to drive, stop until the next spawn
+        if (wheel.isEmpty()) {
+            stopTicker();
+        }
+    }
+
+    private void expire(TransientHologram hologram) {
+        if (hologram.movingIndex >= 0) {
+            removeMoving(hologram);
+        }
+        hologram.despawn();
+    }
+
+    private void addMoving(TransientHologram hologram) {
+        if (movingCount == moving.length) {
+            moving = Arrays.copyOf(moving, movingCount * 2);
+        }
+        hologram.movingIndex = movingCount;
+        moving[movingCount++] = hologram;
+    }
+
+    private void removeMoving(TransientHologram hologram) {
+        // Swap the last element into the freed position
+        int index = hologram.movingIndex;
+        TransientHologram last = moving[--movingCount];
+        moving[index] = last;
+        last.movingIndex = index;
+        moving[movingCount] = null;
+        hologram.movingIndex = -1;
+    }
+
+    private void startTicker() {
+        if (tickTask != null) {
+            return;
+        }
+        tickTask = scheduler.runGlobalTimer(this::tick, 1, 1);
+    }
+
+    FrostScheduler getScheduler() {
+        return scheduler;
+    }
+
+    private void stopTicker() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.yourusername.frostgui.hologram;
+
+import org.bukkit.entity.Player;
+
+/**
+ * A custom check deciding which players see a hologram, such as a quest stage.
+ * Registered by name and referenced from a hologram as "name" or "name:argument".
+ */
+@FunctionalInterface
+public interface VisibilityCondition {
+
+    /**
+     * Checks whether a player passes the condition. Results are cached per player until
+     * {@link HologramVisibilityIndex#refresh(Player)} is called, so the inputs of the
+     * check must be reported through it when they change.
+     *
+     * @param player   The player
+     * @param argument Text after the colon ("dragon:3" in "quest:dragon:3"), or null
+     * @return True if the player may see the hologram
+     */
+    boolean test(Player player, String argument);
+}
@@ -0,0 +1,88 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.hologram.AttachedHologramManager;
+import org.bukkit.entity.Vehicle;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityDismountEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.vehicle.VehicleDestroyEvent;
+import org.bukkit.event.vehicle.VehicleEnterEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.inventory.EquipmentSlot;
+
+/**
+ * Mounts and drops the labels of attached holograms as their entities load, unload, die
+ * and get ridden
+ */
+public class AttachedHologramListener implements Listener {
+    
+    private final AttachedHologramManager attachedHologramManager;
+    
+    public AttachedHologramListener(AttachedHologramManager attachedHologramManager) {
+        this.attachedHologramManager = attachedHologramManager;
+    }
+    
+    /**
+     * Mounts the labels of entities loaded with their chunk
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        attachedHologramManager.handleEntitiesLoaded(event.getEntities());
+    }
+    
+    /**
+     * Drops the label entities of entities unloaded with their chunk
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        attachedHologramManager.handleEntitiesUnloaded(event.getEntities());
+    }
+    
+    /**
+     * Removes the labels of entities that died
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        attachedHologramManager.handleTargetRemoved(event.getEntity());
+    }
+    
+    /**
+     * Removes the labels of minecarts and boats that were destroyed
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleDestroy(VehicleDestroyEvent event) {
+        attachedHologramManager.handleTargetRemoved(event.getVehicle());
+    }
+    
+    /**
+     * Frees the seat a label takes on a vehicle before a player's click mounts it;
+     * a full vehicle would refuse the player without firing VehicleEnterEvent
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
+        // Vehicles are only mounted with the main hand
+        if (event.getHand() == EquipmentSlot.HAND && event.getRightClicked() instanceof Vehicle) {
+            attachedHologramManager.handleMountAttempt(event.getRightClicked(), event.getPlayer());
+        }
+    }
+    
+    /**
+     * Drops the label of vehicles getting a rider, for example through a plugin or a second seat
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleEnter(VehicleEnterEvent event) {
+        attachedHologramManager.handleRiderEntered(event.getVehicle(), event.getEntered());
+    }
+    
+    /**
+     * Mounts the label again once a rider gets off
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDismount(EntityDismountEvent event) {
+        attachedHologramManager.handleRiderLeft(event.getDismounted(), event.getEntity());
+    }
+}
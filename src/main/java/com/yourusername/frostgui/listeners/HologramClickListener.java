@@ -0,0 +1,136 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.FrostGUI;
+import com.yourusername.frostgui.hologram.HologramClickAction;
+import com.yourusername.frostgui.hologram.HologramSpatialIndex;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.util.Vector;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs hologram click actions.
+ * <p>
+ * Hologram lines are marker armor stands without a hitbox, so clicks never reach them
+ * as entity interactions. Instead every click is ray-cast from the player's eye against
+ * the hologram spatial index: clicks at blocks and the air arrive as interactions, right
+ * clicks at an entity behind the line as entity interactions and left clicks at one as
+ * an attack. Attacks are only ray-cast when a clickable line is near the attacker.
+ * <p>
+ * A right click at the air with an empty hand sends nothing to the server, so it cannot
+ * be seen. Lines in front of the sky are clicked with a left click, or a right click
+ * holding an item.
+ */
+public class HologramClickListener implements Listener {
+
+    private final FrostGUI plugin;
+    private final HologramSpatialIndex spatialIndex;
+    private final Map<UUID, Long> lastClicks;
+
+    public HologramClickListener(FrostGUI plugin) {
+        this.plugin = plugin;
+        this.spatialIndex = plugin.getHologramManager().getSpatialIndex();
+        // Clicks arrive on the thread owning each player
+        this.lastClicks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves left and right clicks at blocks and the air against clickable hologram lines
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        // Only handle the main hand so one click doesn't fire twice
+        if (event.getHand() != EquipmentSlot.HAND || event.getAction() == Action.PHYSICAL) {
+            return;
+        }
+        handleClick(event.getPlayer(), event);
+    }
+
+    /**
+     * Resolves right clicks at an entity behind a hologram line
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
+        if (event.getHand() != EquipmentSlot.HAND) {
+            return;
+        }
+        handleClick(event.getPlayer(), event);
+    }
+
+    /**
+     * Resolves left clicks at an entity behind a hologram line, which arrive as attacks
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        if (!(event.getDamager() instanceof Player)) {
+            return;
+        }
+        // Most attacks happen nowhere near a clickable line, so skip the ray-cast for those
+        Player player = (Player) event.getDamager();
+        Location location = player.getLocation();
+        if (spatialIndex.hasClickableNear(location.getWorld(), location.getX(), location.getZ(), getReach())) {
+            handleClick(player, event);
+        }
+    }
+
+    /**
+     * Ray-casts a click and runs the action of the hologram line it hits
+     *
+     * @param player The clicking player
+     * @param event  The event of the click, cancelled if a line was hit
+     */
+    private void handleClick(Player player, Cancellable event) {
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection();
+        UUID playerId = player.getUniqueId();
+
+        // Players cannot click lines they do not see, nor are visible lines behind those blocked
+        HologramSpatialIndex.Hit hit = spatialIndex.raycast(eye.getWorld(), eye.getX(), eye.getY(), eye.getZ(),
+                direction.getX(), direction.getY(), direction.getZ(), getReach(),
+                hologram -> hologram.isVisibleTo(playerId));
+        if (hit == null) {
+            return;
+        }
+
+        // A block or entity behind the hologram would otherwise be hit or used as well
+        event.setCancelled(true);
+
+        long now = System.currentTimeMillis();
+        long cooldown = plugin.getConfig().getLong("holograms.click.cooldown-ms", 250);
+        Long lastClick = lastClicks.get(playerId);
+        if (lastClick != null && now - lastClick < cooldown) {
+            return;
+        }
+        lastClicks.put(playerId, now);
+
+        HologramClickAction action = hit.getHologram().getClickAction(hit.getLine());
+        if (action != null) {
+            action.execute(player);
+        }
+    }
+
+    private double getReach() {
+        return plugin.getConfig().getDouble("holograms.click.reach", 5.0);
+    }
+
+    /**
+     * Forgets the click cooldown of players who leave
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        lastClicks.remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -9,6 +9,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerArmorStandManipulateEvent;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.persistence.PersistentDataType;
 
 /**
@@ -16,9 +17,11 @@ import org.bukkit.persistence.PersistentDataType;
  */
 public class HologramListener implements Listener {
     
+    private final FrostGUI plugin;
     private final NamespacedKey hologramKey;
     
     public HologramListener(FrostGUI plugin) {
+        this.plugin = plugin;
         this.hologramKey = new NamespacedKey(plugin, "frostgui_hologram");
     }
     
@@ -55,6 +58,14 @@ public class HologramListener implements Listener {
         }
     }
     
+    /**
+     * Points holograms in a world that was unloaded and loaded again at the new world
+     */
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        plugin.getHologramManager().handleWorldLoad(event.getWorld());
+    }
+    
     /**
      * Checks if an armor stand is a hologram entity
      */
@@ -0,0 +1,45 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.hologram.HologramPlaceholders;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the per-viewer render groups of placeholder lines in sync with online players
+ */
+public class HologramPlaceholderListener implements Listener {
+    
+    private final HologramPlaceholders placeholders;
+    
+    public HologramPlaceholderListener(HologramPlaceholders placeholders) {
+        this.placeholders = placeholders;
+    }
+    
+    /**
+     * Renders placeholder lines for joining players straight away
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        placeholders.handleJoin(event.getPlayer());
+    }
+    
+    /**
+     * Moves players to the render groups of the world they arrived in
+     */
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        placeholders.handleWorldChange(event.getPlayer());
+    }
+    
+    /**
+     * Removes players who leave from their render groups
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        placeholders.forgetPlayer(event.getPlayer());
+    }
+}
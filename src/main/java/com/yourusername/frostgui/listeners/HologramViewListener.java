@@ -0,0 +1,56 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.hologram.HologramViewTracker;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Feeds player movement into the hologram level-of-detail tracker
+ */
+public class HologramViewListener implements Listener {
+    
+    private final HologramViewTracker viewTracker;
+    
+    public HologramViewListener(HologramViewTracker viewTracker) {
+        this.viewTracker = viewTracker;
+    }
+    
+    /**
+     * Places joining players in the right level of detail
+     */
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        viewTracker.evaluate(event.getPlayer(), event.getPlayer().getLocation());
+    }
+    
+    /**
+     * Re-evaluates players once they have moved far enough (teleports included)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (event.getTo() != null) {
+            viewTracker.handleMove(event.getPlayer(), event.getTo());
+        }
+    }
+    
+    /**
+     * Re-evaluates players arriving in another world
+     */
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        viewTracker.evaluate(event.getPlayer(), event.getPlayer().getLocation());
+    }
+    
+    /**
+     * Forgets the tracking state of players who leave
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        viewTracker.forgetPlayer(event.getPlayer());
+    }
+}
@@ -0,0 +1,45 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.hologram.HologramVisibilityIndex;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Recomputes which conditional holograms a player sees when their world changes
+ */
+public class HologramVisibilityListener implements Listener {
+    
+    private final HologramVisibilityIndex visibilityIndex;
+    
+    public HologramVisibilityListener(HologramVisibilityIndex visibilityIndex) {
+        this.visibilityIndex = visibilityIndex;
+    }
+    
+    /**
+     * Computes the visibility of joining players before placeholder lines are rendered for them
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        visibilityIndex.handleJoin(event.getPlayer());
+    }
+    
+    /**
+     * Applies world group conditions for the world players arrived in
+     */
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        visibilityIndex.handleWorldChange(event.getPlayer());
+    }
+    
+    /**
+     * Forgets the visibility of players who leave
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        visibilityIndex.forgetPlayer(event.getPlayer());
+    }
+}
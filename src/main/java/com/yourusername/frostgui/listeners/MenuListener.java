@@ -0,0 +1,82 @@
+package com.yourusername.frostgui.listeners;
+
+import com.yourusername.frostgui.gui.MenuManager;
+import com.yourusername.frostgui.gui.MenuView;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Routes inventory events to FrostGUI menus and keeps their items in place
+ */
+public class MenuListener implements Listener {
+    
+    private final MenuManager menuManager;
+    
+    public MenuListener(MenuManager menuManager) {
+        this.menuManager = menuManager;
+    }
+    
+    /**
+     * Cancels every click while a menu is open and runs the action of the clicked slot
+     */
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        InventoryHolder holder = event.getView().getTopInventory().getHolder();
+        if (!(holder instanceof MenuView)) {
+            return;
+        }
+        
+        // Also blocks shift-clicking items from the player's own inventory into the menu
+        event.setCancelled(true);
+        
+        int slot = event.getRawSlot();
+        if (slot >= 0 && slot < event.getView().getTopInventory().getSize() && event.getWhoClicked() instanceof Player) {
+            menuManager.handleClick((MenuView) holder, (Player) event.getWhoClicked(), slot);
+        }
+    }
+    
+    /**
+     * Prevents dragging items into a menu
+     */
+    @EventHandler
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getView().getTopInventory().getHolder() instanceof MenuView) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Forgets the menu of players closing it
+     */
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder();
+        if (holder instanceof MenuView && event.getPlayer() instanceof Player) {
+            menuManager.handleClose((MenuView) holder, (Player) event.getPlayer());
+        }
+    }
+    
+    /**
+     * Updates open player lists when a player joins
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        menuManager.handleOnlinePlayersChanged();
+    }
+    
+    /**
+     * Updates open player lists when a player quits
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        menuManager.handleOnlinePlayersChanged();
+    }
+}
@@ -0,0 +1,65 @@
+package com.yourusername.frostgui.metrics;
+
+/**
+ * A monotonically increasing count of events
+ */
+public class Counter extends Metric {
+    private final long[] slots = new long[SLOTS];
+    private long total;
+
+    /**
+     * Creates a new counter
+     * 
+     * @param name Prometheus metric name, should end with _total
+     * @param help Human readable description
+     */
+    Counter(String name, String help) {
+        super(name, help);
+    }
+
+    /**
+     * Counts one event
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Counts several events
+     * 
+     * @param amount Number of events
+     */
+    public void add(long amount) {
+        total += amount;
+        slots[currentSlot] += amount;
+    }
+
+    /**
+     * Gets the number of events in a rolling window
+     * 
+     * @param seconds Length of the window
+     * @return The event count
+     */
+    public long getCount(int seconds) {
+        long count = 0;
+        for (int age = 0, slotCount = slotsFor(seconds); age < slotCount; age++) {
+            count += slots[slotIndex(age)];
+        }
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        slots[slot] = 0;
+    }
+
+    @Override
+    void writePrometheus(StringBuilder out) {
+        writeHeader(out, "counter");
+        out.append(getName()).append(' ').append(total).append('\n');
+    }
+}
@@ -0,0 +1,57 @@
+package com.yourusername.frostgui.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A value sampled when it is read, optionally split by one label such as the world.
+ * Gauges without a label report a single value under the key "".
+ */
+public class Gauge extends Metric {
+    private final String label;
+    private final Supplier<Map<String, ? extends Number>> sampler;
+
+    /**
+     * Creates a new gauge
+     * 
+     * @param name    Prometheus metric name
+     * @param help    Human readable description
+     * @param label   Name of the label the values are split by, or null for a single value
+     * @param sampler Reads the current value for each label value
+     */
+    Gauge(String name, String help, String label, Supplier<Map<String, ? extends Number>> sampler) {
+        super(name, help);
+        this.label = label;
+        this.sampler = sampler;
+    }
+
+    /**
+     * Samples the current values
+     * 
+     * @return Value for each label value
+     */
+    public Map<String, ? extends Number> sample() {
+        return sampler.get();
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        // Gauges are sampled on demand and keep no history
+    }
+
+    @Override
+    void writePrometheus(StringBuilder out) {
+        writeHeader(out, "gauge");
+        for (Map.Entry<String, ? extends Number> value : sample().entrySet()) {
+            out.append(getName());
+            if (label != null) {
+                out.append('{').append(label).append("=\"").append(escapeLabel(value.getKey())).append("\"}");
+            }
+            out.append(' ').append(value.getValue()).append('\n');
+        }
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,173 @@
+package com.yourusername.frostgui.metrics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * A latency distribution with fixed buckets.
+ * <p>
+ * Recording is a bucket search over a handful of bounds and a few array increments,
+ * so it is cheap enough to wrap calls that run every tick.
+ */
+public class LatencyHistogram extends Metric {
+    /** Upper bounds of the buckets in microseconds, the last bucket has no bound */
+    static final long[] BOUNDS_MICROS = {
+            10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 1_000_000
+    };
+    /** Bucket bounds as Prometheus "le" labels in seconds */
+    private static final String[] BOUND_LABELS = new String[BOUNDS_MICROS.length];
+
+    static {
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            BOUND_LABELS[i] = BigDecimal.valueOf(BOUNDS_MICROS[i], 6).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final long[] totalBuckets = new long[BOUNDS_MICROS.length + 1];
+    private final long[][] slotBuckets = new long[SLOTS][BOUNDS_MICROS.length + 1];
+    private final long[] slotNanos = new long[SLOTS];
+    private final QosGovernor governor;
+    private long totalCount;
+    private long totalNanos;
+
+    /**
+     * Creates a new histogram
+     * 
+     * @param name     Prometheus metric name, should end with _seconds
+     * @param help     Human readable description
+     * @param governor Governor the recorded time is reported to
+     */
+    LatencyHistogram(String name, String help, QosGovernor governor) {
+        super(name, help);
+        this.governor = governor;
+    }
+
+    /**
+     * Records the time elapsed since a call started
+     * 
+     * @param startNanos Value of System.nanoTime() when the call started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a duration
+     * 
+     * @param nanos Duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = nanos / 1_000;
+        int bucket = 0;
+        while (bucket < BOUNDS_MICROS.length && micros > BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+
+        totalBuckets[bucket]++;
+        totalCount++;
+        totalNanos += nanos;
+        slotBuckets[currentSlot][bucket]++;
+        slotNanos[currentSlot] += nanos;
+        governor.addTickTime(nanos);
+    }
+
+    /**
+     * Gets the number of recorded calls in a rolling window
+     * 
+     * @param seconds Length of the window
+     * @return The call count
+     */
+    public long getCount(int seconds) {
+        long count = 0;
+        for (int age = 0, slotCount = slotsFor(seconds); age < slotCount; age++) {
+            for (long bucketCount : slotBuckets[slotIndex(age)]) {
+                count += bucketCount;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the mean duration in a rolling window
+     * 
+     * @param seconds Length of the window
+     * @return Mean in milliseconds, or 0 if nothing was recorded
+     */
+    public double getMeanMillis(int seconds) {
+        long count = getCount(seconds);
+        if (count == 0) {
+            return 0;
+        }
+        long nanos = 0;
+        for (int age = 0, slotCount = slotsFor(seconds); age < slotCount; age++) {
+            nanos += slotNanos[slotIndex(age)];
+        }
+        return nanos / 1_000_000.0 / count;
+    }
+
+    /**
+     * Estimates a percentile in a rolling window by interpolating inside its bucket
+     * 
+     * @param seconds    Length of the window
+     * @param percentile Percentile between 0 and 1
+     * @return Estimate in milliseconds, or 0 if nothing was recorded
+     */
+    public double getPercentileMillis(int seconds, double percentile) {
+        long[] buckets = new long[BOUNDS_MICROS.length + 1];
+        long count = 0;
+        for (int age = 0, slotCount = slotsFor(seconds); age < slotCount; age++) {
+            long[] slot = slotBuckets[slotIndex(age)];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += slot[i];
+                count += slot[i];
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        double rank = percentile * count;
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            if (buckets[i] > 0 && seen + buckets[i] >= rank) {
+                long lower = i > 0 ? BOUNDS_MICROS[i - 1] : 0;
+                double fraction = (rank - seen) / buckets[i];
+                return (lower + fraction * (BOUNDS_MICROS[i] - lower)) / 1_000.0;
+            }
+            seen += buckets[i];
+        }
+        // Beyond the last bound there is nothing to interpolate against
+        return BOUNDS_MICROS[BOUNDS_MICROS.length - 1] / 1_000.0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return Sum of every recorded duration in milliseconds
+     */
+    public double getTotalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    @Override
+    void clearSlot(int slot) {
+        Arrays.fill(slotBuckets[slot], 0);
+        slotNanos[slot] = 0;
+    }
+
+    @Override
+    void writePrometheus(StringBuilder out) {
+        writeHeader(out, "histogram");
+        long cumulative = 0;
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            cumulative += totalBuckets[i];
+            out.append(getName()).append("_bucket{le=\"").append(BOUND_LABELS[i]).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        out.append(getName()).append("_bucket{le=\"+Inf\"} ").append(totalCount).append('\n');
+        out.append(getName()).append("_sum ").append(totalNanos / 1_000_000_000.0).append('\n');
+        out.append(getName()).append("_count ").append(totalCount).append('\n');
+    }
+}
@@ -0,0 +1,79 @@
+package com.yourusername.frostgui.metrics;
+
+/**
+ * A named instrument that keeps totals since startup for the Prometheus export and a
+ * ring of fixed-length slots for the rolling views of /frostgui stats.
+ * <p>
+ * Instruments are only touched from the main thread, so they use plain fields.
+ */
+public abstract class Metric {
+    /** Length of one rolling slot in seconds */
+    static final int SLOT_SECONDS = 10;
+    /** Number of slots kept, enough for the 5 minute view */
+    static final int SLOTS = 30;
+
+    private final String name;
+    private final String help;
+    int currentSlot;
+
+    /**
+     * Creates a new metric
+     * 
+     * @param name Prometheus metric name
+     * @param help Human readable description, also used by /frostgui stats
+     */
+    Metric(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    /**
+     * Starts a new rolling slot, dropping the oldest one
+     */
+    void rotate() {
+        currentSlot = (currentSlot + 1) % SLOTS;
+        clearSlot(currentSlot);
+    }
+
+    /**
+     * Gets the slots covering a window, newest first
+     * 
+     * @param seconds Length of the window
+     * @return Number of slots to sum, including the current partial one
+     */
+    static int slotsFor(int seconds) {
+        return Math.max(1, Math.min(SLOTS, seconds / SLOT_SECONDS));
+    }
+
+    /**
+     * Gets the index of a slot counting back from the current one
+     * 
+     * @param age 0 for the current slot, 1 for the one before...
+     * @return Index into the slot arrays
+     */
+    int slotIndex(int age) {
+        return (currentSlot - age + SLOTS) % SLOTS;
+    }
+
+    abstract void clearSlot(int slot);
+
+    /**
+     * Appends the totals of this metric in the Prometheus text format
+     * 
+     * @param out Buffer receiving the lines
+     */
+    abstract void writePrometheus(StringBuilder out);
+
+    void writeHeader(StringBuilder out, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
@@ -0,0 +1,185 @@
+package com.yourusername.frostgui.metrics;
+
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the counters, latency histograms and gauges FrostGUI keeps about itself.
+ * <p>
+ * Instruments are created once and then updated with plain field writes from the main
+ * thread. A task started with {@link #start(JavaPlugin, FrostScheduler)} advances the
+ * rolling windows and, if enabled, writes every metric to a file in the Prometheus text
+ * format for the node-exporter textfile collector. Time recorded by the histograms also feeds the
+ * {@link QosGovernor}.
+ */
+public class PluginMetrics {
+    private final Map<String, Metric> metrics = new LinkedHashMap<>();
+    private final QosGovernor governor = new QosGovernor(this);
+    private TaskHandle rotateTask;
+    private TaskHandle exportTask;
+
+    /**
+     * Gets or creates a counter
+     * 
+     * @param name Prometheus metric name, should end with _total
+     * @param help Human readable description
+     * @return The counter
+     */
+    public Counter counter(String name, String help) {
+        return register(name, Counter.class, () -> new Counter(name, help));
+    }
+
+    /**
+     * Gets or creates a latency histogram
+     * 
+     * @param name Prometheus metric name, should end with _seconds
+     * @param help Human readable description
+     * @return The histogram
+     */
+    public LatencyHistogram histogram(String name, String help) {
+        return register(name, LatencyHistogram.class, () -> new LatencyHistogram(name, help, governor));
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge with the same name
+     * 
+     * @param name    Prometheus metric name
+     * @param help    Human readable description
+     * @param label   Name of the label the values are split by, or null for a single value
+     * @param sampler Reads the current value for each label value
+     * @return The gauge
+     */
+    public Gauge gauge(String name, String help, String label, Supplier<Map<String, ? extends Number>> sampler) {
+        Gauge gauge = new Gauge(name, help, label, sampler);
+        metrics.put(name, gauge);
+        return gauge;
+    }
+
+    private <T extends Metric> T register(String name, Class<T> type, Supplier<T> factory) {
+        Metric existing = metrics.get(name);
+        if (existing != null) {
+            if (!type.isInstance(existing)) {
+                throw new IllegalArgumentException("Metric " + name + " is already registered as " 
+                        + existing.getClass().getSimpleName());
+            }
+            return type.cast(existing);
+        }
+        T metric = factory.get();
+        metrics.put(name, metric);
+        return metric;
+    }
+
+    /**
+     * Gets every registered metric of a type, in registration order
+     * 
+     * @param type The metric type
+     * @return The metrics
+     */
+    public <T extends Metric> List<T> getMetrics(Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (Metric metric : metrics.values()) {
+            if (type.isInstance(metric)) {
+                result.add(type.cast(metric));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the governor that sheds optional work under tick pressure
+     * 
+     * @return The QosGovernor instance
+     */
+    public QosGovernor getGovernor() {
+        return governor;
+    }
+
+    /**
+     * Starts advancing the rolling windows, the governor and, if configured, the Prometheus export
+     * 
+     * @param plugin    The plugin owning the tasks
+     * @param scheduler Scheduler running the tasks on the global thread
+     */
+    public void start(JavaPlugin plugin, FrostScheduler scheduler) {
+        stop();
+        governor.start(plugin, scheduler);
+
+        long slotTicks = Metric.SLOT_SECONDS * 20L;
+        rotateTask = scheduler.runGlobalTimer(() -> {
+            for (Metric metric : metrics.values()) {
+                metric.rotate();
+            }
+        }, slotTicks, slotTicks);
+
+        if (!plugin.getConfig().getBoolean("metrics.prometheus.enabled", false)) {
+            return;
+        }
+
+        String path = plugin.getConfig().getString("metrics.prometheus.file", "frostgui.prom");
+        File file = new File(path).isAbsolute() ? new File(path) : new File(plugin.getDataFolder(), path);
+        long interval = Math.max(1, plugin.getConfig().getLong("metrics.prometheus.interval", 15)) * 20L;
+        exportTask = scheduler.runGlobalTimer(() -> {
+            // Gauges read live state, so the text is built on the global thread
+            String text = toPrometheus();
+            scheduler.runAsync(() -> writeFile(plugin, file, text));
+        }, interval, interval);
+    }
+
+    /**
+     * Stops the rolling window, governor and export tasks
+     */
+    public void stop() {
+        governor.stop();
+        if (rotateTask != null) {
+            rotateTask.cancel();
+            rotateTask = null;
+        }
+        if (exportTask != null) {
+            exportTask.cancel();
+            exportTask = null;
+        }
+    }
+
+    /**
+     * Formats the totals of every metric in the Prometheus text format
+     * 
+     * @return The exposition text
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Metric metric : metrics.values()) {
+            metric.writePrometheus(out);
+        }
+        return out.toString();
+    }
+
+    private static void writeFile(JavaPlugin plugin, File file, String text) {
+        // The collector may read at any moment, so the file is replaced in one step
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            file.getParentFile().mkdirs();
+            Files.write(temp.toPath(), text.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+}
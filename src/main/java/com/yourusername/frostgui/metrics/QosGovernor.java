@@ -0,0 +1,324 @@
+package com.yourusername.frostgui.metrics;
+
+import com.yourusername.frostgui.scheduler.FrostScheduler;
+import com.yourusername.frostgui.scheduler.TaskHandle;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Sheds optional FrostGUI work while the server is under tick pressure.
+ * <p>
+ * Every tick the governor collects the time FrostGUI itself spent on the main thread
+ * (the sum of every latency histogram) and the gap since the previous tick. Spigot has
+ * no MSPT API, but a gap above 50 ms means the server tick took longer than its budget.
+ * Once per second the averages are compared with the configured limits: sustained
+ * pressure steps down one {@link QosLevel}, and only a longer stretch well below the
+ * limits steps back up, so the level does not flap around a threshold.
+ */
+public class QosGovernor {
+    /** Ticks averaged for one evaluation */
+    private static final int WINDOW_TICKS = 20;
+    /** Number of transitions kept for /frostgui stats */
+    private static final int HISTORY_SIZE = 5;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+    /**
+     * A message held back while the server is degraded
+     */
+    private static final class DeferredSend {
+        private final Runnable send;
+        private final long queuedTick;
+
+        private DeferredSend(Runnable send, long queuedTick) {
+            this.send = send;
+            this.queuedTick = queuedTick;
+        }
+    }
+
+    private final Counter transitions;
+    private final List<Consumer<QosLevel>> listeners = new ArrayList<>();
+    private final Deque<DeferredSend> deferred = new ArrayDeque<>();
+    private final Deque<String> history = new ArrayDeque<>();
+    private QosLevel level = QosLevel.NORMAL;
+    private JavaPlugin plugin;
+    private TaskHandle task;
+
+    // Limits, read from the config on start
+    private QosLevel maxLevel = QosLevel.CRITICAL;
+    private double ownLimitMillis;
+    private double serverLimitMillis;
+    private double recoverRatio;
+    private int stepDownAfter;
+    private int recoverAfter;
+    private int sendsPerTick;
+    private long maxSendDelay;
+
+    // Measurements of the current window
+    private long pendingOwnNanos;
+    private long windowOwnNanos;
+    private long windowGapNanos;
+    private int windowTicks;
+    private long lastTickNanos;
+    private long tick;
+    private double ownMillisPerTick;
+    private double serverMillisPerTick;
+    private int pressureStreak;
+    private int calmStreak;
+
+    /**
+     * Creates a new governor reporting through the given metrics
+     * 
+     * @param metrics Registry receiving the level and tick time gauges
+     */
+    QosGovernor(PluginMetrics metrics) {
+        this.transitions = metrics.counter("frostgui_qos_transitions_total", "QoS level changes");
+        metrics.gauge("frostgui_qos_level", "QoS level (0 = normal)", null, 
+                () -> Collections.singletonMap("", level.ordinal()));
+        metrics.gauge("frostgui_tick_milliseconds", "Average main-thread time per tick", "source", () -> {
+            Map<String, Double> values = new LinkedHashMap<>();
+            values.put("frostgui", ownMillisPerTick);
+            values.put("server", serverMillisPerTick);
+            return values;
+        });
+    }
+
+    /**
+     * Adds main-thread time spent by FrostGUI in the current tick
+     * 
+     * @param nanos Time in nanoseconds
+     */
+    void addTickTime(long nanos) {
+        pendingOwnNanos += nanos;
+    }
+
+    /**
+     * Starts measuring, if enabled in the config
+     * 
+     * @param plugin    The plugin owning the task
+     * @param scheduler Scheduler running the task on the global thread
+     */
+    void start(JavaPlugin plugin, FrostScheduler scheduler) {
+        stop();
+        this.plugin = plugin;
+        if (!plugin.getConfig().getBoolean("qos.enabled", true)) {
+            return;
+        }
+
+        ownLimitMillis = plugin.getConfig().getDouble("qos.frostgui-ms-limit", 2.0);
+        serverLimitMillis = plugin.getConfig().getDouble("qos.server-mspt-limit", 55.0);
+        recoverRatio = Math.max(0.1, Math.min(1.0, plugin.getConfig().getDouble("qos.recover-ratio", 0.8)));
+        stepDownAfter = Math.max(1, plugin.getConfig().getInt("qos.step-down-after", 2));
+        recoverAfter = Math.max(1, plugin.getConfig().getInt("qos.recover-after", 15));
+        sendsPerTick = Math.max(1, plugin.getConfig().getInt("qos.deferred-sends-per-tick", 5));
+        maxSendDelay = Math.max(1, plugin.getConfig().getLong("qos.max-send-delay", 30)) * 20L;
+        try {
+            maxLevel = QosLevel.valueOf(plugin.getConfig().getString("qos.max-level", "CRITICAL").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown qos.max-level, using CRITICAL");
+            maxLevel = QosLevel.CRITICAL;
+        }
+
+        // Startup work such as loading holograms is not part of the first window
+        pendingOwnNanos = 0;
+        lastTickNanos = 0;
+        task = scheduler.runGlobalTimer(this::tick, 1, 1);
+    }
+
+    /**
+     * Stops measuring, sends every deferred message and returns to full quality
+     */
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        flushDeferred(Integer.MAX_VALUE, Long.MAX_VALUE);
+        windowOwnNanos = 0;
+        windowGapNanos = 0;
+        windowTicks = 0;
+        pressureStreak = 0;
+        calmStreak = 0;
+        if (level != QosLevel.NORMAL) {
+            setLevel(QosLevel.NORMAL, "governor stopped");
+        }
+    }
+
+    private void tick() {
+        tick++;
+        long now = System.nanoTime();
+        if (lastTickNanos != 0) {
+            windowGapNanos += now - lastTickNanos;
+            windowOwnNanos += pendingOwnNanos;
+            windowTicks++;
+        }
+        lastTickNanos = now;
+        pendingOwnNanos = 0;
+
+        if (!deferred.isEmpty()) {
+            flushDeferred(level.isDeferringSends() ? 0 : sendsPerTick, tick - maxSendDelay);
+        }
+
+        if (windowTicks >= WINDOW_TICKS) {
+            ownMillisPerTick = windowOwnNanos / 1_000_000.0 / windowTicks;
+            serverMillisPerTick = windowGapNanos / 1_000_000.0 / windowTicks;
+            windowOwnNanos = 0;
+            windowGapNanos = 0;
+            windowTicks = 0;
+            evaluate();
+        }
+    }
+
+    private void evaluate() {
+        boolean pressure = ownMillisPerTick > ownLimitMillis || serverMillisPerTick > serverLimitMillis;
+        // The server limit includes the 50 ms budget, so only the excess is scaled for recovery
+        boolean calm = ownMillisPerTick <= ownLimitMillis * recoverRatio 
+                && serverMillisPerTick <= 50.0 + (serverLimitMillis - 50.0) * recoverRatio;
+
+        pressureStreak = pressure ? pressureStreak + 1 : 0;
+        calmStreak = calm ? calmStreak + 1 : 0;
+
+        if (pressureStreak >= stepDownAfter && level.ordinal() < maxLevel.ordinal()) {
+            pressureStreak = 0;
+            setLevel(QosLevel.values()[level.ordinal() + 1], describeLoad());
+        } else if (calmStreak >= recoverAfter && level != QosLevel.NORMAL) {
+            calmStreak = 0;
+            setLevel(QosLevel.values()[level.ordinal() - 1], describeLoad());
+        }
+    }
+
+    private String describeLoad() {
+        return String.format(Locale.ROOT, "FrostGUI %.2f ms/tick, server %.1f ms/tick", ownMillisPerTick, serverMillisPerTick);
+    }
+
+    private void setLevel(QosLevel newLevel, String reason) {
+        QosLevel oldLevel = level;
+        level = newLevel;
+        transitions.increment();
+
+        String message = "QoS level " + oldLevel + " -> " + newLevel + " (" + reason + ")";
+        history.addFirst(LocalTime.now().format(TIME_FORMAT) + " " + message);
+        while (history.size() > HISTORY_SIZE) {
+            history.removeLast();
+        }
+        if (plugin != null) {
+            if (newLevel.ordinal() > oldLevel.ordinal()) {
+                plugin.getLogger().warning(message);
+            } else {
+                plugin.getLogger().info(message);
+            }
+        }
+
+        for (Consumer<QosLevel> listener : listeners) {
+            listener.accept(newLevel);
+        }
+    }
+
+    private void flushDeferred(int limit, long olderThanTick) {
+        int sent = 0;
+        while (!deferred.isEmpty() && (sent < limit || deferred.peekFirst().queuedTick <= olderThanTick)) {
+            deferred.pollFirst().send.run();
+            sent++;
+        }
+    }
+
+    /**
+     * Sends a non-critical message now, or queues it while the server is degraded.
+     * Queued messages go out in order once the level recovers, or after qos.max-send-delay.
+     * 
+     * @param send Sends the message
+     */
+    public void sendDeferrable(Runnable send) {
+        if (task == null || (!level.isDeferringSends() && deferred.isEmpty())) {
+            send.run();
+            return;
+        }
+        deferred.addLast(new DeferredSend(send, tick));
+    }
+
+    /**
+     * Checks whether a periodic refresh should do any work in this run
+     * 
+     * @param run Number of runs of the refresh so far
+     * @return True if the refresh should run
+     */
+    public boolean shouldRefresh(long run) {
+        return run % level.getRefreshDivisor() == 0;
+    }
+
+    /**
+     * Checks whether animations should advance on a tick
+     * 
+     * @param tick The animation tick
+     * @return True if animated lines should be updated
+     */
+    public boolean shouldAnimate(long tick) {
+        int divisor = level.getAnimationDivisor();
+        return divisor > 0 && tick % divisor == 0;
+    }
+
+    /**
+     * @return Factor to apply to hologram view and level-of-detail distances
+     */
+    public double getViewDistanceScale() {
+        return level.getViewDistanceScale();
+    }
+
+    /**
+     * Registers a callback run whenever the level changes
+     * 
+     * @param listener Receives the new level
+     */
+    public void addListener(Consumer<QosLevel> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return True while the governor is measuring
+     */
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    public QosLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * @return FrostGUI's average main-thread time per tick over the last evaluation
+     */
+    public double getOwnMillisPerTick() {
+        return ownMillisPerTick;
+    }
+
+    /**
+     * @return Average time between two server ticks over the last evaluation
+     */
+    public double getServerMillisPerTick() {
+        return serverMillisPerTick;
+    }
+
+    /**
+     * @return Number of messages waiting to be sent
+     */
+    public int getDeferredCount() {
+        return deferred.size();
+    }
+
+    /**
+     * @return The most recent level changes, newest first
+     */
+    public List<String> getHistory() {
+        return new ArrayList<>(history);
+    }
+}
@@ -0,0 +1,55 @@
+package com.yourusername.frostgui.metrics;
+
+/**
+ * How much optional work FrostGUI does, from full quality down to the bare minimum
+ */
+public enum QosLevel {
+    /** Everything runs at the configured rates */
+    NORMAL(1, 1, 1.0, false),
+    /** Refreshes run at half rate and animations at every other tick */
+    REDUCED(2, 2, 1.0, false),
+    /** Refreshes run at a quarter rate, animations pause and view distances halve */
+    DEGRADED(4, 0, 0.5, true),
+    /** Refreshes run at an eighth of their rate and view distances shrink to a quarter */
+    CRITICAL(8, 0, 0.25, true);
+
+    private final int refreshDivisor;
+    private final int animationDivisor;
+    private final double viewDistanceScale;
+    private final boolean deferSends;
+
+    QosLevel(int refreshDivisor, int animationDivisor, double viewDistanceScale, boolean deferSends) {
+        this.refreshDivisor = refreshDivisor;
+        this.animationDivisor = animationDivisor;
+        this.viewDistanceScale = viewDistanceScale;
+        this.deferSends = deferSends;
+    }
+
+    /**
+     * @return Only every n-th run of a periodic refresh does any work
+     */
+    public int getRefreshDivisor() {
+        return refreshDivisor;
+    }
+
+    /**
+     * @return Animations advance every n-th tick, or 0 if they are paused
+     */
+    public int getAnimationDivisor() {
+        return animationDivisor;
+    }
+
+    /**
+     * @return Factor applied to hologram view and level-of-detail distances
+     */
+    public double getViewDistanceScale() {
+        return viewDistanceScale;
+    }
+
+    /**
+     * @return True if non-critical messages are queued until the server recovers
+     */
+    public boolean isDeferringSends() {
+        return deferSends;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yourusername.frostgui.scheduler;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Scheduler for Bukkit servers, where the main thread owns every region and entity
+ */
+public class BukkitFrostScheduler implements FrostScheduler {
+    private final JavaPlugin plugin;
+
+    /**
+     * Creates a new BukkitFrostScheduler
+     * 
+     * @param plugin The plugin owning the tasks
+     */
+    public BukkitFrostScheduler(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(plugin.getServer().getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(plugin.getServer().getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+
+    @Override
+    public void executeForEntity(Entity entity, Runnable task) {
+        if (plugin.getServer().isPrimaryThread()) {
+            task.run();
+            return;
+        }
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+            }
+        });
+    }
+
+    @Override
+    public void executeAtRegion(World world, int chunkX, int chunkZ, Runnable task) {
+        if (plugin.getServer().isPrimaryThread()) {
+            task.run();
+        } else {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        }
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return wrap(plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(World world, int chunkX, int chunkZ) {
+        return plugin.getServer().isPrimaryThread();
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return plugin.getServer().isPrimaryThread();
+    }
+
+    private static TaskHandle wrap(BukkitTask task) {
+        return new TaskHandle() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
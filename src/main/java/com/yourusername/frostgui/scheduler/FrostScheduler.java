@@ -0,0 +1,125 @@
+package com.yourusername.frostgui.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+/**
+ * Runs FrostGUI work on the right thread.
+ * <p>
+ * On Bukkit everything runs on the single main thread. Region-threaded forks instead
+ * tick every region of a world (a group of chunks) on its own thread, with one global
+ * thread for server-wide work. Entities may only be touched by the thread owning their
+ * region, and each entity follows its own scheduler when it moves between regions.
+ * <p>
+ * The execute methods run the task right away when the current thread already owns the
+ * target, so on Bukkit they cost nothing, and hand it over to the owning thread otherwise.
+ * Code touching entities can call the check methods, which only an implementation that
+ * verifies ownership acts upon.
+ */
+public interface FrostScheduler {
+
+    /**
+     * Runs a task repeatedly on the global thread
+     * 
+     * @param task        The task
+     * @param delayTicks  Ticks before the first run
+     * @param periodTicks Ticks between two runs
+     * @return Handle to cancel the task
+     */
+    TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a task once on the global thread
+     * 
+     * @param task       The task
+     * @param delayTicks Ticks before the task runs
+     * @return Handle to cancel the task
+     */
+    TaskHandle runGlobalLater(Runnable task, long delayTicks);
+
+    /**
+     * Runs a task on the thread owning an entity, now if the current thread owns it.
+     * The task is dropped if the entity is removed before it could run.
+     * 
+     * @param entity The entity, usually a player
+     * @param task   The task
+     */
+    void executeForEntity(Entity entity, Runnable task);
+
+    /**
+     * Runs a task on the thread owning a chunk, now if the current thread owns it
+     * 
+     * @param world  The world
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @param task   The task
+     */
+    void executeAtRegion(World world, int chunkX, int chunkZ, Runnable task);
+
+    /**
+     * Runs a task on the thread owning the chunk of a location, now if the current thread owns it
+     * 
+     * @param location The location
+     * @param task     The task
+     */
+    default void executeAt(Location location, Runnable task) {
+        executeAtRegion(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, task);
+    }
+
+    /**
+     * Runs a task off the server threads, for example file IO
+     * 
+     * @param task The task
+     * @return Handle to cancel the task if it has not started yet
+     */
+    TaskHandle runAsync(Runnable task);
+
+    /**
+     * Checks whether the current thread may touch a chunk and the entities in it
+     * 
+     * @param world  The world
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @return True if the current thread owns the chunk
+     */
+    boolean isOwnedByCurrentThread(World world, int chunkX, int chunkZ);
+
+    /**
+     * Checks whether the current thread may touch the chunk of a location
+     * 
+     * @param location The location
+     * @return True if the current thread owns the chunk
+     */
+    default boolean isOwnedByCurrentThread(Location location) {
+        return isOwnedByCurrentThread(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Checks whether the current thread may touch an entity
+     * 
+     * @param entity The entity
+     * @return True if the current thread owns the entity
+     */
+    boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * Reports a region-bound call made from a thread not owning the region
+     * 
+     * @param location Location the call touches
+     * @param action   Description of the call, used in the report
+     */
+    default void checkRegion(Location location, String action) {
+        // Only verifying schedulers report calls on the wrong thread
+    }
+
+    /**
+     * Reports an entity-bound call made from a thread not owning the entity
+     * 
+     * @param entity The entity the call touches
+     * @param action Description of the call, used in the report
+     */
+    default void checkEntity(Entity entity, String action) {
+        // Only verifying schedulers report calls on the wrong thread
+    }
+}
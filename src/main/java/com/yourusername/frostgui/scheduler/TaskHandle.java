@@ -0,0 +1,16 @@
+package com.yourusername.frostgui.scheduler;
+
+/**
+ * A scheduled task that can be cancelled
+ */
+public interface TaskHandle {
+    /**
+     * Stops the task, it will not run again
+     */
+    void cancel();
+
+    /**
+     * @return True if the task was cancelled
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,224 @@
+package com.yourusername.frostgui.scheduler;
+
+import com.yourusername.frostgui.metrics.Counter;
+import com.yourusername.frostgui.metrics.PluginMetrics;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scheduler that checks FrostGUI would be safe on a region-threaded server while
+ * running on a normal one.
+ * <p>
+ * Every task is tagged with the executor it was handed to (global, async, an entity or
+ * a region) and the tag is kept while the task runs. Region-bound calls made under a
+ * different tag are reported as violations: logged once per call site with a stack trace
+ * and counted in frostgui_scheduler_violations_total. Code outside any task is trusted,
+ * since those servers call event handlers on the thread owning the event's subject.
+ * Regions use a fixed grid of 16 by 16 chunks, the default region section size of such forks.
+ * <p>
+ * Enabled with settings.debug-mode; the bookkeeping is too expensive for production.
+ */
+public class VerifyingFrostScheduler implements FrostScheduler {
+    /** Chunks per region side, as a shift */
+    private static final int REGION_SHIFT = 4;
+    private static final Object GLOBAL = "global";
+    private static final Object ASYNC = "async";
+
+    /**
+     * A region of the fixed grid
+     */
+    private static final class Region {
+        private final UUID world;
+        private final int x;
+        private final int z;
+
+        private Region(World world, int chunkX, int chunkZ) {
+            this.world = world != null ? world.getUID() : null;
+            this.x = chunkX >> REGION_SHIFT;
+            this.z = chunkZ >> REGION_SHIFT;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Region)) {
+                return false;
+            }
+            Region region = (Region) other;
+            return x == region.x && z == region.z && Objects.equals(world, region.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, x, z);
+        }
+
+        @Override
+        public String toString() {
+            return "region " + x + "," + z;
+        }
+    }
+
+    /**
+     * An entity, owning the region it stood in when its task started
+     */
+    private static final class EntityOwner {
+        private final UUID entity;
+        private final Region region;
+
+        private EntityOwner(Entity entity) {
+            this.entity = entity.getUniqueId();
+            this.region = regionOf(entity.getLocation());
+        }
+
+        @Override
+        public String toString() {
+            return "entity " + entity + " in " + region;
+        }
+    }
+
+    private final FrostScheduler delegate;
+    private final Logger logger;
+    private final Counter violations;
+    private final Set<String> reported = new HashSet<>();
+    private final ThreadLocal<Deque<Object>> owners = ThreadLocal.withInitial(ArrayDeque::new);
+    private boolean failFast;
+
+    /**
+     * Creates a new VerifyingFrostScheduler
+     * 
+     * @param delegate Scheduler actually running the tasks
+     * @param logger   Logger receiving the violations
+     * @param metrics  Registry counting the violations
+     */
+    public VerifyingFrostScheduler(FrostScheduler delegate, Logger logger, PluginMetrics metrics) {
+        this.delegate = delegate;
+        this.logger = logger;
+        this.violations = metrics.counter("frostgui_scheduler_violations_total", 
+                "Region-bound calls made on the wrong executor");
+    }
+
+    /**
+     * Makes violations throw instead of being logged, for test runs
+     * 
+     * @param failFast True to throw an IllegalStateException on the first violation
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * @return Number of violations reported so far
+     */
+    public long getViolationCount() {
+        return violations.getTotal();
+    }
+
+    @Override
+    public TaskHandle runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return delegate.runGlobalTimer(tagged(GLOBAL, task), delayTicks, periodTicks);
+    }
+
+    @Override
+    public TaskHandle runGlobalLater(Runnable task, long delayTicks) {
+        return delegate.runGlobalLater(tagged(GLOBAL, task), delayTicks);
+    }
+
+    @Override
+    public void executeForEntity(Entity entity, Runnable task) {
+        // The owner is resolved when the task runs, the entity may have moved by then
+        delegate.executeForEntity(entity, () -> runAs(new EntityOwner(entity), task));
+    }
+
+    @Override
+    public void executeAtRegion(World world, int chunkX, int chunkZ, Runnable task) {
+        delegate.executeAtRegion(world, chunkX, chunkZ, tagged(new Region(world, chunkX, chunkZ), task));
+    }
+
+    @Override
+    public TaskHandle runAsync(Runnable task) {
+        return delegate.runAsync(tagged(ASYNC, task));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(World world, int chunkX, int chunkZ) {
+        Object owner = owners.get().peekFirst();
+        if (owner == null) {
+            return true;
+        }
+        Region region = new Region(world, chunkX, chunkZ);
+        return region.equals(owner) || (owner instanceof EntityOwner && region.equals(((EntityOwner) owner).region));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        Object owner = owners.get().peekFirst();
+        if (owner == null || owner instanceof EntityOwner && ((EntityOwner) owner).entity.equals(entity.getUniqueId())) {
+            return true;
+        }
+        // The thread owning a region owns every entity in it, and an entity's thread owns its region
+        Region region = regionOf(entity.getLocation());
+        return region.equals(owner) || (owner instanceof EntityOwner && region.equals(((EntityOwner) owner).region));
+    }
+
+    @Override
+    public void checkRegion(Location location, String action) {
+        if (!isOwnedByCurrentThread(location)) {
+            violation(action + " at " + regionOf(location));
+        }
+    }
+
+    @Override
+    public void checkEntity(Entity entity, String action) {
+        if (!isOwnedByCurrentThread(entity)) {
+            violation(action + " on entity " + entity.getUniqueId());
+        }
+    }
+
+    private void violation(String call) {
+        violations.increment();
+        Object owner = owners.get().peekFirst();
+        String message = "Region-bound call on the wrong executor: " + call 
+                + " from " + owner + " task";
+        if (failFast) {
+            throw new IllegalStateException(message);
+        }
+
+        // One stack trace per call site is enough to find it
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        String site = stack.length > 2 ? stack[2].toString() : call;
+        synchronized (reported) {
+            if (!reported.add(site)) {
+                return;
+            }
+        }
+        logger.log(Level.WARNING, message, new IllegalStateException("Called from here"));
+    }
+
+    private Runnable tagged(Object owner, Runnable task) {
+        return () -> runAs(owner, task);
+    }
+
+    private void runAs(Object owner, Runnable task) {
+        Deque<Object> stack = owners.get();
+        stack.addFirst(owner);
+        try {
+            task.run();
+        } finally {
+            stack.removeFirst();
+        }
+    }
+
+    private static Region regionOf(Location location) {
+        return new Region(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+}
@@ -0,0 +1,106 @@
+package com.yourusername.frostgui.benchmark;
+
+import com.yourusername.frostgui.FrostGUI;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * FrostGUI instance running against the stubbed server, with its own temporary data folder
+ */
+public class BenchmarkPlugin extends FrostGUI {
+
+    @SuppressWarnings("deprecation")
+    private BenchmarkPlugin(File dataFolder) {
+        super(new JavaPluginLoader(BukkitStubs.server()),
+                new PluginDescriptionFile("FrostGUI", "benchmark", FrostGUI.class.getName()),
+                dataFolder, new File(dataFolder, "FrostGUI.jar"));
+    }
+
+    /**
+     * Creates a plugin with an empty data folder
+     *
+     * @return The plugin
+     * @throws IOException If the data folder could not be created
+     */
+    public static BenchmarkPlugin create() throws IOException {
+        return new BenchmarkPlugin(Files.createTempDirectory("frostgui-benchmark").toFile());
+    }
+
+    /**
+     * Registers the commands from plugin.yml and enables the plugin like the server would
+     *
+     * @throws IOException If plugin.yml could not be read
+     */
+    public void enable() throws IOException {
+        try (InputStream in = getResource("plugin.yml")) {
+            if (in == null) {
+                throw new IOException("plugin.yml is not on the classpath");
+            }
+            YamlConfiguration description = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+            ConfigurationSection commands = description.getConfigurationSection("commands");
+            if (commands != null) {
+                for (String name : commands.getKeys(false)) {
+                    BukkitStubs.registerCommand(this, name);
+                }
+            }
+        }
+        setEnabled(true);
+    }
+
+    /**
+     * Disables the plugin like the server would on shutdown
+     */
+    public void disable() {
+        setEnabled(false);
+    }
+
+    /**
+     * Writes a holograms.yml with the given number of holograms spread over a grid
+     *
+     * @param count     Number of holograms
+     * @param worldName World the holograms are placed in
+     * @throws IOException If the file could not be written
+     */
+    public void writeHolograms(int count, String worldName) throws IOException {
+        BukkitStubs.world(worldName);
+        YamlConfiguration config = new YamlConfiguration();
+        int side = (int) Math.ceil(Math.sqrt(count));
+        for (int i = 0; i < count; i++) {
+            String path = "holograms.holo-" + i;
+            config.set(path + ".world", worldName);
+            config.set(path + ".x", (i % side) * 4.0 + 0.5);
+            config.set(path + ".y", 70.0);
+            config.set(path + ".z", (i / side) * 4.0 + 0.5);
+            config.set(path + ".lines", Arrays.asList("&b&lHologram " + i, "&7Second line", "&eThird line"));
+        }
+        getDataFolder().mkdirs();
+        config.save(new File(getDataFolder(), "holograms.yml"));
+    }
+
+    /**
+     * Deletes the data folder of the plugin
+     */
+    public void deleteDataFolder() {
+        delete(getDataFolder());
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
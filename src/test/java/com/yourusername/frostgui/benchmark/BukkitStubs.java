@@ -0,0 +1,495 @@
+package com.yourusername.frostgui.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Minimal Bukkit API implemented with dynamic proxies, just enough to drive FrostGUI
+ * code outside of a server.
+ * <p>
+ * Every interface method that is not answered explicitly returns the default value of
+ * its return type, so calls like setCustomName or hideEntity are cheap no-ops.
+ */
+public final class BukkitStubs {
+
+    /**
+     * Answers a call on a stubbed interface
+     */
+    @FunctionalInterface
+    public interface Answer {
+        /**
+         * @param method Name of the called method
+         * @param args   Arguments of the call, never null
+         * @return The result, or null for the default value of the return type
+         */
+        Object answer(String method, Object[] args) throws Throwable;
+    }
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final Logger LOGGER = Logger.getLogger("FrostGUI-Benchmark");
+    private static final List<Player> ONLINE_PLAYERS = new ArrayList<>();
+    private static final Map<String, World> WORLDS = new HashMap<>();
+    private static final Map<String, PluginCommand> COMMANDS = new HashMap<>();
+    private static final AtomicInteger LIVE_ENTITIES = new AtomicInteger();
+    private static final EventDispatcher EVENTS = new EventDispatcher();
+    private static TickScheduler scheduler;
+    private static Server server;
+
+    private BukkitStubs() {
+    }
+
+    /**
+     * Creates a proxy implementing an interface
+     *
+     * @param type   The interface
+     * @param answer Answers the calls, unanswered calls return defaults
+     * @return The proxy
+     */
+    public static <T> T stub(Class<T> type, Answer answer) {
+        Object proxy = Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[] {type},
+                (self, method, args) -> invoke(type, self, method, args != null ? args : NO_ARGS, answer));
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Class<?> type, Object self, Method method, Object[] args, Answer answer) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                default:
+                    return type.getSimpleName() + "Stub";
+            }
+        }
+
+        Object result = answer.answer(method.getName(), args);
+        return result != null ? result : defaultValue(method.getReturnType());
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the stubbed server, installing it as the Bukkit singleton on first use
+     *
+     * @return The server
+     */
+    public static synchronized Server server() {
+        if (server != null) {
+            return server;
+        }
+
+        scheduler = new TickScheduler();
+        PluginManager pluginManager = stub(PluginManager.class, (method, args) -> {
+            switch (method) {
+                case "registerEvents":
+                    EVENTS.register((Listener) args[0]);
+                    return null;
+                case "callEvent":
+                    EVENTS.call((Event) args[0]);
+                    return null;
+                default:
+                    return null;
+            }
+        });
+        ItemFactory itemFactory = stub(ItemFactory.class, (method, args) -> {
+            switch (method) {
+                case "getItemMeta":
+                    return itemMeta();
+                case "isApplicable":
+                    return true;
+                case "asMetaFor":
+                    return args[0];
+                case "updateMaterial":
+                    return args[1];
+                case "equals":
+                    return args[0] == args[1];
+                default:
+                    return null;
+            }
+        });
+        ConsoleCommandSender console = stub(ConsoleCommandSender.class, (method, args) -> {
+            switch (method) {
+                case "getName":
+                    return "CONSOLE";
+                case "hasPermission":
+                case "isOp":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+
+        server = stub(Server.class, (method, args) -> {
+            switch (method) {
+                case "getOnlinePlayers":
+                    return Collections.unmodifiableList(ONLINE_PLAYERS);
+                case "getWorld":
+                    if (args[0] instanceof String) {
+                        return WORLDS.get(args[0]);
+                    }
+                    for (World world : WORLDS.values()) {
+                        if (world.getUID().equals(args[0])) {
+                            return world;
+                        }
+                    }
+                    return null;
+                case "getWorlds":
+                    return new ArrayList<>(WORLDS.values());
+                case "getPlayer":
+                case "getPlayerExact":
+                    for (Player player : ONLINE_PLAYERS) {
+                        if (args[0].equals(player.getUniqueId()) || args[0].equals(player.getName())) {
+                            return player;
+                        }
+                    }
+                    return null;
+                case "getLogger":
+                    return LOGGER;
+                case "getScheduler":
+                    return scheduler.asBukkitScheduler();
+                case "getPluginManager":
+                    return pluginManager;
+                case "getItemFactory":
+                    return itemFactory;
+                case "getConsoleSender":
+                    return console;
+                case "getPluginCommand":
+                    return COMMANDS.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                case "dispatchCommand":
+                    return dispatch((CommandSender) args[0], (String) args[1]);
+                case "isPrimaryThread":
+                    return true;
+                case "getName":
+                    return "BenchmarkServer";
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "1.21.5-R0.1-SNAPSHOT";
+                default:
+                    return null;
+            }
+        });
+        Bukkit.setServer(server);
+        return server;
+    }
+
+    /**
+     * Gets the scheduler of the stubbed server, whose sync tasks only run when ticked
+     *
+     * @return The scheduler
+     */
+    public static TickScheduler scheduler() {
+        server();
+        return scheduler;
+    }
+
+    /**
+     * Gets the listeners registered through the stubbed plugin manager
+     *
+     * @return The event dispatcher
+     */
+    public static EventDispatcher events() {
+        return EVENTS;
+    }
+
+    /**
+     * Registers a command owned by a plugin, as if it was declared in its plugin.yml
+     *
+     * @param plugin The owning plugin
+     * @param name   Name of the command
+     * @return The command
+     */
+    public static synchronized PluginCommand registerCommand(Plugin plugin, String name) {
+        try {
+            // PluginCommand is normally only created by the server while loading plugin.yml
+            Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+            constructor.setAccessible(true);
+            PluginCommand command = constructor.newInstance(name, plugin);
+            COMMANDS.put(name.toLowerCase(Locale.ROOT), command);
+            COMMANDS.put(plugin.getName().toLowerCase(Locale.ROOT) + ":" + name.toLowerCase(Locale.ROOT), command);
+            return command;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create command " + name, e);
+        }
+    }
+
+    /**
+     * Runs a command line as if the sender typed it
+     *
+     * @param sender The sender
+     * @param line   The command line without the leading slash
+     * @return False if the command is unknown
+     */
+    public static boolean dispatch(CommandSender sender, String line) {
+        String[] parts = line.trim().split(" +");
+        PluginCommand command = COMMANDS.get(parts[0].toLowerCase(Locale.ROOT));
+        if (command == null) {
+            return false;
+        }
+        command.execute(sender, parts[0], Arrays.copyOfRange(parts, 1, parts.length));
+        return true;
+    }
+
+    /**
+     * @return Number of armor stands spawned in a world and not removed yet
+     */
+    public static int getLiveEntityCount() {
+        return LIVE_ENTITIES.get();
+    }
+
+    /**
+     * Replaces the online players
+     *
+     * @param players The players to report as online
+     */
+    public static synchronized void setOnlinePlayers(List<Player> players) {
+        ONLINE_PLAYERS.clear();
+        ONLINE_PLAYERS.addAll(players);
+    }
+
+    /**
+     * Adds a player to the online players
+     *
+     * @param player The player
+     */
+    public static synchronized void addOnlinePlayer(Player player) {
+        ONLINE_PLAYERS.add(player);
+    }
+
+    /**
+     * Gets or creates a world
+     *
+     * @param name Name of the world
+     * @return The world
+     */
+    public static synchronized World world(String name) {
+        return WORLDS.computeIfAbsent(name, worldName -> {
+            UUID uid = UUID.nameUUIDFromBytes(worldName.getBytes(StandardCharsets.UTF_8));
+            World[] self = new World[1];
+            self[0] = stub(World.class, (method, args) -> {
+                switch (method) {
+                    case "getName":
+                        return worldName;
+                    case "getUID":
+                        return uid;
+                    case "getPlayers": {
+                        List<Player> players = new ArrayList<>();
+                        for (Player player : ONLINE_PLAYERS) {
+                            if (player.getWorld() == self[0]) {
+                                players.add(player);
+                            }
+                        }
+                        return players;
+                    }
+                    case "spawnEntity":
+                        return armorStand((Location) args[0]);
+                    default:
+                        return null;
+                }
+            });
+            return self[0];
+        });
+    }
+
+    /**
+     * Creates a player standing at a location
+     *
+     * @param name  Name of the player
+     * @param world World of the player
+     * @param x     X coordinate
+     * @param y     Y coordinate
+     * @param z     Z coordinate
+     * @return The player
+     */
+    public static Player player(String name, World world, double x, double y, double z) {
+        UUID uuid = UUID.nameUUIDFromBytes(("player:" + name).getBytes(StandardCharsets.UTF_8));
+        Location[] location = {new Location(world, x, y, z)};
+        Player[] self = new Player[1];
+        self[0] = stub(Player.class, (method, args) -> {
+            switch (method) {
+                case "getName":
+                case "getDisplayName":
+                    return name;
+                case "getUniqueId":
+                    return uuid;
+                case "getWorld":
+                    return location[0].getWorld();
+                case "getLocation":
+                    if (args.length == 1 && args[0] != null) {
+                        // getLocation(Location) fills the caller's instance
+                        Location target = (Location) args[0];
+                        target.setWorld(location[0].getWorld());
+                        target.setX(location[0].getX());
+                        target.setY(location[0].getY());
+                        target.setZ(location[0].getZ());
+                        target.setYaw(location[0].getYaw());
+                        target.setPitch(location[0].getPitch());
+                        return target;
+                    }
+                    return location[0].clone();
+                case "getEyeLocation":
+                    return location[0].clone().add(0, 1.62, 0);
+                case "teleport":
+                    location[0] = args[0] instanceof Location ? ((Location) args[0]).clone() : location[0];
+                    return true;
+                case "performCommand":
+                    return dispatch(self[0], (String) args[0]);
+                case "hasPermission":
+                case "isOnline":
+                case "canSee":
+                case "isOp":
+                    return true;
+                case "getServer":
+                    return server();
+                default:
+                    return null;
+            }
+        });
+        return self[0];
+    }
+
+    /**
+     * Creates an armor stand with a working persistent data container that is not in any world
+     *
+     * @return The armor stand
+     */
+    public static ArmorStand armorStand() {
+        return armorStand(null);
+    }
+
+    /**
+     * Creates an armor stand that counts as live until it is removed
+     *
+     * @param spawnLocation Location of the armor stand, may be null
+     * @return The armor stand
+     */
+    public static ArmorStand armorStand(Location spawnLocation) {
+        // Callers keep moving the location they spawned at, so the stand keeps its own copy
+        Location location = spawnLocation != null ? spawnLocation.clone() : null;
+        PersistentDataContainer container = persistentDataContainer();
+        UUID uuid = UUID.randomUUID();
+        boolean[] dead = new boolean[1];
+        if (location != null) {
+            LIVE_ENTITIES.incrementAndGet();
+        }
+        return stub(ArmorStand.class, (method, args) -> {
+            switch (method) {
+                case "getPersistentDataContainer":
+                    return container;
+                case "getUniqueId":
+                    return uuid;
+                case "getLocation":
+                    return location != null ? location.clone() : null;
+                case "getWorld":
+                    return location != null ? location.getWorld() : null;
+                case "teleport":
+                    if (location != null && args[0] instanceof Location) {
+                        Location target = (Location) args[0];
+                        location.setX(target.getX());
+                        location.setY(target.getY());
+                        location.setZ(target.getZ());
+                    }
+                    return true;
+                case "remove":
+                    if (!dead[0] && location != null) {
+                        LIVE_ENTITIES.decrementAndGet();
+                    }
+                    dead[0] = true;
+                    return null;
+                case "isDead":
+                    return dead[0];
+                case "isValid":
+                    return !dead[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static ItemMeta itemMeta() {
+        return stub(ItemMeta.class, (method, args) -> "clone".equals(method) ? itemMeta() : null);
+    }
+
+    /**
+     * Creates a persistent data container backed by a map
+     *
+     * @return The container
+     */
+    public static PersistentDataContainer persistentDataContainer() {
+        Map<NamespacedKey, Object> values = new HashMap<>();
+        return stub(PersistentDataContainer.class, (method, args) -> {
+            switch (method) {
+                case "set":
+                    values.put((NamespacedKey) args[0], args[2]);
+                    return null;
+                case "has":
+                    return values.containsKey(args[0]);
+                case "get":
+                    return values.get(args[0]);
+                case "remove":
+                    values.remove(args[0]);
+                    return null;
+                case "isEmpty":
+                    return values.isEmpty();
+                default:
+                    return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourusername.frostgui.benchmark;
+
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calls the {@link EventHandler} methods of registered listeners in priority order,
+ * standing in for the server's plugin manager
+ */
+public final class EventDispatcher {
+    private final List<Handler> handlers = new ArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlersByEvent = new ConcurrentHashMap<>();
+
+    private static final class Handler {
+        private final Listener listener;
+        private final Method method;
+        private final EventHandler annotation;
+
+        private Handler(Listener listener, Method method, EventHandler annotation) {
+            this.listener = listener;
+            this.method = method;
+            this.annotation = annotation;
+        }
+    }
+
+    /**
+     * Registers every event handler method of a listener
+     *
+     * @param listener The listener
+     */
+    public synchronized void register(Listener listener) {
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.getParameterCount() != 1
+                    || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            method.setAccessible(true);
+            handlers.add(new Handler(listener, method, annotation));
+        }
+        handlersByEvent.clear();
+    }
+
+    /**
+     * Removes every registered listener
+     */
+    public synchronized void clear() {
+        handlers.clear();
+        handlersByEvent.clear();
+    }
+
+    /**
+     * Passes an event to every handler accepting it
+     *
+     * @param event The event
+     */
+    public void call(Event event) {
+        for (Handler handler : handlersByEvent.computeIfAbsent(event.getClass(), this::findHandlers)) {
+            if (handler.annotation.ignoreCancelled() && event instanceof Cancellable
+                    && ((Cancellable) event).isCancelled()) {
+                continue;
+            }
+            try {
+                handler.method.invoke(handler.listener, event);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Handler " + handler.method + " failed", e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private synchronized List<Handler> findHandlers(Class<?> eventType) {
+        List<Handler> matching = new ArrayList<>();
+        for (Handler handler : handlers) {
+            if (handler.method.getParameterTypes()[0].isAssignableFrom(eventType)) {
+                matching.add(handler);
+            }
+        }
+        matching.sort(Comparator.comparingInt(handler -> handler.annotation.priority().getSlot()));
+        return matching;
+    }
+}
@@ -0,0 +1,190 @@
+package com.yourusername.frostgui.benchmark;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Scheduler of the stubbed server. Sync tasks only run when the harness calls
+ * {@link #tick()}, async tasks run on a background thread right away.
+ */
+public final class TickScheduler {
+    private final PriorityQueue<Task> queue = new PriorityQueue<>((a, b) ->
+            a.nextRun != b.nextRun ? Long.compare(a.nextRun, b.nextRun) : Integer.compare(a.id, b.id));
+    private final Map<Integer, Task> tasks = new HashMap<>();
+    private final ExecutorService async = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FrostGUI-Benchmark-Async");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final BukkitScheduler scheduler = BukkitStubs.stub(BukkitScheduler.class, this::answer);
+    private long currentTick;
+    private int nextId = 1;
+
+    private final class Task {
+        private final int id;
+        private final Plugin owner;
+        private final Object body;
+        private final long period;
+        private final boolean sync;
+        private final BukkitTask handle;
+        private long nextRun;
+        private boolean cancelled;
+
+        private Task(Plugin owner, Object body, long delay, long period, boolean sync) {
+            this.id = nextId++;
+            this.owner = owner;
+            this.body = body;
+            this.period = period;
+            this.sync = sync;
+            this.nextRun = currentTick + Math.max(0, delay);
+            this.handle = BukkitStubs.stub(BukkitTask.class, (method, args) -> {
+                switch (method) {
+                    case "getTaskId":
+                        return id;
+                    case "getOwner":
+                        return owner;
+                    case "isSync":
+                        return sync;
+                    case "isCancelled":
+                        return cancelled;
+                    case "cancel":
+                        cancel(id);
+                        return null;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private void run() {
+            if (body instanceof Runnable) {
+                ((Runnable) body).run();
+            } else {
+                ((Consumer<BukkitTask>) body).accept(handle);
+            }
+        }
+    }
+
+    /**
+     * @return The Bukkit view of this scheduler
+     */
+    public BukkitScheduler asBukkitScheduler() {
+        return scheduler;
+    }
+
+    private Object answer(String method, Object[] args) {
+        switch (method) {
+            case "runTask":
+                return schedule(args, 0, -1, true).handle;
+            case "runTaskLater":
+                return schedule(args, (Long) args[2], -1, true).handle;
+            case "runTaskTimer":
+                return schedule(args, (Long) args[2], Math.max(1, (Long) args[3]), true).handle;
+            case "scheduleSyncDelayedTask":
+                return schedule(args, args.length > 2 ? (Long) args[2] : 0, -1, true).id;
+            case "scheduleSyncRepeatingTask":
+                return schedule(args, (Long) args[2], Math.max(1, (Long) args[3]), true).id;
+            case "runTaskAsynchronously":
+            case "runTaskLaterAsynchronously":
+            case "runTaskTimerAsynchronously": {
+                // Async work never blocks the simulated main thread, so delays are ignored
+                Task task = new Task((Plugin) args[0], args[1], 0, -1, false);
+                async.execute(task::run);
+                return task.handle;
+            }
+            case "cancelTask":
+                cancel((Integer) args[0]);
+                return null;
+            case "cancelTasks":
+                for (Task task : new ArrayList<>(tasks.values())) {
+                    if (task.owner == args[0]) {
+                        cancel(task.id);
+                    }
+                }
+                return null;
+            case "isQueued":
+            case "isCurrentlyRunning":
+                return tasks.containsKey((Integer) args[0]);
+            default:
+                return null;
+        }
+    }
+
+    private Task schedule(Object[] args, long delay, long period, boolean sync) {
+        Task task = new Task((Plugin) args[0], args[1], delay, period, sync);
+        tasks.put(task.id, task);
+        queue.add(task);
+        return task;
+    }
+
+    private void cancel(int id) {
+        Task task = tasks.remove(id);
+        if (task != null) {
+            task.cancelled = true;
+        }
+    }
+
+    /**
+     * Advances one server tick and runs every sync task that became due. Tasks scheduled
+     * while ticking run on the next tick at the earliest, like on a real server.
+     */
+    public void tick() {
+        currentTick++;
+        List<Task> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().nextRun <= currentTick) {
+            due.add(queue.poll());
+        }
+
+        for (Task task : due) {
+            if (task.cancelled) {
+                continue;
+            }
+            task.run();
+            if (task.period > 0 && !task.cancelled) {
+                task.nextRun = currentTick + task.period;
+                queue.add(task);
+            } else {
+                tasks.remove(task.id);
+            }
+        }
+    }
+
+    /**
+     * @return Number of ticks run so far
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return Number of sync tasks waiting to run
+     */
+    public int getPendingCount() {
+        return tasks.size();
+    }
+
+    /**
+     * Waits for the async tasks submitted so far, such as file writes
+     *
+     * @param timeoutMillis Maximum time to wait
+     */
+    public void awaitAsync(long timeoutMillis) {
+        try {
+            async.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Async tasks did not finish in time", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.yourusername.frostgui.hologram;
+
+import com.yourusername.frostgui.benchmark.BenchmarkPlugin;
+import com.yourusername.frostgui.benchmark.BukkitStubs;
+import com.yourusername.frostgui.metrics.PluginMetrics;
+import com.yourusername.frostgui.scheduler.BukkitFrostScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Viewers walking between the full and the summary tier of LOD holograms, with the default
+ * hysteresis of 4 blocks around a LOD distance of 20
+ */
+public class HologramViewTrackerTest {
+
+    private static final double LOD_DISTANCE = 20;
+
+    private BenchmarkPlugin plugin;
+    private World world;
+    private HologramSpatialIndex spatialIndex;
+    private HologramViewTracker tracker;
+    private Hologram hologram;
+    private Player player;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        plugin = BenchmarkPlugin.create();
+        world = BukkitStubs.world("lod-world");
+        spatialIndex = new HologramSpatialIndex(plugin);
+        tracker = new HologramViewTracker(plugin, new PluginMetrics().getGovernor(), new BukkitFrostScheduler(plugin), spatialIndex);
+        hologram = addHologram("lod", 0.5, 0.5);
+        player = BukkitStubs.player("viewer", world, 10.5, 70, 0.5);
+        tracker.evaluate(player, player.getLocation());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        plugin.deleteDataFolder();
+    }
+
+    @Test
+    public void keepsTierInsideHysteresisBand() {
+        assertFalse(hologram.isViewerFar(player.getUniqueId()), "10 blocks away is the full tier");
+
+        // Past the LOD distance but inside the band, the full tier is kept
+        moveTo(LOD_DISTANCE + 2);
+        assertFalse(hologram.isViewerFar(player.getUniqueId()), "22 blocks away is still inside the band");
+
+        moveTo(LOD_DISTANCE + 5);
+        assertTrue(hologram.isViewerFar(player.getUniqueId()), "25 blocks away is past the band");
+
+        // Walking back inside the LOD distance keeps the summary until the inner edge of the band
+        moveTo(LOD_DISTANCE - 2);
+        assertTrue(hologram.isViewerFar(player.getUniqueId()), "18 blocks away is still inside the band");
+
+        moveTo(LOD_DISTANCE - 5);
+        assertFalse(hologram.isViewerFar(player.getUniqueId()), "15 blocks away is past the band");
+    }
+
+    @Test
+    public void doesNotFlapOnTheBorder() {
+        moveTo(LOD_DISTANCE + 5);
+        assertTrue(hologram.isViewerFar(player.getUniqueId()));
+
+        // Pacing up and down across the LOD distance never leaves the band
+        for (int i = 0; i < 10; i++) {
+            moveTo(i % 2 == 0 ? LOD_DISTANCE - 3 : LOD_DISTANCE + 3);
+            assertTrue(hologram.isViewerFar(player.getUniqueId()), "Flapped to the full tier on step " + i);
+        }
+    }
+
+    @Test
+    public void ignoresMovesBelowThreshold() {
+        moveTo(LOD_DISTANCE + 3.9);
+        assertFalse(hologram.isViewerFar(player.getUniqueId()));
+
+        // One block further is past the band, but too short a move to be evaluated
+        player.teleport(new Location(world, LOD_DISTANCE + 4.9 + 0.5, 70, 0.5));
+        tracker.handleMove(player, player.getLocation());
+        assertFalse(hologram.isViewerFar(player.getUniqueId()), "A move of 1 block was evaluated");
+    }
+
+    @Test
+    public void teleportFarAwaySwitchesToSummary() {
+        assertFalse(hologram.isViewerFar(player.getUniqueId()));
+
+        // The hologram drops out of the search radius and is switched without being found by it
+        moveTo(500);
+        assertTrue(hologram.isViewerFar(player.getUniqueId()), "A hologram left behind kept the full tier");
+
+        moveTo(10);
+        assertFalse(hologram.isViewerFar(player.getUniqueId()), "Coming back did not restore the full tier");
+    }
+
+    @Test
+    public void joinPlacesDistantViewersInSummary() {
+        Hologram distant = addHologram("distant", 300.5, 0.5);
+        Player joining = BukkitStubs.player("joining", world, 250.5, 70, 0.5);
+        tracker.evaluate(joining, joining.getLocation());
+
+        assertTrue(hologram.isViewerFar(joining.getUniqueId()), "250 blocks away is the summary tier");
+        assertTrue(distant.isViewerFar(joining.getUniqueId()), "50 blocks away is the summary tier");
+        assertEquals(2, tracker.getTrackedCount());
+    }
+
+    @Test
+    public void resolveFarUsesBandEdges() {
+        double hysteresis = 4;
+        assertFalse(HologramViewTracker.resolveFar(false, 23.9 * 23.9, LOD_DISTANCE, hysteresis));
+        assertTrue(HologramViewTracker.resolveFar(false, 24.1 * 24.1, LOD_DISTANCE, hysteresis));
+        assertTrue(HologramViewTracker.resolveFar(true, 16.1 * 16.1, LOD_DISTANCE, hysteresis));
+        assertFalse(HologramViewTracker.resolveFar(true, 15.9 * 15.9, LOD_DISTANCE, hysteresis));
+    }
+
+    private Hologram addHologram(String id, double x, double z) {
+        Hologram created = new Hologram(plugin, id, new Location(world, x, 70, z), Arrays.asList("&bFull detail", "&7Second line"));
+        created.setLod(LOD_DISTANCE, "&7Summary");
+        spatialIndex.update(created);
+        tracker.update(created);
+        return created;
+    }
+
+    /**
+     * Moves the player along the X axis to a distance from the hologram
+     */
+    private void moveTo(double distance) {
+        player.teleport(new Location(world, hologram.getX() + distance, 70, hologram.getZ()));
+        tracker.handleMove(player, player.getLocation());
+    }
+}